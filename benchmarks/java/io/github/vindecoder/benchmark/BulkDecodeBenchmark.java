@@ -0,0 +1,74 @@
+package io.github.vindecoder.benchmark;
+
+import io.github.vindecoder.nhtsa.VehicleData;
+import io.github.vindecoder.offline.OfflineVINDecoder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Scaling of OfflineVINDecoder.decodeAll with the number of fork/join workers.
+ * Scores are VINs per second; threads=1 is the sequential path.
+ *
+ * Run with e.g. -p threads=1,2,4,8,16 to cover the machine's cores.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BulkDecodeBenchmark {
+
+    private static final int SIZE = 100_000;
+
+    @Param({"1", "2", "4", "8"})
+    public int threads;
+
+    private OfflineVINDecoder decoder;
+    private String[] vins;
+    private ForkJoinPool pool;
+
+    @Setup
+    public void setUp() {
+        decoder = new OfflineVINDecoder();
+        vins = VinCorpus.load(VinCorpus.MIXED, SIZE);
+        pool = threads == 1 ? null : new ForkJoinPool(threads);
+    }
+
+    @TearDown
+    public void tearDown() {
+        if (pool != null) {
+            pool.shutdown();
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public VehicleData[] decodeAll() {
+        return decoder.decodeAll(vins, pool);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public Object[] decodeAllParallelStream() throws Exception {
+        if (pool == null) {
+            return decoder.decodeAll(Arrays.stream(vins)).toArray();
+        }
+        return pool.submit(() -> decoder.decodeAll(Arrays.stream(vins).parallel()).toArray()).get();
+    }
+}
@@ -0,0 +1,121 @@
+package io.github.vindecoder.benchmark;
+
+import io.github.vindecoder.nhtsa.VehicleData;
+import io.github.vindecoder.offline.FordDecoder;
+import io.github.vindecoder.offline.GMDecoder;
+import io.github.vindecoder.offline.ManufacturerDecoder;
+import io.github.vindecoder.offline.ManufacturerDecoders;
+import io.github.vindecoder.offline.MercedesBenzDecoder;
+import io.github.vindecoder.offline.OfflineVINDecoder;
+import io.github.vindecoder.offline.ToyotaDecoder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for the manufacturer-specific decoders, each fed VINs carrying
+ * its own WMIs. The offline* variants run the full OfflineVINDecoder.decode on
+ * the same VINs; compare their gc.alloc.rate.norm (B/op) to see what the
+ * manufacturer step allocates.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ManufacturerDecoderBenchmark {
+
+    @Param({"4096"})
+    public int size;
+
+    private String[] gmVins;
+    private String[] fordVins;
+    private String[] toyotaVins;
+    private String[] mercedesVins;
+    private String[] mixedVins;
+    private OfflineVINDecoder decoder;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        decoder = new OfflineVINDecoder();
+        gmVins = VinCorpus.forWmis(size, 1L, "1G1", "1GC", "1GT", "1GY", "2G1", "3GN");
+        fordVins = VinCorpus.forWmis(size, 2L, "1FT", "1FA", "1FM", "2FM", "3FA");
+        toyotaVins = VinCorpus.forWmis(size, 3L, "4T1", "5TD", "JTD", "JTH", "2T1");
+        mercedesVins = VinCorpus.forWmis(size, 4L, "4JG", "WDD", "WDB", "WDC");
+        mixedVins = VinCorpus.forWmis(size, 5L, "1G1", "1FT", "JTD", "WDD", "1HG", "WBA", "KNA", "5YJ");
+    }
+
+    private int next() {
+        int index = cursor;
+        cursor = (cursor + 1) % size;
+        return index;
+    }
+
+    @Benchmark
+    public VehicleData gm() {
+        VehicleData vehicleData = new VehicleData();
+        GMDecoder.decode(gmVins[next()], vehicleData);
+        return vehicleData;
+    }
+
+    @Benchmark
+    public VehicleData ford() {
+        VehicleData vehicleData = new VehicleData();
+        FordDecoder.decode(fordVins[next()], vehicleData);
+        return vehicleData;
+    }
+
+    @Benchmark
+    public VehicleData toyota() {
+        VehicleData vehicleData = new VehicleData();
+        ToyotaDecoder.decode(toyotaVins[next()], vehicleData);
+        return vehicleData;
+    }
+
+    @Benchmark
+    public VehicleData mercedes() {
+        VehicleData vehicleData = new VehicleData();
+        MercedesBenzDecoder.decode(mercedesVins[next()], vehicleData);
+        return vehicleData;
+    }
+
+    @Benchmark
+    public VehicleData offlineGm() {
+        return decoder.decode(gmVins[next()]);
+    }
+
+    @Benchmark
+    public VehicleData offlineFord() {
+        return decoder.decode(fordVins[next()]);
+    }
+
+    @Benchmark
+    public VehicleData offlineToyota() {
+        return decoder.decode(toyotaVins[next()]);
+    }
+
+    @Benchmark
+    public VehicleData offlineMercedes() {
+        return decoder.decode(mercedesVins[next()]);
+    }
+
+    /**
+     * WMI dispatch alone: which decoder, if any, handles the VIN
+     */
+    @Benchmark
+    public ManufacturerDecoder route() {
+        return ManufacturerDecoders.builtIn().find(mixedVins[next()]);
+    }
+}
@@ -0,0 +1,116 @@
+package io.github.vindecoder.benchmark;
+
+import io.github.vindecoder.nhtsa.VehicleData;
+import io.github.vindecoder.offline.DecodeResult;
+import io.github.vindecoder.offline.OfflineVINDecoder;
+import io.github.vindecoder.offline.VINValidator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * End-to-end benchmarks for OfflineVINDecoder.decode and decodeInto, VINValidator.isValidVIN
+ * and VINValidator.getModelYear
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class OfflineDecoderBenchmark {
+
+    @Param({VinCorpus.CORPUS, VinCorpus.NORTH_AMERICA, VinCorpus.EUROPE, VinCorpus.ASIA, VinCorpus.MIXED})
+    public String mix;
+
+    @Param({"4096"})
+    public int size;
+
+    private OfflineVINDecoder decoder;
+    private String[] vins;
+    private byte[][] vinBytes;
+    /** All VINs back to back, one per 17 bytes */
+    private byte[] vinBlock;
+    private int[] years;
+    private DecodeResult result;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        decoder = new OfflineVINDecoder();
+        vins = VinCorpus.load(mix, size);
+        vinBytes = new byte[vins.length][];
+        for (int i = 0; i < vins.length; i++) {
+            vinBytes[i] = vins[i].getBytes(StandardCharsets.US_ASCII);
+        }
+        vinBlock = String.join("", vins).getBytes(StandardCharsets.US_ASCII);
+        years = new int[vins.length];
+        result = new DecodeResult();
+    }
+
+    private int next() {
+        int index = cursor;
+        if (++cursor == vins.length) {
+            cursor = 0;
+        }
+        return index;
+    }
+
+    @Benchmark
+    public VehicleData decode() {
+        return decoder.decode(vins[next()]);
+    }
+
+    /**
+     * Decodes into one reused result; expected to allocate ~0 B/op
+     */
+    @Benchmark
+    public DecodeResult decodeInto() {
+        return decoder.decodeInto(vins[next()], result);
+    }
+
+    @Benchmark
+    public VehicleData decodeBytes() {
+        return decoder.decode(vinBytes[next()], 0);
+    }
+
+    @Benchmark
+    public boolean isValidVIN() {
+        return VINValidator.isValidVIN(vins[next()]);
+    }
+
+    @Benchmark
+    public boolean isValidVINBytes() {
+        return VINValidator.isValidVIN(vinBytes[next()], 0);
+    }
+
+    @Benchmark
+    public Integer modelYear() {
+        return VINValidator.getModelYear(vins[next()]);
+    }
+
+    @Benchmark
+    public int modelYearPrimitive() {
+        return VINValidator.getModelYear(vins[next()], 0);
+    }
+
+    /**
+     * Model years of the whole corpus per operation
+     */
+    @Benchmark
+    public int[] modelYearsBulk() {
+        VINValidator.getModelYears(vinBlock, 0, 17, years, years.length);
+        return years;
+    }
+}
@@ -0,0 +1,56 @@
+package io.github.vindecoder.benchmark;
+
+import io.github.vindecoder.nhtsa.VehicleData;
+import io.github.vindecoder.offline.OfflineVINDecoder;
+import io.github.vindecoder.offline.WMIDatabase;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cold-start cost: each fork is a fresh JVM and each benchmark measures only
+ * the first call, including class loading and table construction.
+ *
+ * Nothing in this class touches the library outside the measured method, so
+ * the tables are guaranteed to be unbuilt when the call starts.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(20)
+public class StartupBenchmark {
+
+    private static final String FORD_VIN = "1FTFW1ET9DFC10312";
+    private static final String TESLA_VIN = "5YJ3E1EAXJF037274";
+
+    /** Validation only - should not build any WMI or manufacturer table */
+    @Benchmark
+    public boolean firstValidate() {
+        return new OfflineVINDecoder().validate(FORD_VIN);
+    }
+
+    /** WMI lookup only - builds the WMI table */
+    @Benchmark
+    public String firstManufacturerLookup() {
+        return new WMIDatabase().getManufacturer(FORD_VIN, 0);
+    }
+
+    /** Full decode for a make without a specific decoder */
+    @Benchmark
+    public VehicleData firstDecode() {
+        return new OfflineVINDecoder().decode(TESLA_VIN);
+    }
+
+    /** Full decode that also builds the Ford decoder tables */
+    @Benchmark
+    public VehicleData firstDecodeFord() {
+        return new OfflineVINDecoder().decode(FORD_VIN);
+    }
+}
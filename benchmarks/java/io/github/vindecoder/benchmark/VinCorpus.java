@@ -0,0 +1,161 @@
+package io.github.vindecoder.benchmark;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * VIN corpora used by the benchmarks
+ *
+ * "corpus" is the curated list in examples/test_vins.txt (valid and invalid VINs).
+ * The regional mixes are synthetic VINs built from real WMI codes with random
+ * VDS/VIS sections and a correct check digit, generated from a fixed seed so
+ * runs are comparable.
+ */
+public final class VinCorpus {
+
+    public static final String CORPUS = "corpus";
+    public static final String NORTH_AMERICA = "north-america";
+    public static final String EUROPE = "europe";
+    public static final String ASIA = "asia";
+    public static final String MIXED = "mixed";
+
+    /** Override with -Dvin.corpus=/path/to/vins.txt */
+    private static final String CORPUS_PROPERTY = "vin.corpus";
+
+    private static final String VIN_CHARS = "0123456789ABCDEFGHJKLMNPRSTUVWXYZ";
+    private static final String YEAR_CHARS = "ABCDEFGHJKLMNPRSTVWXY123456789";
+    private static final int[] WEIGHTS = {8, 7, 6, 5, 4, 3, 2, 10, 0, 9, 8, 7, 6, 5, 4, 3, 2};
+
+    private static final String[] NORTH_AMERICA_WMIS = {
+        "1FT", "1FA", "1FM", "1G1", "1GC", "1GT", "1GY", "4T1", "5TD", "4JG",
+        "5YJ", "1HG", "2HG", "1N4", "3VW", "2T1", "1C4", "5NP", "1HD", "1FV"
+    };
+    private static final String[] EUROPE_WMIS = {
+        "WDD", "WDB", "WDC", "WBA", "WAU", "WVW", "WP0", "VF1", "VF3", "ZFA",
+        "ZAR", "SAL", "SAJ", "YV1", "TMB", "VSS", "W0L", "UU1", "XTA", "SCC"
+    };
+    private static final String[] ASIA_WMIS = {
+        "JTD", "JTH", "JTE", "JHM", "JH4", "JN1", "JF1", "JM1", "KNA", "KMH",
+        "KND", "LFV", "LSV", "LRW", "MA1", "MAT", "JYA", "JS1", "RFB", "JA3"
+    };
+
+    private VinCorpus() {
+    }
+
+    /**
+     * Loads the named corpus
+     * @param name one of the constants on this class
+     * @param size number of synthetic VINs to generate (ignored for the file corpus)
+     */
+    public static String[] load(String name, int size) {
+        switch (name) {
+            case CORPUS:
+                return fromFile();
+            case NORTH_AMERICA:
+                return synthetic(size, 42L, NORTH_AMERICA_WMIS);
+            case EUROPE:
+                return synthetic(size, 43L, EUROPE_WMIS);
+            case ASIA:
+                return synthetic(size, 44L, ASIA_WMIS);
+            case MIXED:
+                return synthetic(size, 45L, NORTH_AMERICA_WMIS, EUROPE_WMIS, ASIA_WMIS);
+            default:
+                throw new IllegalArgumentException("Unknown corpus: " + name);
+        }
+    }
+
+    /**
+     * Synthetic VINs for a single set of WMIs, e.g. one manufacturer
+     */
+    public static String[] forWmis(int size, long seed, String... wmis) {
+        return synthetic(size, seed, wmis);
+    }
+
+    /**
+     * Reads the first token of each VIN line in examples/test_vins.txt.
+     * Invalid entries are kept on purpose - a real feed has them too.
+     */
+    static String[] fromFile() {
+        Path path = locateCorpus();
+        List<String> vins = new ArrayList<>();
+        try {
+            for (String line : Files.readAllLines(path, StandardCharsets.UTF_8)) {
+                line = line.trim();
+                if (line.isEmpty() || line.startsWith("#")) {
+                    continue;
+                }
+                int end = line.indexOf(' ');
+                String token = end > 0 ? line.substring(0, end) : line;
+                if (token.length() >= 16 && token.length() <= 17) {
+                    vins.add(token);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read VIN corpus " + path, e);
+        }
+        if (vins.isEmpty()) {
+            throw new IllegalStateException("No VINs found in " + path);
+        }
+        return vins.toArray(new String[0]);
+    }
+
+    private static Path locateCorpus() {
+        String configured = System.getProperty(CORPUS_PROPERTY);
+        if (configured != null) {
+            return Paths.get(configured);
+        }
+        // Works from the repository root and from the benchmarks directory
+        Path local = Paths.get("examples", "test_vins.txt");
+        if (Files.exists(local)) {
+            return local;
+        }
+        return Paths.get("..", "examples", "test_vins.txt");
+    }
+
+    private static String[] synthetic(int size, long seed, String[]... wmiGroups) {
+        Random random = new Random(seed);
+        String[] vins = new String[size];
+        for (int i = 0; i < size; i++) {
+            String[] group = wmiGroups[i % wmiGroups.length];
+            vins[i] = randomVin(random, group[random.nextInt(group.length)]);
+        }
+        return vins;
+    }
+
+    private static String randomVin(Random random, String wmi) {
+        char[] vin = new char[17];
+        wmi.getChars(0, 3, vin, 0);
+        for (int i = 3; i < 17; i++) {
+            vin[i] = VIN_CHARS.charAt(random.nextInt(VIN_CHARS.length()));
+        }
+        vin[9] = YEAR_CHARS.charAt(random.nextInt(YEAR_CHARS.length()));
+        vin[8] = checkDigit(vin);
+        return new String(vin);
+    }
+
+    private static char checkDigit(char[] vin) {
+        int sum = 0;
+        for (int i = 0; i < 17; i++) {
+            sum += transliterate(vin[i]) * WEIGHTS[i];
+        }
+        int remainder = sum % 11;
+        return remainder == 10 ? 'X' : (char) ('0' + remainder);
+    }
+
+    private static int transliterate(char c) {
+        if (c >= '0' && c <= '9') return c - '0';
+        if (c >= 'A' && c <= 'H') return c - 'A' + 1;
+        if (c >= 'J' && c <= 'N') return c - 'J' + 1;
+        if (c == 'P') return 7;
+        if (c == 'R') return 9;
+        if (c >= 'S' && c <= 'Z') return c - 'S' + 2;
+        return 0;
+    }
+}
@@ -0,0 +1,74 @@
+package io.github.vindecoder.benchmark;
+
+import io.github.vindecoder.offline.WMIDatabase;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * WMI lookup benchmarks. The WMI strings are sliced during setup so only the
+ * lookup itself is measured.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class WMIDatabaseBenchmark {
+
+    @Param({VinCorpus.CORPUS, VinCorpus.MIXED})
+    public String mix;
+
+    @Param({"4096"})
+    public int size;
+
+    private WMIDatabase database;
+    private String[] vins;
+    private String[] wmis;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        database = new WMIDatabase();
+        vins = VinCorpus.load(mix, size);
+        wmis = new String[vins.length];
+        for (int i = 0; i < vins.length; i++) {
+            wmis[i] = vins[i].substring(0, 3);
+        }
+    }
+
+    private int next() {
+        int index = cursor;
+        if (++cursor == vins.length) {
+            cursor = 0;
+        }
+        return index;
+    }
+
+    @Benchmark
+    public String getManufacturer() {
+        return database.getManufacturer(wmis[next()]);
+    }
+
+    @Benchmark
+    public String getManufacturerInVin() {
+        return database.getManufacturer(vins[next()], 0);
+    }
+
+    @Benchmark
+    public int getManufacturerId() {
+        String vin = vins[next()];
+        return database.getManufacturerId(vin.charAt(0), vin.charAt(1), vin.charAt(2));
+    }
+}
@@ -0,0 +1,82 @@
+#!/usr/bin/env python3
+"""
+Build the binary WMI table loaded by the Java WMIDatabase
+
+Reads wmi-database.csv (WMI,Manufacturer) and writes
+resources/io/github/vindecoder/offline/wmi.bin
+
+Format (big-endian):
+    int    magic 'WMI1'
+    ushort manufacturer count
+    for each manufacturer, sorted by name:
+        ushort UTF-8 byte length, UTF-8 bytes
+    int    WMI count
+    for each WMI, sorted by code:
+        3 ASCII bytes WMI, ushort manufacturer index
+
+Run from the data directory after editing the CSV:
+    python3 build_wmi_resource.py
+"""
+
+import csv
+import os
+import struct
+import sys
+
+MAGIC = b'WMI1'
+VIN_CHARS = set('0123456789ABCDEFGHJKLMNPRSTUVWXYZ')
+
+HERE = os.path.dirname(os.path.abspath(__file__))
+SOURCE = os.path.join(HERE, 'wmi-database.csv')
+TARGET = os.path.join(HERE, '..', 'resources', 'io', 'github', 'vindecoder', 'offline', 'wmi.bin')
+
+
+def read_wmis(path):
+    """Read WMI -> manufacturer pairs, rejecting anything the decoder cannot index"""
+    wmis = {}
+    with open(path, 'r', encoding='utf-8', newline='') as f:
+        reader = csv.reader(f)
+        next(reader, None)  # header
+        for line, row in enumerate(reader, start=2):
+            if not row:
+                continue
+            wmi, manufacturer = row[0].strip().upper(), row[1].strip()
+            if len(wmi) != 3 or not set(wmi) <= VIN_CHARS:
+                sys.exit(f"{path}:{line}: invalid WMI '{wmi}'")
+            if not manufacturer:
+                sys.exit(f"{path}:{line}: missing manufacturer for {wmi}")
+            if wmi in wmis and wmis[wmi] != manufacturer:
+                sys.exit(f"{path}:{line}: duplicate WMI {wmi}")
+            wmis[wmi] = manufacturer
+    return wmis
+
+
+def encode(wmis):
+    names = sorted(set(wmis.values()))
+    name_ids = {name: i for i, name in enumerate(names)}
+
+    out = bytearray(MAGIC)
+    out += struct.pack('>H', len(names))
+    for name in names:
+        data = name.encode('utf-8')
+        out += struct.pack('>H', len(data)) + data
+
+    out += struct.pack('>I', len(wmis))
+    for wmi in sorted(wmis):
+        out += wmi.encode('ascii') + struct.pack('>H', name_ids[wmis[wmi]])
+    return bytes(out), len(names)
+
+
+def main():
+    wmis = read_wmis(SOURCE)
+    data, name_count = encode(wmis)
+
+    os.makedirs(os.path.dirname(TARGET), exist_ok=True)
+    with open(TARGET, 'wb') as f:
+        f.write(data)
+
+    print(f"Wrote {len(wmis)} WMI codes, {name_count} manufacturers, {len(data)} bytes to {os.path.relpath(TARGET)}")
+
+
+if __name__ == '__main__':
+    main()
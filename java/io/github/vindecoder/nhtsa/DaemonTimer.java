@@ -0,0 +1,48 @@
+package io.github.vindecoder.nhtsa;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One lazily started daemon thread for the service's timeouts and delayed work
+ *
+ * The thread only keeps time. Tasks that complete futures or call back into
+ * user code are handed to another executor when due, so a slow callback cannot
+ * hold up every other timeout.
+ */
+final class DaemonTimer {
+
+    private DaemonTimer() {
+    }
+
+    private static final class Holder {
+        static final ScheduledThreadPoolExecutor TIMER = timer();
+
+        private static ScheduledThreadPoolExecutor timer() {
+            ScheduledThreadPoolExecutor timer = new ScheduledThreadPoolExecutor(1, runnable -> {
+                Thread thread = new Thread(runnable, "VINDecoder-timer");
+                thread.setDaemon(true);
+                return thread;
+            });
+            timer.setRemoveOnCancelPolicy(true);
+            return timer;
+        }
+    }
+
+    /**
+     * Runs task on executor once delay has passed
+     */
+    static ScheduledFuture<?> schedule(Runnable task, long delay, TimeUnit unit, Executor executor) {
+        return Holder.TIMER.schedule(() -> {
+            try {
+                executor.execute(task);
+            } catch (RejectedExecutionException e) {
+                // The executor was shut down; run here rather than never complete
+                task.run();
+            }
+        }, delay, unit);
+    }
+}
@@ -0,0 +1,59 @@
+package io.github.vindecoder.nhtsa;
+
+import java.util.Arrays;
+
+/**
+ * A percentile of the latencies of recent successful requests
+ *
+ * Keeps the last {@value #SIZE} samples and sorts a copy every
+ * {@value #REFRESH} samples, so reading the percentile is cheap.
+ *
+ * Thread-safe.
+ */
+final class LatencyWindow {
+
+    private static final int SIZE = 128;
+    private static final int REFRESH = 16;
+    /** Fewer samples say too little about the tail */
+    private static final int MIN_SAMPLES = 20;
+
+    private final double percentile;
+    private final long[] samples = new long[SIZE];
+    private int count;
+    private int next;
+    private int sinceRefresh;
+    private long value = -1;
+
+    /**
+     * @param percentile Percentile to track, e.g. 95
+     */
+    LatencyWindow(double percentile) {
+        if (percentile <= 0 || percentile > 100) {
+            throw new IllegalArgumentException("percentile must be in (0, 100]");
+        }
+        this.percentile = percentile;
+    }
+
+    synchronized void record(long nanos) {
+        samples[next] = nanos;
+        next = (next + 1) % SIZE;
+        count = Math.min(count + 1, SIZE);
+        sinceRefresh++;
+    }
+
+    /**
+     * @return the percentile in nanoseconds, or -1 until there are enough samples
+     */
+    synchronized long get() {
+        if (count < MIN_SAMPLES) {
+            return -1;
+        }
+        if (value < 0 || sinceRefresh >= REFRESH) {
+            long[] sorted = Arrays.copyOf(samples, count);
+            Arrays.sort(sorted);
+            value = sorted[Math.max(0, (int) Math.ceil(percentile / 100 * count) - 1)];
+            sinceRefresh = 0;
+        }
+        return value;
+    }
+}
@@ -1,7 +1,10 @@
 package io.github.vindecoder.nhtsa;
 
 import retrofit2.Call;
+import retrofit2.http.Field;
+import retrofit2.http.FormUrlEncoded;
 import retrofit2.http.GET;
+import retrofit2.http.POST;
 import retrofit2.http.Path;
 import retrofit2.http.Query;
 
@@ -49,6 +52,23 @@ public interface NHTSAApiService {
         @Query("format") String format
     );
 
+    /**
+     * Decode up to 50 VINs in one request
+     *
+     * Returns one result per VIN, in request order, each carrying its VIN.
+     *
+     * @param data VINs separated by ";", each optionally followed by ",modelYear"
+     *             e.g. "5UXWX7C5*BA,2011;5YJSA3DS*EF"
+     * @param format Response format - should be "json"
+     * @return Call object containing one vehicle result per VIN
+     */
+    @FormUrlEncoded
+    @POST("vehicles/DecodeVINValuesBatch/")
+    Call<VINResponse> decodeVINBatch(
+        @Field("data") String data,
+        @Field("format") String format
+    );
+
     /**
      * Get all manufacturers
      *
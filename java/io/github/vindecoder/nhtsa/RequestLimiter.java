@@ -0,0 +1,414 @@
+package io.github.vindecoder.nhtsa;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Client-side limits on vPIC requests
+ *
+ * A token bucket caps the request rate and an AIMD limit caps the requests in
+ * flight. Requests over either limit wait in a FIFO queue. If the queue has a
+ * maximum length or wait, requests beyond it fail with a {@link RejectedException}.
+ *
+ * Both limits adapt to the server. HTTP 429 and 5xx responses and network
+ * failures cut the concurrency limit and the rate by 30%, as does a response
+ * slower than twice the no-load latency, which only cuts the concurrency limit.
+ * To avoid one burst of errors collapsing the limits, cuts happen at most once
+ * per round trip. Successful responses grow the concurrency limit by about one
+ * per round trip while it is in use, and the rate by 1% of its maximum.
+ *
+ * Thread-safe. Read the limits and queue depth through the getters, e.g. for metrics.
+ */
+public class RequestLimiter {
+
+    /** Longest wait in nanoseconds, so deadline arithmetic on System.nanoTime() cannot overflow */
+    private static final long MAX_WAIT_NANOS = Long.MAX_VALUE / 4;
+
+    /** Multiplicative decrease on a dropped or slow request */
+    private static final double BACKOFF_RATIO = 0.7;
+    /** Latency above this multiple of the no-load latency counts as congestion */
+    private static final double LATENCY_TOLERANCE = 2.0;
+    /** The rate never drops below this fraction of its maximum */
+    private static final double MIN_RATE_RATIO = 0.1;
+
+    /**
+     * Thrown to a request that was not sent because the queue was full or it waited too long
+     */
+    public static final class RejectedException extends IOException {
+        private static final long serialVersionUID = 1L;
+
+        RejectedException(String message) {
+            super(message);
+        }
+    }
+
+    /**
+     * How a request ended, as a signal for the limits
+     */
+    enum Outcome {
+        /** The server answered */
+        SUCCESS,
+        /** Throttled, a server error or a network failure */
+        DROPPED,
+        /** Cancelled or otherwise no signal about the server */
+        IGNORED
+    }
+
+    /**
+     * Right to send one request; release it exactly once when the request ends
+     */
+    final class Permit {
+        private final long startNanos;
+        private final boolean latencySample;
+        private boolean released;
+
+        private Permit(long startNanos, boolean latencySample) {
+            this.startNanos = startNanos;
+            this.latencySample = latencySample;
+        }
+
+        void release(Outcome outcome) {
+            RequestLimiter.this.release(this, outcome);
+        }
+    }
+
+    /**
+     * A request waiting for a permit
+     */
+    final class Waiter {
+        private final boolean latencySample;
+        private final Consumer<Permit> onPermit;
+        private final Consumer<RejectedException> onRejected;
+        private final long deadline;
+
+        private Waiter(boolean latencySample, Consumer<Permit> onPermit, Consumer<RejectedException> onRejected,
+                       long deadline) {
+            this.latencySample = latencySample;
+            this.onPermit = onPermit;
+            this.onRejected = onRejected;
+            this.deadline = deadline;
+        }
+
+        /**
+         * Stops waiting, so a cancelled request no longer takes up a place in the queue
+         * @return true if it was still waiting; neither callback runs then
+         */
+        boolean cancel() {
+            return RequestLimiter.this.cancel(this);
+        }
+    }
+
+    private final double maxRate;
+    private final double burst;
+    private final int minLimit;
+    private final int maxLimit;
+    private final int maxQueueLength;
+    private final long maxWaitNanos;
+    private final Executor executor;
+
+    private double limit;
+    private double rate;
+    private double tokens;
+    private long refilledAt;
+    private int inFlight;
+    /** Smoothed minimum latency of successful requests, or 0 before the first */
+    private long noLoadLatency;
+    private long lastDecrease;
+    private final ArrayDeque<Waiter> queue = new ArrayDeque<>();
+    private ScheduledFuture<?> wakeUp;
+    private long wakeUpAt;
+
+    private long sent;
+    private long dropped;
+    private long rejected;
+
+    /**
+     * @param permitsPerSecond Maximum request rate, or 0 for no rate limit
+     * @param burst Requests that may be sent at once after an idle period
+     * @param minConcurrency Lowest the concurrency limit backs off to
+     * @param maxConcurrency Highest and initial concurrency limit
+     * @param maxQueueLength Requests that may wait, or Integer.MAX_VALUE for no limit;
+     *                       more are rejected right away
+     * @param maxWait Time a request may wait, or Long.MAX_VALUE for no limit
+     * @param unit Unit of maxWait
+     * @param executor Runs callbacks that become due while no request starts or ends
+     */
+    RequestLimiter(double permitsPerSecond, int burst, int minConcurrency, int maxConcurrency,
+                   int maxQueueLength, long maxWait, TimeUnit unit, Executor executor) {
+        if (permitsPerSecond < 0 || burst < 1) {
+            throw new IllegalArgumentException("permitsPerSecond must not be negative and burst must be positive");
+        }
+        if (minConcurrency < 1 || maxConcurrency < minConcurrency) {
+            throw new IllegalArgumentException("Need 1 <= minConcurrency <= maxConcurrency");
+        }
+        if (maxQueueLength < 0 || maxWait < 0) {
+            throw new IllegalArgumentException("maxQueueLength and maxWait must not be negative");
+        }
+        this.maxRate = permitsPerSecond;
+        this.burst = burst;
+        this.minLimit = minConcurrency;
+        this.maxLimit = maxConcurrency;
+        this.maxQueueLength = maxQueueLength;
+        this.maxWaitNanos = Math.min(unit.toNanos(maxWait), MAX_WAIT_NANOS);
+        this.executor = executor;
+        this.limit = maxConcurrency;
+        this.rate = permitsPerSecond;
+        this.tokens = burst;
+        this.refilledAt = System.nanoTime();
+        this.lastDecrease = refilledAt;
+    }
+
+    /**
+     * Waits for a permit without blocking: onPermit runs once one is granted,
+     * onRejected if the queue is full or the wait times out. Either runs on the
+     * calling thread, the thread releasing a permit or the executor.
+     *
+     * @param latencySample Whether the request's latency is comparable to other
+     *                      samples; batch requests are not
+     * @return the waiter, to cancel the wait
+     */
+    Waiter acquire(boolean latencySample, Consumer<Permit> onPermit, Consumer<RejectedException> onRejected) {
+        List<Runnable> actions;
+        Waiter waiter;
+        synchronized (this) {
+            long now = System.nanoTime();
+            actions = drainLocked(now);
+            waiter = new Waiter(latencySample, onPermit, onRejected, now + maxWaitNanos);
+            if (queue.size() >= maxQueueLength && !(queue.isEmpty() && hasCapacityLocked())) {
+                rejected++;
+                RejectedException e = new RejectedException("Rate limited: " + queue.size() + " requests already waiting");
+                actions.add(() -> onRejected.accept(e));
+            } else {
+                queue.add(waiter);
+                actions.addAll(drainLocked(now));
+            }
+        }
+        run(actions);
+        return waiter;
+    }
+
+    /**
+     * @return current concurrency limit
+     */
+    public synchronized int getLimit() {
+        return (int) limit;
+    }
+
+    public int getMinLimit() {
+        return minLimit;
+    }
+
+    public int getMaxLimit() {
+        return maxLimit;
+    }
+
+    /**
+     * @return current request rate limit in requests per second, or 0 if the rate is not limited
+     */
+    public synchronized double getRate() {
+        return rate;
+    }
+
+    /**
+     * @return requests sent and not yet finished
+     */
+    public synchronized int getInFlight() {
+        return inFlight;
+    }
+
+    /**
+     * @return requests waiting for a permit
+     */
+    public synchronized int getQueueDepth() {
+        return queue.size();
+    }
+
+    /**
+     * @return no-load latency estimate in milliseconds, or 0 before the first response
+     */
+    public synchronized long getNoLoadLatencyMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(noLoadLatency);
+    }
+
+    /**
+     * @return requests granted a permit
+     */
+    public synchronized long getSentCount() {
+        return sent;
+    }
+
+    /**
+     * @return requests that were throttled, hit a server error or failed on the network
+     */
+    public synchronized long getDroppedCount() {
+        return dropped;
+    }
+
+    /**
+     * @return requests never sent because the queue was full or they waited too long
+     */
+    public synchronized long getRejectedCount() {
+        return rejected;
+    }
+
+    @Override
+    public synchronized String toString() {
+        return "RequestLimiter{limit=" + (int) limit + "/" + maxLimit + ", rate=" + rate
+                + ", inFlight=" + inFlight + ", queued=" + queue.size()
+                + ", sent=" + sent + ", dropped=" + dropped + ", rejected=" + rejected + "}";
+    }
+
+    private synchronized boolean cancel(Waiter waiter) {
+        // The deque holds few waiters unless the service is overloaded; a linear scan is fine
+        return queue.removeFirstOccurrence(waiter);
+    }
+
+    private void release(Permit permit, Outcome outcome) {
+        List<Runnable> actions;
+        synchronized (this) {
+            if (permit.released) {
+                return;
+            }
+            permit.released = true;
+            // Whether the limit was in use, counting this request
+            boolean saturated = inFlight * 2 >= limit;
+            inFlight--;
+            long now = System.nanoTime();
+            if (outcome == Outcome.DROPPED) {
+                dropped++;
+                decrease(permit, now, true);
+            } else if (outcome == Outcome.SUCCESS) {
+                long latency = now - permit.startNanos;
+                if (permit.latencySample && sampleLatency(latency)) {
+                    decrease(permit, now, false);
+                } else {
+                    increase(saturated);
+                }
+            }
+            actions = drainLocked(now);
+        }
+        run(actions);
+    }
+
+    /**
+     * Updates the no-load latency
+     * @return true if latency shows congestion
+     */
+    private boolean sampleLatency(long latency) {
+        if (noLoadLatency == 0 || latency < noLoadLatency) {
+            noLoadLatency = latency;
+            return false;
+        }
+        // Drift up slowly, so a server that got slower for good is not read as congested forever
+        noLoadLatency += (latency - noLoadLatency) / 256;
+        return latency > LATENCY_TOLERANCE * noLoadLatency;
+    }
+
+    private void increase(boolean saturated) {
+        if (saturated) {
+            limit = Math.min(maxLimit, limit + 1 / limit);
+        }
+        if (maxRate > 0) {
+            rate = Math.min(maxRate, rate + maxRate / 100);
+        }
+    }
+
+    private void decrease(Permit permit, long now, boolean rateToo) {
+        // Requests sent before the last cut already saw the old limits
+        if (permit.startNanos - lastDecrease < 0) {
+            return;
+        }
+        lastDecrease = now;
+        limit = Math.max(minLimit, limit * BACKOFF_RATIO);
+        if (rateToo && maxRate > 0) {
+            rate = Math.max(maxRate * MIN_RATE_RATIO, rate * BACKOFF_RATIO);
+        }
+    }
+
+    private void refill(long now) {
+        if (maxRate > 0) {
+            tokens = Math.min(burst, tokens + (now - refilledAt) * rate / 1e9);
+        }
+        refilledAt = now;
+    }
+
+    private boolean hasCapacityLocked() {
+        return inFlight < (int) limit && (maxRate == 0 || tokens >= 1);
+    }
+
+    /**
+     * Grants permits to waiters in order and rejects the overdue ones
+     * @return callbacks to run outside the lock
+     */
+    private List<Runnable> drainLocked(long now) {
+        List<Runnable> actions = new ArrayList<>();
+        refill(now);
+        while (!queue.isEmpty()) {
+            Waiter head = queue.peek();
+            if (!hasCapacityLocked()) {
+                if (head.deadline - now > 0) {
+                    break;
+                }
+                queue.poll();
+                rejected++;
+                RejectedException e = new RejectedException("Rate limited: waited "
+                        + TimeUnit.NANOSECONDS.toMillis(maxWaitNanos) + " ms for a request slot");
+                actions.add(() -> head.onRejected.accept(e));
+                continue;
+            }
+            queue.poll();
+            inFlight++;
+            sent++;
+            if (maxRate > 0) {
+                tokens -= 1;
+            }
+            Permit permit = new Permit(now, head.latencySample);
+            actions.add(() -> head.onPermit.accept(permit));
+        }
+        scheduleWakeUpLocked(now);
+        return actions;
+    }
+
+    /**
+     * Wakes up for the next token or the head's deadline; a released permit wakes up the queue by itself
+     */
+    private void scheduleWakeUpLocked(long now) {
+        if (queue.isEmpty()) {
+            return;
+        }
+        long at = queue.peek().deadline;
+        if (maxRate > 0 && tokens < 1 && inFlight < (int) limit) {
+            // Blocked on the rate only
+            at = Math.min(at, now + (long) Math.ceil((1 - tokens) / rate * 1e9));
+        }
+        if (wakeUp != null && wakeUpAt - at <= 0) {
+            return;
+        }
+        if (wakeUp != null) {
+            wakeUp.cancel(false);
+        }
+        wakeUpAt = at;
+        wakeUp = DaemonTimer.schedule(this::onWakeUp, Math.max(0, at - now), TimeUnit.NANOSECONDS, executor);
+    }
+
+    private void onWakeUp() {
+        List<Runnable> actions;
+        synchronized (this) {
+            wakeUp = null;
+            actions = drainLocked(System.nanoTime());
+        }
+        run(actions);
+    }
+
+    private static void run(List<Runnable> actions) {
+        for (Runnable action : actions) {
+            action.run();
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package io.github.vindecoder.nhtsa;
+
+/**
+ * Caps the extra load retries and hedged requests add
+ *
+ * Every decode that reaches the API deposits a fraction of a token, and every
+ * retry or hedge spends a whole one. The balance is capped at the reserve, so
+ * after a healthy period a burst of up to reserve retries goes through, and
+ * during an outage at most ratio extra requests are sent per decode.
+ *
+ * Thread-safe.
+ */
+public class RetryBudget {
+
+    public static final double DEFAULT_RATIO = 0.1;
+    public static final int DEFAULT_RESERVE = 10;
+
+    private final double ratio;
+    private final int reserve;
+    private double balance;
+
+    private long retries;
+    private long hedges;
+    private long hedgeWins;
+    private long exhausted;
+
+    /**
+     * @param ratio Tokens deposited per decode, i.e. the sustained fraction of decodes that may be retried or hedged
+     * @param reserve Tokens available at start and at most
+     */
+    RetryBudget(double ratio, int reserve) {
+        if (ratio < 0 || reserve < 0) {
+            throw new IllegalArgumentException("ratio and reserve must not be negative");
+        }
+        this.ratio = ratio;
+        this.reserve = reserve;
+        this.balance = reserve;
+    }
+
+    synchronized void deposit() {
+        balance = Math.min(reserve, balance + ratio);
+    }
+
+    /**
+     * @return true if a token was spent on a retry
+     */
+    synchronized boolean tryRetry() {
+        if (!withdraw()) {
+            return false;
+        }
+        retries++;
+        return true;
+    }
+
+    /**
+     * @return true if a token was spent on a hedge
+     */
+    synchronized boolean tryHedge() {
+        if (!withdraw()) {
+            return false;
+        }
+        hedges++;
+        return true;
+    }
+
+    synchronized void hedgeWon() {
+        hedgeWins++;
+    }
+
+    private boolean withdraw() {
+        if (balance < 1) {
+            exhausted++;
+            return false;
+        }
+        balance -= 1;
+        return true;
+    }
+
+    /**
+     * @return tokens left; a retry or hedge needs one
+     */
+    public synchronized double getBalance() {
+        return balance;
+    }
+
+    /**
+     * @return retries sent
+     */
+    public synchronized long getRetryCount() {
+        return retries;
+    }
+
+    /**
+     * @return hedged requests sent
+     */
+    public synchronized long getHedgeCount() {
+        return hedges;
+    }
+
+    /**
+     * @return hedged requests that answered first
+     */
+    public synchronized long getHedgeWinCount() {
+        return hedgeWins;
+    }
+
+    /**
+     * @return retries and hedges not sent because the budget was spent
+     */
+    public synchronized long getExhaustedCount() {
+        return exhausted;
+    }
+
+    @Override
+    public synchronized String toString() {
+        return "RetryBudget{balance=" + balance + "/" + reserve + ", retries=" + retries
+                + ", hedges=" + hedges + ", hedgeWins=" + hedgeWins + ", exhausted=" + exhausted + "}";
+    }
+}
@@ -0,0 +1,277 @@
+package io.github.vindecoder.nhtsa;
+
+import retrofit2.Call;
+import retrofit2.Callback;
+import retrofit2.Response;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * One logical GET request made of up to several attempts
+ *
+ * Retries HTTP 429 and 5xx responses and network failures with exponential
+ * backoff and jitter, honouring Retry-After. Optionally sends a hedged second
+ * request once the first has been out longer than a latency percentile of
+ * recent requests; the first usable response wins and the other attempt is
+ * cancelled. Retries and hedges spend the shared {@link RetryBudget}.
+ *
+ * The callback is called once with the winning response or the last failure,
+ * or never after {@link #cancel()}.
+ */
+final class RetryingCall {
+
+    /**
+     * Settings shared by the requests of one service
+     */
+    static final class Policy {
+        final int maxRetries;
+        final long initialBackoffNanos;
+        final long maxBackoffNanos;
+        /** Latency window for hedging, or null if hedging is off */
+        final LatencyWindow hedgeLatency;
+        final RetryBudget budget;
+        /** Sends delayed retries and hedges */
+        final Executor executor;
+
+        Policy(int maxRetries, long initialBackoffNanos, long maxBackoffNanos,
+               LatencyWindow hedgeLatency, RetryBudget budget, Executor executor) {
+            this.maxRetries = maxRetries;
+            this.initialBackoffNanos = initialBackoffNanos;
+            this.maxBackoffNanos = maxBackoffNanos;
+            this.hedgeLatency = hedgeLatency;
+            this.budget = budget;
+            this.executor = executor;
+        }
+    }
+
+    /**
+     * Sends one attempt, e.g. through the request limiter
+     */
+    interface Sender {
+        /**
+         * @param onSent Runs just before the call goes to the HTTP client, after any wait
+         * @return cancels the attempt, including a wait before it is sent
+         */
+        Runnable send(Call<VINResponse> call, Callback<VINResponse> callback, Runnable onSent);
+    }
+
+    private final Policy policy;
+    private final Supplier<Call<VINResponse>> request;
+    private final Sender sender;
+    private final Callback<VINResponse> callback;
+
+    /** Attempts not yet completed, with how to cancel them */
+    private final Map<Call<VINResponse>, Runnable> outstanding = new IdentityHashMap<>();
+    private int retries;
+    private boolean hedged;
+    private boolean done;
+    /** Pending hedge or retry */
+    private ScheduledFuture<?> timer;
+
+    RetryingCall(Policy policy, Supplier<Call<VINResponse>> request, Sender sender, Callback<VINResponse> callback) {
+        this.policy = policy;
+        this.request = request;
+        this.sender = sender;
+        this.callback = callback;
+    }
+
+    void start() {
+        policy.budget.deposit();
+        send(false);
+    }
+
+    /**
+     * Cancels every attempt and pending retry; the callback is not called
+     */
+    void cancel() {
+        List<Runnable> cancels;
+        synchronized (this) {
+            if (done) {
+                return;
+            }
+            done = true;
+            cancelTimer();
+            cancels = new ArrayList<>(outstanding.values());
+        }
+        for (Runnable cancel : cancels) {
+            cancel.run();
+        }
+    }
+
+    private void send(boolean hedge) {
+        Call<VINResponse> call = request.get();
+        Attempt attempt = new Attempt(hedge);
+        synchronized (this) {
+            if (done) {
+                return;
+            }
+            outstanding.put(call, call::cancel);
+        }
+        Runnable cancel = sender.send(call, attempt, attempt::sent);
+        synchronized (this) {
+            if (outstanding.containsKey(call)) {
+                outstanding.put(call, cancel);
+            }
+            if (!done) {
+                return;
+            }
+        }
+        // Cancelled while sending; the attempt may still be waiting to be sent
+        cancel.run();
+    }
+
+    /**
+     * One request; its latency and the hedge delay count from when it was sent,
+     * not from when it started waiting for the request limiter
+     */
+    private final class Attempt implements Callback<VINResponse> {
+        private final boolean hedge;
+        private volatile long sentAt;
+
+        Attempt(boolean hedge) {
+            this.hedge = hedge;
+        }
+
+        void sent() {
+            sentAt = System.nanoTime();
+            synchronized (RetryingCall.this) {
+                if (done || hedged || policy.hedgeLatency == null) {
+                    return;
+                }
+                long delay = policy.hedgeLatency.get();
+                if (delay >= 0) {
+                    cancelTimer();
+                    timer = DaemonTimer.schedule(RetryingCall.this::hedge, delay, TimeUnit.NANOSECONDS,
+                            policy.executor);
+                }
+            }
+        }
+
+        @Override
+        public void onResponse(Call<VINResponse> call, Response<VINResponse> response) {
+            completed(call, response, null, this);
+        }
+
+        @Override
+        public void onFailure(Call<VINResponse> call, Throwable t) {
+            completed(call, null, t, this);
+        }
+    }
+
+    private void hedge() {
+        synchronized (this) {
+            timer = null;
+            // Nothing to race when the attempt already failed and a retry is pending
+            if (done || hedged || outstanding.isEmpty()) {
+                return;
+            }
+            hedged = true;
+            if (!policy.budget.tryHedge()) {
+                return;
+            }
+        }
+        send(true);
+    }
+
+    private void completed(Call<VINResponse> call, Response<VINResponse> response, Throwable failure,
+                           Attempt attempt) {
+        long retryDelay = retryDelay(call, response, failure);
+        List<Runnable> losers;
+        synchronized (this) {
+            outstanding.remove(call);
+            if (done) {
+                // Cancelled, or lost the race
+                return;
+            }
+            if (response != null && response.isSuccessful() && policy.hedgeLatency != null) {
+                policy.hedgeLatency.record(System.nanoTime() - attempt.sentAt);
+            }
+            if (retryDelay >= 0) {
+                if (!outstanding.isEmpty()) {
+                    // The other attempt may still succeed
+                    return;
+                }
+                if (retries < policy.maxRetries && policy.budget.tryRetry()) {
+                    retries++;
+                    cancelTimer();
+                    timer = DaemonTimer.schedule(() -> send(false), retryDelay, TimeUnit.NANOSECONDS,
+                            policy.executor);
+                    return;
+                }
+            }
+            done = true;
+            cancelTimer();
+            if (attempt.hedge) {
+                policy.budget.hedgeWon();
+            }
+            losers = new ArrayList<>(outstanding.values());
+        }
+        for (Runnable loser : losers) {
+            loser.run();
+        }
+        if (response != null) {
+            callback.onResponse(call, response);
+        } else {
+            callback.onFailure(call, failure);
+        }
+    }
+
+    /**
+     * @return backoff before retrying this outcome in nanoseconds, or -1 if it must not be retried
+     */
+    private long retryDelay(Call<VINResponse> call, Response<VINResponse> response, Throwable failure) {
+        if (response == null) {
+            // Cancelled calls and requests the limiter turned away are not retried
+            return call.isCanceled() || failure instanceof RequestLimiter.RejectedException ? -1 : backoff();
+        }
+        int code = response.code();
+        if (code != 429 && code < 500) {
+            return -1;
+        }
+        long backoff = backoff();
+        String retryAfter = response.headers().get("Retry-After");
+        if (retryAfter != null) {
+            try {
+                long requested = TimeUnit.SECONDS.toNanos(Long.parseLong(retryAfter.trim()));
+                if (requested > policy.maxBackoffNanos) {
+                    // The server wants a longer pause than we are willing to wait
+                    return -1;
+                }
+                backoff = Math.max(backoff, requested);
+            } catch (NumberFormatException e) {
+                // An HTTP date; the exponential backoff will do
+            }
+        }
+        return backoff;
+    }
+
+    /**
+     * Exponential backoff with equal jitter: half the delay is fixed, half random
+     */
+    private long backoff() {
+        int attempt;
+        synchronized (this) {
+            attempt = retries;
+        }
+        long delay = policy.initialBackoffNanos << Math.min(attempt, 30);
+        if (delay <= 0 || delay > policy.maxBackoffNanos) {
+            delay = policy.maxBackoffNanos;
+        }
+        long half = delay / 2;
+        return half + ThreadLocalRandom.current().nextLong(delay - half + 1);
+    }
+
+    private void cancelTimer() {
+        if (timer != null) {
+            timer.cancel(false);
+            timer = null;
+        }
+    }
+}
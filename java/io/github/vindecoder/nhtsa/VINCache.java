@@ -0,0 +1,431 @@
+package io.github.vindecoder.nhtsa;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Thread-safe, size-bounded LRU cache for decoded vehicle data
+ *
+ * Entries expire a fixed time after they were written and the least recently
+ * used entries are evicted once the total weight exceeds the maximum.
+ * By default every entry weighs 1, so the maximum weight is a maximum entry count.
+ *
+ * Lookups take no lock: entries live in a ConcurrentHashMap, and each hit is
+ * recorded in a small lock-free buffer. Whichever thread fills the buffer, or
+ * the next write, replays the hits into the LRU order under the lock. When
+ * readers outrun the replay the buffer drops hits, so under heavy reads the
+ * eviction order is approximately, not exactly, least recently used. Writes
+ * are serialized by one lock.
+ *
+ * Features:
+ * - Safe to use from Retrofit callback threads and caller threads at once
+ * - Bounded by entry count or by a custom weigher
+ * - Expire-after-write TTL
+ * - Hit, miss and eviction counters
+ */
+public class VINCache {
+
+    public static final long DEFAULT_MAXIMUM_WEIGHT = 10_000;
+    public static final long DEFAULT_TTL_HOURS = 24;
+
+    /**
+     * Computes the weight of a cache entry, e.g. its approximate size in bytes
+     */
+    public interface Weigher {
+        /**
+         * @return weight of the entry, must not be negative
+         */
+        int weigh(String key, VehicleData value);
+    }
+
+    private static final Weigher SINGLETON_WEIGHER = (key, value) -> 1;
+
+    /** Slots of the read buffer; a power of two */
+    private static final int READ_BUFFER_SIZE = 128;
+    /** Buffered hits that make a reader try to replay them */
+    private static final int DRAIN_THRESHOLD = 32;
+
+    private static final class Entry {
+        final String key;
+        final VehicleData value;
+        final int weight;
+        final long expiresAt;
+
+        Entry(String key, VehicleData value, int weight, long expiresAt) {
+            this.key = key;
+            this.value = value;
+            this.weight = weight;
+            this.expiresAt = expiresAt;
+        }
+    }
+
+    // Lock-free lookups
+    private final ConcurrentHashMap<String, Entry> data = new ConcurrentHashMap<>();
+    // Guards the LRU order, the weight and the settings
+    private final ReentrantLock lock = new ReentrantLock();
+    // Access-ordered: iteration starts at the least recently used entry
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long totalWeight;
+
+    // Hits not yet replayed into the LRU order: slots [drained, written) are filled
+    private final AtomicReferenceArray<Entry> readBuffer = new AtomicReferenceArray<>(READ_BUFFER_SIZE);
+    private final AtomicLong written = new AtomicLong();
+    private volatile long drained;
+
+    private long maximumWeight;
+    private long ttlNanos;
+    private Weigher weigher;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    /**
+     * Creates a cache holding up to 10,000 entries for 24 hours
+     */
+    public VINCache() {
+        this(DEFAULT_MAXIMUM_WEIGHT, DEFAULT_TTL_HOURS, TimeUnit.HOURS);
+    }
+
+    /**
+     * @param maximumEntries Maximum number of cached entries
+     * @param ttl Time an entry stays valid after it was written
+     * @param unit Unit of ttl
+     */
+    public VINCache(long maximumEntries, long ttl, TimeUnit unit) {
+        this(maximumEntries, ttl, unit, SINGLETON_WEIGHER);
+    }
+
+    /**
+     * @param maximumWeight Maximum total weight of cached entries
+     * @param ttl Time an entry stays valid after it was written
+     * @param unit Unit of ttl
+     * @param weigher Weight of each entry
+     */
+    public VINCache(long maximumWeight, long ttl, TimeUnit unit, Weigher weigher) {
+        setMaximumWeight(maximumWeight);
+        setTtl(ttl, unit);
+        setWeigher(weigher);
+    }
+
+    /**
+     * Get a cached entry, counting a hit or a miss
+     *
+     * @param key Cache key (normalized VIN, or VIN and model year)
+     * @return VehicleData or null if not cached or expired
+     */
+    public VehicleData get(String key) {
+        Entry entry = key != null ? data.get(key) : null;
+        if (entry != null && isExpired(entry, System.nanoTime())) {
+            expire(entry);
+            entry = null;
+        }
+        if (entry == null) {
+            misses.incrementAndGet();
+            return null;
+        }
+        hits.incrementAndGet();
+        recordRead(entry);
+        return entry.value;
+    }
+
+    /**
+     * Check for a live entry without counting a hit or a miss
+     *
+     * @param key Cache key
+     * @return true if cached and not expired
+     */
+    public boolean containsKey(String key) {
+        Entry entry = key != null ? data.get(key) : null;
+        if (entry == null) {
+            return false;
+        }
+        if (isExpired(entry, System.nanoTime())) {
+            expire(entry);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Add or replace an entry, evicting least recently used entries if needed
+     *
+     * @param key Cache key
+     * @param value Decoded vehicle data
+     */
+    public void put(String key, VehicleData value) {
+        if (key == null || value == null) {
+            return;
+        }
+        lock.lock();
+        try {
+            int weight = weigher.weigh(key, value);
+            if (weight < 0) {
+                throw new IllegalStateException("Negative weight for " + key);
+            }
+            drainReads();
+            Entry entry = new Entry(key, value, weight, System.nanoTime() + ttlNanos);
+            Entry previous = entries.put(key, entry);
+            data.put(key, entry);
+            if (previous != null) {
+                totalWeight -= previous.weight;
+            }
+            totalWeight += weight;
+            evictToMaximum();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Remove an entry
+     *
+     * @param key Cache key
+     */
+    public void invalidate(String key) {
+        lock.lock();
+        try {
+            Entry entry = entries.remove(key);
+            if (entry != null) {
+                data.remove(key, entry);
+                totalWeight -= entry.weight;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Remove all entries. Counters are kept.
+     */
+    public void clear() {
+        lock.lock();
+        try {
+            entries.clear();
+            data.clear();
+            totalWeight = 0;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Remove expired entries now instead of on their next lookup
+     */
+    public void cleanUp() {
+        lock.lock();
+        try {
+            drainReads();
+            long now = System.nanoTime();
+            Iterator<Entry> iterator = entries.values().iterator();
+            while (iterator.hasNext()) {
+                Entry entry = iterator.next();
+                if (isExpired(entry, now)) {
+                    iterator.remove();
+                    data.remove(entry.key, entry);
+                    totalWeight -= entry.weight;
+                    evictions.incrementAndGet();
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return number of entries, including expired entries not yet cleaned up
+     */
+    public int size() {
+        return data.size();
+    }
+
+    /**
+     * @return total weight of all entries
+     */
+    public long weight() {
+        lock.lock();
+        try {
+            return totalWeight;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long getMaximumWeight() {
+        lock.lock();
+        try {
+            return maximumWeight;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Change the maximum total weight (entry count with the default weigher),
+     * evicting entries right away if the cache is now over the limit
+     */
+    public void setMaximumWeight(long maximumWeight) {
+        if (maximumWeight < 0) {
+            throw new IllegalArgumentException("maximumWeight must not be negative");
+        }
+        lock.lock();
+        try {
+            this.maximumWeight = maximumWeight;
+            drainReads();
+            evictToMaximum();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Change the TTL for entries written from now on
+     */
+    public void setTtl(long ttl, TimeUnit unit) {
+        if (ttl <= 0) {
+            throw new IllegalArgumentException("ttl must be positive");
+        }
+        lock.lock();
+        try {
+            // Capped so expiry arithmetic on System.nanoTime() cannot overflow
+            this.ttlNanos = Math.min(unit.toNanos(ttl), Long.MAX_VALUE / 4);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Change how entries written from now on are weighed
+     */
+    public void setWeigher(Weigher weigher) {
+        if (weigher == null) {
+            throw new IllegalArgumentException("weigher must not be null");
+        }
+        lock.lock();
+        try {
+            this.weigher = weigher;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return lookups through {@link #get(String)} that found a live entry
+     */
+    public long getHitCount() {
+        return hits.get();
+    }
+
+    /**
+     * @return lookups through {@link #get(String)} that found nothing or an expired entry
+     */
+    public long getMissCount() {
+        return misses.get();
+    }
+
+    /**
+     * @return entries removed because of the size limit or because they expired
+     */
+    public long getEvictionCount() {
+        return evictions.get();
+    }
+
+    /**
+     * @return hits divided by lookups, or 1.0 if there were no lookups
+     */
+    public double getHitRate() {
+        long hitCount = hits.get();
+        long lookups = hitCount + misses.get();
+        return lookups == 0 ? 1.0 : (double) hitCount / lookups;
+    }
+
+    /**
+     * Reset hit, miss and eviction counters
+     */
+    public void resetStats() {
+        hits.set(0);
+        misses.set(0);
+        evictions.set(0);
+    }
+
+    @Override
+    public String toString() {
+        return "VINCache{size=" + size() + ", weight=" + weight() + "/" + getMaximumWeight()
+                + ", hits=" + getHitCount() + ", misses=" + getMissCount()
+                + ", evictions=" + getEvictionCount() + "}";
+    }
+
+    /**
+     * Buffers a hit for the LRU order; drops it if the buffer is full
+     */
+    private void recordRead(Entry entry) {
+        long index = written.get();
+        long pending = index - drained;
+        if (pending < READ_BUFFER_SIZE && written.compareAndSet(index, index + 1)) {
+            readBuffer.lazySet((int) (index & (READ_BUFFER_SIZE - 1)), entry);
+            pending++;
+        }
+        if (pending >= DRAIN_THRESHOLD && lock.tryLock()) {
+            try {
+                drainReads();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Replays buffered hits into the LRU order. Requires the lock.
+     */
+    private void drainReads() {
+        long index = drained;
+        long end = written.get();
+        for (; index < end; index++) {
+            Entry entry = readBuffer.getAndSet((int) (index & (READ_BUFFER_SIZE - 1)), null);
+            if (entry == null) {
+                // Claimed but not yet stored; picked up by the next drain
+                break;
+            }
+            // Bumps the entry in the access order; a no-op once it was removed
+            entries.get(entry.key);
+        }
+        drained = index;
+    }
+
+    /**
+     * Removes an expired entry unless it was replaced meanwhile
+     */
+    private void expire(Entry entry) {
+        lock.lock();
+        try {
+            if (entries.remove(entry.key, entry)) {
+                data.remove(entry.key, entry);
+                totalWeight -= entry.weight;
+                evictions.incrementAndGet();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private boolean isExpired(Entry entry, long now) {
+        return now - entry.expiresAt >= 0;
+    }
+
+    private void evictToMaximum() {
+        Iterator<Map.Entry<String, Entry>> iterator = entries.entrySet().iterator();
+        while (totalWeight > maximumWeight && iterator.hasNext()) {
+            Entry eldest = iterator.next().getValue();
+            iterator.remove();
+            data.remove(eldest.key, eldest);
+            totalWeight -= eldest.weight;
+            evictions.incrementAndGet();
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package io.github.vindecoder.nhtsa;
+
+/**
+ * A failed VIN decode
+ *
+ * Carries the same error text {@link VINDecoderService.VINDecoderCallback#onError(String)}
+ * receives, e.g. "VIN cannot be empty" or "Failed to decode VIN. HTTP 500".
+ */
+public class VINDecodeException extends Exception {
+    private static final long serialVersionUID = 1L;
+
+    public VINDecodeException(String message) {
+        super(message);
+    }
+
+    public VINDecodeException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -1,11 +1,33 @@
 package io.github.vindecoder.nhtsa;
+import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
 import retrofit2.Call;
 import retrofit2.Callback;
 import retrofit2.Response;
 import retrofit2.Retrofit;
 import retrofit2.converter.gson.GsonConverterFactory;
-import java.util.HashMap;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
 
 /**
  * VIN Decoder Service using NHTSA vPIC API
@@ -18,18 +40,47 @@ import java.util.Map;
  * - No API key required
  * - Comprehensive vehicle information
  * - Supports partial VINs
- * - Caching to reduce API calls
+ * - Bounded, thread-safe caching to reduce API calls
+ * - Optional persistent disk cache that survives restarts
+ * - Concurrent requests for the same VIN are coalesced into one API call
+ * - CompletableFuture and blocking variants with timeouts and cancellation
+ * - Batch decoding, 50 VINs per request
+ * - Configurable HTTP client through {@link Builder}
+ * - Client-side rate and adaptive concurrency limits, see {@link RequestLimiter}
+ * - Retries with backoff and optional hedged requests, within a {@link RetryBudget}
  */
 public class VINDecoderService {
 
     private static final String TAG = "VINDecoder";
     private static final String BASE_URL = "https://vpic.nhtsa.dot.gov/api/";
 
+    /** Maximum number of VINs the DecodeVINValuesBatch endpoint accepts per request */
+    public static final int MAX_BATCH_SIZE = 50;
+
+    /** Default number of batch requests decodeVINs keeps in flight */
+    public static final int DEFAULT_BATCH_PARALLELISM = 4;
+
+    /** Default retries of a single-VIN lookup */
+    public static final int DEFAULT_MAX_RETRIES = 0;
+    public static final long DEFAULT_INITIAL_BACKOFF_MILLIS = 100;
+    public static final long DEFAULT_MAX_BACKOFF_MILLIS = 2000;
+
     private static VINDecoderService instance;
     private final NHTSAApiService apiService;
+    // Null unless the builder set a limit
+    private final RequestLimiter limiter;
+    private final RetryingCall.Policy retryPolicy;
+    // Runs timed-out completions and other delayed work; the HTTP client's callback threads
+    private final Executor executor;
 
-    // Cache for decoded VINs to reduce API calls
-    private final Map<String, VehicleData> cache = new HashMap<>();
+    // Cache for decoded VINs to reduce API calls; written from Retrofit callback threads
+    private final VINCache cache = new VINCache();
+
+    // Optional second tier behind the memory cache, kept across restarts
+    private volatile VINDiskCache diskCache;
+
+    // Requests in flight by key, so concurrent callers for the same VIN share one HTTP call
+    private final ConcurrentMap<String, InFlight> inFlight = new ConcurrentHashMap<>();
 
     /**
      * Callback interface for VIN decoding results
@@ -52,12 +103,362 @@ public class VINDecoderService {
      * Private constructor for singleton pattern
      */
     private VINDecoderService() {
+        this(new Builder());
+    }
+
+    /**
+     * Create a standalone service against another vPIC deployment,
+     * e.g. a mirror or a local mock server in tests.
+     * Most callers should use {@link #getInstance()}.
+     *
+     * @param baseUrl API base URL ending in "/", e.g. "https://vpic.nhtsa.dot.gov/api/"
+     */
+    public VINDecoderService(String baseUrl) {
+        this(new Builder().baseUrl(baseUrl));
+    }
+
+    private VINDecoderService(Builder builder) {
+        OkHttpClient client = builder.buildClient();
         Retrofit retrofit = new Retrofit.Builder()
-                .baseUrl(BASE_URL)
+                .baseUrl(builder.baseUrl)
+                .client(client)
                 .addConverterFactory(GsonConverterFactory.create())
                 .build();
 
         apiService = retrofit.create(NHTSAApiService.class);
+        executor = client.dispatcher().executorService();
+        if (builder.limited) {
+            int maxConcurrency = builder.maxConcurrency > 0
+                    ? builder.maxConcurrency
+                    : Math.max(builder.minConcurrency, client.dispatcher().getMaxRequestsPerHost());
+            limiter = new RequestLimiter(builder.permitsPerSecond, builder.burst,
+                    builder.minConcurrency, maxConcurrency,
+                    builder.maxQueueLength, builder.maxWaitMillis, TimeUnit.MILLISECONDS, executor);
+        } else {
+            limiter = null;
+        }
+        retryPolicy = new RetryingCall.Policy(builder.maxRetries,
+                TimeUnit.MILLISECONDS.toNanos(builder.initialBackoffMillis),
+                TimeUnit.MILLISECONDS.toNanos(builder.maxBackoffMillis),
+                builder.hedgePercentile > 0 ? new LatencyWindow(builder.hedgePercentile) : null,
+                new RetryBudget(builder.retryBudgetRatio, builder.retryBudgetReserve), executor);
+    }
+
+    /**
+     * Builds a standalone service with a tuned HTTP client
+     *
+     * Settings left unset keep the values of the client passed to
+     * {@link #client(OkHttpClient)}, or OkHttp's defaults: a pool of 5 idle
+     * connections kept 5 minutes, 64 requests in flight with 5 per host,
+     * 10 second connect, read and write timeouts, and HTTP/2 where the server
+     * negotiates it.
+     *
+     * Setting {@link #rateLimit}, {@link #concurrencyLimit} or {@link #requestQueue}
+     * sends requests through a {@link RequestLimiter}; without them there is none
+     * and requests only queue inside the client, never failing for load. Once on,
+     * the limiter has no rate limit, a concurrency limit adapting between 1 and
+     * maxRequestsPerHost, and an unbounded queue, unless set otherwise. Only a
+     * bounded queue rejects requests: decode callbacks then get an error starting
+     * with "Rate limited", and futures and blocking calls a {@link VINDecodeException}.
+     *
+     * Retries and hedged requests are off by default, so a failure reaches the
+     * callback at once. {@link #maxRetries} retries single-VIN lookups on HTTP
+     * 429 and 5xx responses and network failures, within a {@link RetryBudget}
+     * letting {@value RetryBudget#DEFAULT_RATIO} of decodes retry after its reserve of
+     * {@value RetryBudget#DEFAULT_RESERVE}.
+     *
+     * Usage:
+     * <pre>
+     * VINDecoderService service = new VINDecoderService.Builder()
+     *         .baseUrl("http://vpic-mirror.internal/api/")
+     *         .maxRequestsPerHost(16)
+     *         .connectionPool(16, 5, TimeUnit.MINUTES)
+     *         .readTimeout(5, TimeUnit.SECONDS)
+     *         .build();
+     * </pre>
+     */
+    public static final class Builder {
+        private String baseUrl = BASE_URL;
+        private OkHttpClient client;
+        private int maxIdleConnections = -1;
+        private long keepAliveMillis;
+        private int maxRequests = -1;
+        private int maxRequestsPerHost = -1;
+        private long connectTimeoutMillis = -1;
+        private long readTimeoutMillis = -1;
+        private long writeTimeoutMillis = -1;
+        private long callTimeoutMillis = -1;
+        private Boolean http2;
+        private double permitsPerSecond;
+        private int burst = 1;
+        private int minConcurrency = 1;
+        private int maxConcurrency = -1;
+        private int maxQueueLength = Integer.MAX_VALUE;
+        private long maxWaitMillis = Long.MAX_VALUE;
+        private boolean limited;
+        private int maxRetries = DEFAULT_MAX_RETRIES;
+        private long initialBackoffMillis = DEFAULT_INITIAL_BACKOFF_MILLIS;
+        private long maxBackoffMillis = DEFAULT_MAX_BACKOFF_MILLIS;
+        private double hedgePercentile;
+        private double retryBudgetRatio = RetryBudget.DEFAULT_RATIO;
+        private int retryBudgetReserve = RetryBudget.DEFAULT_RESERVE;
+
+        /**
+         * @param baseUrl API base URL ending in "/", e.g. a mirror or a stub server
+         */
+        public Builder baseUrl(String baseUrl) {
+            if (baseUrl == null || !baseUrl.endsWith("/")) {
+                throw new IllegalArgumentException("baseUrl must end in /: " + baseUrl);
+            }
+            this.baseUrl = baseUrl;
+            return this;
+        }
+
+        /**
+         * Start from an existing client, e.g. to share its pool and threads or keep its interceptors.
+         * The client itself is not modified.
+         */
+        public Builder client(OkHttpClient client) {
+            if (client == null) {
+                throw new IllegalArgumentException("client must not be null");
+            }
+            this.client = client;
+            return this;
+        }
+
+        /**
+         * Size the connection pool
+         * @param maxIdleConnections Idle connections kept for reuse
+         * @param keepAlive Time an idle connection is kept
+         * @param unit Unit of keepAlive
+         */
+        public Builder connectionPool(int maxIdleConnections, long keepAlive, TimeUnit unit) {
+            if (maxIdleConnections < 0 || keepAlive <= 0) {
+                throw new IllegalArgumentException("maxIdleConnections must not be negative and keepAlive must be positive");
+            }
+            this.maxIdleConnections = maxIdleConnections;
+            this.keepAliveMillis = unit.toMillis(keepAlive);
+            return this;
+        }
+
+        /**
+         * Maximum concurrent requests; more are queued by the client
+         */
+        public Builder maxRequests(int maxRequests) {
+            this.maxRequests = positive(maxRequests, "maxRequests");
+            return this;
+        }
+
+        /**
+         * Maximum concurrent requests to one host; more are queued by the client
+         */
+        public Builder maxRequestsPerHost(int maxRequestsPerHost) {
+            this.maxRequestsPerHost = positive(maxRequestsPerHost, "maxRequestsPerHost");
+            return this;
+        }
+
+        public Builder connectTimeout(long timeout, TimeUnit unit) {
+            this.connectTimeoutMillis = unit.toMillis(positive(timeout, "timeout"));
+            return this;
+        }
+
+        public Builder readTimeout(long timeout, TimeUnit unit) {
+            this.readTimeoutMillis = unit.toMillis(positive(timeout, "timeout"));
+            return this;
+        }
+
+        public Builder writeTimeout(long timeout, TimeUnit unit) {
+            this.writeTimeoutMillis = unit.toMillis(positive(timeout, "timeout"));
+            return this;
+        }
+
+        /**
+         * Limit a whole call: connecting, writing, server processing and reading
+         */
+        public Builder callTimeout(long timeout, TimeUnit unit) {
+            this.callTimeoutMillis = unit.toMillis(positive(timeout, "timeout"));
+            return this;
+        }
+
+        /**
+         * @param enabled false to always speak HTTP/1.1; true to use HTTP/2 where the
+         *                server negotiates it over TLS, which multiplexes requests to a
+         *                host over one connection
+         */
+        public Builder http2(boolean enabled) {
+            this.http2 = enabled;
+            return this;
+        }
+
+        /**
+         * Limit the request rate. The rate backs off when the server throttles
+         * and recovers as requests succeed.
+         *
+         * @param permitsPerSecond Maximum requests per second
+         * @param burst Requests that may be sent at once after an idle period
+         */
+        public Builder rateLimit(double permitsPerSecond, int burst) {
+            if (permitsPerSecond <= 0 || burst < 1) {
+                throw new IllegalArgumentException("permitsPerSecond and burst must be positive");
+            }
+            this.permitsPerSecond = permitsPerSecond;
+            this.burst = burst;
+            this.limited = true;
+            return this;
+        }
+
+        /**
+         * Bounds of the adaptive concurrency limit, which starts at max.
+         * A max above maxRequestsPerHost only queues requests inside the client.
+         * The limit backs off on HTTP 429 and 5xx responses and network failures,
+         * and on single-VIN responses slower than twice the fastest seen, and
+         * grows back as requests succeed.
+         *
+         * @param min Lowest the limit backs off to
+         * @param max Highest limit; defaults to maxRequestsPerHost
+         */
+        public Builder concurrencyLimit(int min, int max) {
+            if (min < 1 || max < min) {
+                throw new IllegalArgumentException("Need 1 <= min <= max");
+            }
+            this.minConcurrency = min;
+            this.maxConcurrency = max;
+            this.limited = true;
+            return this;
+        }
+
+        /**
+         * Bound the queue of requests waiting for the limits. Requests beyond it
+         * fail right away, and requests waiting longer than maxWait fail then, with
+         * a {@link RequestLimiter.RejectedException} as the cause.
+         *
+         * @param maxLength Requests that may wait
+         * @param maxWait Time a request may wait before it fails
+         * @param unit Unit of maxWait
+         */
+        public Builder requestQueue(int maxLength, long maxWait, TimeUnit unit) {
+            if (maxLength < 0 || maxWait < 0) {
+                throw new IllegalArgumentException("maxLength and maxWait must not be negative");
+            }
+            this.maxQueueLength = maxLength;
+            this.maxWaitMillis = unit.toMillis(maxWait);
+            this.limited = true;
+            return this;
+        }
+
+        /**
+         * Retries per single-VIN lookup; 0 turns retries off.
+         * Batch requests are POSTs and are not retried.
+         */
+        public Builder maxRetries(int maxRetries) {
+            if (maxRetries < 0) {
+                throw new IllegalArgumentException("maxRetries must not be negative");
+            }
+            this.maxRetries = maxRetries;
+            return this;
+        }
+
+        /**
+         * Backoff before the first retry, doubling per retry up to max, of which
+         * half is random. A Retry-After longer than max is not waited for.
+         */
+        public Builder retryBackoff(long initial, long max, TimeUnit unit) {
+            if (initial <= 0 || max < initial) {
+                throw new IllegalArgumentException("Need 0 < initial <= max");
+            }
+            this.initialBackoffMillis = unit.toMillis(initial);
+            this.maxBackoffMillis = unit.toMillis(max);
+            return this;
+        }
+
+        /**
+         * Send a second, hedged request when a single-VIN lookup takes longer than
+         * this percentile of recent lookups, e.g. 95; the first response wins
+         *
+         * @param latencyPercentile Percentile in (0, 100], or 0 to turn hedging off
+         */
+        public Builder hedging(double latencyPercentile) {
+            if (latencyPercentile < 0 || latencyPercentile > 100) {
+                throw new IllegalArgumentException("latencyPercentile must be in [0, 100]");
+            }
+            this.hedgePercentile = latencyPercentile;
+            return this;
+        }
+
+        /**
+         * Budget shared by retries and hedges
+         *
+         * @param ratio Sustained fraction of decodes that may send an extra request
+         * @param reserve Extra requests available after a healthy period
+         */
+        public Builder retryBudget(double ratio, int reserve) {
+            if (ratio < 0 || reserve < 0) {
+                throw new IllegalArgumentException("ratio and reserve must not be negative");
+            }
+            this.retryBudgetRatio = ratio;
+            this.retryBudgetReserve = reserve;
+            return this;
+        }
+
+        public VINDecoderService build() {
+            return new VINDecoderService(this);
+        }
+
+        private OkHttpClient buildClient() {
+            OkHttpClient.Builder builder = client != null ? client.newBuilder() : new OkHttpClient.Builder();
+            if (maxIdleConnections >= 0) {
+                builder.connectionPool(new ConnectionPool(maxIdleConnections, keepAliveMillis, TimeUnit.MILLISECONDS));
+            }
+            if (maxRequests > 0 || maxRequestsPerHost > 0) {
+                // A new dispatcher on the same threads, so the given client's limits stay untouched
+                Dispatcher dispatcher = client != null
+                        ? new Dispatcher(client.dispatcher().executorService())
+                        : new Dispatcher();
+                if (client != null) {
+                    dispatcher.setMaxRequests(client.dispatcher().getMaxRequests());
+                    dispatcher.setMaxRequestsPerHost(client.dispatcher().getMaxRequestsPerHost());
+                }
+                if (maxRequests > 0) {
+                    dispatcher.setMaxRequests(maxRequests);
+                }
+                if (maxRequestsPerHost > 0) {
+                    dispatcher.setMaxRequestsPerHost(maxRequestsPerHost);
+                }
+                builder.dispatcher(dispatcher);
+            }
+            if (connectTimeoutMillis > 0) {
+                builder.connectTimeout(connectTimeoutMillis, TimeUnit.MILLISECONDS);
+            }
+            if (readTimeoutMillis > 0) {
+                builder.readTimeout(readTimeoutMillis, TimeUnit.MILLISECONDS);
+            }
+            if (writeTimeoutMillis > 0) {
+                builder.writeTimeout(writeTimeoutMillis, TimeUnit.MILLISECONDS);
+            }
+            if (callTimeoutMillis > 0) {
+                builder.callTimeout(callTimeoutMillis, TimeUnit.MILLISECONDS);
+            }
+            if (http2 != null) {
+                builder.protocols(http2
+                        ? Arrays.asList(Protocol.HTTP_2, Protocol.HTTP_1_1)
+                        : Collections.singletonList(Protocol.HTTP_1_1));
+            }
+            return builder.build();
+        }
+
+        private static int positive(int value, String name) {
+            if (value <= 0) {
+                throw new IllegalArgumentException(name + " must be positive");
+            }
+            return value;
+        }
+
+        private static long positive(long value, String name) {
+            if (value <= 0) {
+                throw new IllegalArgumentException(name + " must be positive");
+            }
+            return value;
+        }
     }
 
     /**
@@ -74,104 +475,514 @@ public class VINDecoderService {
     /**
      * Decode a VIN asynchronously
      *
+     * Concurrent calls for the same VIN share a single API request.
+     *
      * @param vin The VIN to decode (17 characters for full VIN)
      * @param callback Callback for results
      */
     public void decodeVIN(String vin, VINDecoderCallback callback) {
+        decode(vin, callback);
+    }
+
+    /**
+     * Decode a VIN with a specific model year
+     *
+     * Concurrent calls for the same VIN and model year share a single API request.
+     *
+     * @param vin The VIN to decode
+     * @param modelYear The model year (helps with ambiguous decoding)
+     * @param callback Callback for results
+     */
+    public void decodeVINWithYear(String vin, String modelYear, VINDecoderCallback callback) {
+        decodeWithYear(vin, modelYear, callback);
+    }
+
+    /**
+     * Decode a VIN without a callback
+     *
+     * The future completes with the vehicle data, or exceptionally with a
+     * {@link VINDecodeException} carrying the error text decodeVIN reports.
+     * Dependent stages without an executor run on the thread that completes it,
+     * usually a Retrofit callback thread; timeouts complete it on the HTTP
+     * client's dispatcher threads.
+     *
+     * Cancelling the future stops waiting for the result; the API call itself is
+     * cancelled once no other caller shares it.
+     *
+     * @param vin The VIN to decode
+     * @return future of the decoded vehicle data
+     */
+    public CompletableFuture<VehicleData> decodeVINAsync(String vin) {
+        FutureCallback callback = new FutureCallback();
+        return callback.attach(decode(vin, callback), 0, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Decode a VIN without a callback, giving up after a timeout
+     *
+     * On timeout the future completes exceptionally with a TimeoutException and
+     * is handled like a cancellation.
+     *
+     * @param vin The VIN to decode
+     * @param timeout Maximum time to wait, including time spent joining a request in flight
+     * @param unit Unit of timeout
+     * @return future of the decoded vehicle data
+     * @see #decodeVINAsync(String)
+     */
+    public CompletableFuture<VehicleData> decodeVINAsync(String vin, long timeout, TimeUnit unit) {
+        requirePositive(timeout);
+        FutureCallback callback = new FutureCallback();
+        return callback.attach(decode(vin, callback), timeout, unit);
+    }
+
+    /**
+     * Decode a VIN with a specific model year without a callback
+     *
+     * @see #decodeVINAsync(String, long, TimeUnit)
+     */
+    public CompletableFuture<VehicleData> decodeVINWithYearAsync(String vin, String modelYear,
+                                                                 long timeout, TimeUnit unit) {
+        requirePositive(timeout);
+        FutureCallback callback = new FutureCallback();
+        return callback.attach(decodeWithYear(vin, modelYear, callback), timeout, unit);
+    }
+
+    /**
+     * Decode a VIN, blocking the calling thread until the result arrives
+     *
+     * Waits without holding a monitor, so callers can be virtual threads.
+     * The API call is cancelled on interrupt or timeout unless other callers share it.
+     *
+     * @param vin The VIN to decode
+     * @param timeout Maximum time to wait
+     * @param unit Unit of timeout
+     * @return decoded vehicle data
+     * @throws VINDecodeException if the VIN cannot be decoded
+     * @throws TimeoutException if no result arrived in time
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public VehicleData decodeVINSync(String vin, long timeout, TimeUnit unit)
+            throws VINDecodeException, TimeoutException, InterruptedException {
+        return await(decodeVINAsync(vin, timeout, unit));
+    }
+
+    /**
+     * Decode a VIN with a specific model year, blocking the calling thread until the result arrives
+     *
+     * @see #decodeVINSync(String, long, TimeUnit)
+     */
+    public VehicleData decodeVINWithYearSync(String vin, String modelYear, long timeout, TimeUnit unit)
+            throws VINDecodeException, TimeoutException, InterruptedException {
+        return await(decodeVINWithYearAsync(vin, modelYear, timeout, unit));
+    }
+
+    /**
+     * Starts a decode
+     * @return in-flight key the callback waits on, or null if it was answered right away
+     */
+    private String decode(String vin, VINDecoderCallback callback) {
         if (vin == null || vin.trim().isEmpty()) {
             callback.onError("VIN cannot be empty");
-            return;
+            return null;
         }
 
         final String normalizedVin = vin.trim().toUpperCase();
 
         // Check cache first
-        if (cache.containsKey(normalizedVin)) {
-            VehicleData cached = cache.get(normalizedVin);
-            if (cached != null) {
-                System.out.println(TAG + ": Returning cached VIN data for: " + normalizedVin);
-                callback.onSuccess(cached);
-                return;
+        VehicleData cached = cached(normalizedVin);
+        if (cached != null) {
+            System.out.println(TAG + ": Returning cached VIN data for: " + normalizedVin);
+            callback.onSuccess(cached);
+            return null;
+        }
+
+        // Make API call, or join the one already in flight
+        decodeShared(normalizedVin, callback,
+                () -> {
+                    System.out.println(TAG + ": Decoding VIN: " + normalizedVin);
+                    return apiService.decodeVIN(normalizedVin, "json");
+                },
+                normalizedVin);
+        return normalizedVin;
+    }
+
+    /**
+     * @see #decode(String, VINDecoderCallback)
+     */
+    private String decodeWithYear(String vin, String modelYear, VINDecoderCallback callback) {
+        if (vin == null || vin.trim().isEmpty()) {
+            callback.onError("VIN cannot be empty");
+            return null;
+        }
+
+        final String normalizedVin = vin.trim().toUpperCase();
+        final String cacheKey = normalizedVin + "_" + modelYear;
+
+        // Check cache first
+        VehicleData cached = cached(cacheKey);
+        if (cached != null) {
+            System.out.println(TAG + ": Returning cached VIN data for: " + normalizedVin + " year: " + modelYear);
+            callback.onSuccess(cached);
+            return null;
+        }
+
+        // Make API call with year, or join the one already in flight.
+        // Also cache without year.
+        decodeShared(cacheKey, callback,
+                () -> {
+                    System.out.println(TAG + ": Decoding VIN with year: " + normalizedVin + " " + modelYear);
+                    return apiService.decodeVINWithYear(normalizedVin, modelYear, "json");
+                },
+                cacheKey, normalizedVin);
+        return cacheKey;
+    }
+
+    private static void requirePositive(long timeout) {
+        if (timeout <= 0) {
+            throw new IllegalArgumentException("timeout must be positive");
+        }
+    }
+
+    /**
+     * Waits for a decode future, cancelling it if interrupted
+     */
+    private static VehicleData await(CompletableFuture<VehicleData> future)
+            throws VINDecodeException, TimeoutException, InterruptedException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            throw e;
+        } catch (CancellationException e) {
+            throw new VINDecodeException("VIN decode cancelled", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof VINDecodeException) {
+                throw (VINDecodeException) cause;
+            }
+            if (cause instanceof TimeoutException) {
+                throw (TimeoutException) cause;
             }
+            throw new VINDecodeException(String.valueOf(cause.getMessage()), cause);
         }
+    }
 
-        // Make API call
-        System.out.println(TAG + ": Decoding VIN: " + normalizedVin);
-        Call<VINResponse> call = apiService.decodeVIN(normalizedVin, "json");
+    /**
+     * Stops waiting on the in-flight request for key; cancels the API call if nobody else waits
+     */
+    private void leave(String key, VINDecoderCallback callback) {
+        InFlight flight = inFlight.get(key);
+        if (flight != null && flight.leave(callback)) {
+            inFlight.remove(key, flight);
+            System.out.println(TAG + ": Cancelled request for: " + key);
+        }
+    }
 
-        call.enqueue(new Callback<VINResponse>() {
-            @Override
-            public void onResponse(Call<VINResponse> call, Response<VINResponse> response) {
-                if (response.isSuccessful() && response.body() != null) {
-                    VINResponse vinResponse = response.body();
+    /**
+     * Completes a future from the callback; leaves the shared request when the
+     * future is cancelled or times out first
+     */
+    private final class FutureCallback implements VINDecoderCallback {
+        private final CompletableFuture<VehicleData> future = new CompletableFuture<>();
 
-                    if (vinResponse.hasValidData()) {
-                        VehicleData vehicleData = vinResponse.getVehicleData();
+        @Override
+        public void onSuccess(VehicleData vehicleData) {
+            future.complete(vehicleData);
+        }
 
-                        // Check for errors in the response
-                        if (vehicleData.isValid()) {
-                            // Cache the result
-                            cache.put(normalizedVin, vehicleData);
+        @Override
+        public void onError(String error) {
+            future.completeExceptionally(new VINDecodeException(error));
+        }
 
-                            System.out.println(TAG + ": Successfully decoded VIN: " + vehicleData.getDisplayName());
-                            callback.onSuccess(vehicleData);
-                        } else {
-                            String error = vinResponse.getErrorText();
-                            if (error == null || error.isEmpty()) {
-                                error = "Invalid VIN or no data available";
-                            }
-                            System.err.println(TAG + ": VIN decode error: " + error);
-                            callback.onError(error);
+        /**
+         * @param key In-flight key the callback waits on, or null
+         * @param timeout Timeout, or 0 for none
+         */
+        CompletableFuture<VehicleData> attach(String key, long timeout, TimeUnit unit) {
+            if (future.isDone()) {
+                return future;
+            }
+            if (timeout > 0) {
+                ScheduledFuture<?> timer = DaemonTimer.schedule(
+                        () -> future.completeExceptionally(new TimeoutException(
+                                "VIN decode timed out after " + timeout + " " + unit.toString().toLowerCase())),
+                        timeout, unit, executor);
+                future.whenComplete((vehicleData, error) -> timer.cancel(false));
+            }
+            if (key != null) {
+                future.whenComplete((vehicleData, error) -> leave(key, this));
+            }
+            return future;
+        }
+    }
+
+    /**
+     * Decode many VINs through the batch endpoint, blocking until all are done
+     *
+     * Uses up to {@value #DEFAULT_BATCH_PARALLELISM} concurrent requests.
+     *
+     * @param vins VINs to decode; blank entries are skipped and duplicates decoded once
+     * @return results keyed by normalized VIN, in input order
+     * @throws InterruptedException if interrupted while waiting; outstanding requests are cancelled
+     * @see #decodeVINs(Collection, int)
+     */
+    public Map<String, VehicleData> decodeVINs(Collection<String> vins) throws InterruptedException {
+        return decodeVINs(vins, DEFAULT_BATCH_PARALLELISM);
+    }
+
+    /**
+     * Decode many VINs through the batch endpoint, blocking until all are done
+     *
+     * Cached VINs are answered from the cache. The rest are sent in chunks of
+     * {@value #MAX_BATCH_SIZE}, with at most maxConcurrentRequests chunks in flight.
+     * Valid results are cached like single decodes.
+     *
+     * Every VIN gets an entry. If a chunk fails, its VINs map to VehicleData
+     * with error code "API_ERROR" and the same error text the single-VIN callback
+     * would have received.
+     *
+     * @param vins VINs to decode; blank entries are skipped and duplicates decoded once
+     * @param maxConcurrentRequests Maximum number of batch requests in flight
+     * @return results keyed by normalized VIN, in input order
+     * @throws InterruptedException if interrupted while waiting; outstanding requests are cancelled
+     */
+    public Map<String, VehicleData> decodeVINs(Collection<String> vins, int maxConcurrentRequests)
+            throws InterruptedException {
+        if (maxConcurrentRequests < 1) {
+            throw new IllegalArgumentException("maxConcurrentRequests must be at least 1");
+        }
+
+        // Null placeholders keep input order for VINs that still need decoding
+        Map<String, VehicleData> results = new LinkedHashMap<>();
+        List<String> pending = new ArrayList<>();
+        for (String vin : vins) {
+            if (vin == null || vin.trim().isEmpty()) {
+                continue;
+            }
+            String normalizedVin = vin.trim().toUpperCase();
+            if (results.containsKey(normalizedVin)) {
+                continue;
+            }
+            VehicleData cached = cached(normalizedVin);
+            results.put(normalizedVin, cached);
+            if (cached == null) {
+                pending.add(normalizedVin);
+            }
+        }
+        if (pending.isEmpty()) {
+            return results;
+        }
+
+        System.out.println(TAG + ": Batch decoding " + pending.size() + " VINs ("
+                + (results.size() - pending.size()) + " cached)");
+
+        int chunkCount = (pending.size() + MAX_BATCH_SIZE - 1) / MAX_BATCH_SIZE;
+        Map<String, VehicleData> decoded = new ConcurrentHashMap<>();
+        Semaphore permits = new Semaphore(maxConcurrentRequests);
+        CountDownLatch done = new CountDownLatch(chunkCount);
+        List<Runnable> cancels = new ArrayList<>(chunkCount);
+        try {
+            for (int from = 0; from < pending.size(); from += MAX_BATCH_SIZE) {
+                List<String> chunk = pending.subList(from, Math.min(from + MAX_BATCH_SIZE, pending.size()));
+                permits.acquire();
+                Call<VINResponse> call = apiService.decodeVINBatch(String.join(";", chunk), "json");
+                cancels.add(enqueue(call, false, new BatchCallback(chunk, decoded, permits, done), null));
+            }
+            done.await();
+        } catch (InterruptedException e) {
+            for (Runnable cancel : cancels) {
+                cancel.run();
+            }
+            throw e;
+        }
+
+        for (Map.Entry<String, VehicleData> entry : results.entrySet()) {
+            if (entry.getValue() == null) {
+                entry.setValue(decoded.get(entry.getKey()));
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Handles one batch response: caches valid results and fills in an entry for every VIN of the chunk
+     */
+    private final class BatchCallback implements Callback<VINResponse> {
+        private final List<String> chunk;
+        private final Map<String, VehicleData> decoded;
+        private final Semaphore permits;
+        private final CountDownLatch done;
+
+        BatchCallback(List<String> chunk, Map<String, VehicleData> decoded, Semaphore permits, CountDownLatch done) {
+            this.chunk = chunk;
+            this.decoded = decoded;
+            this.permits = permits;
+            this.done = done;
+        }
+
+        @Override
+        public void onResponse(Call<VINResponse> call, Response<VINResponse> response) {
+            try {
+                if (response.isSuccessful() && response.body() != null) {
+                    List<VehicleData> vehicles = response.body().results;
+                    if (vehicles != null) {
+                        for (int i = 0; i < vehicles.size(); i++) {
+                            merge(vehicles.get(i), i);
                         }
-                    } else {
-                        System.err.println(TAG + ": No valid data in response");
-                        callback.onError("No vehicle data found for this VIN");
+                    }
+                    for (String vin : chunk) {
+                        decoded.putIfAbsent(vin, batchError(vin, "No vehicle data found for this VIN"));
                     }
                 } else {
-                    System.err.println(TAG + ": API call unsuccessful: " + response.code());
-                    callback.onError("Failed to decode VIN. HTTP " + response.code());
+                    System.err.println(TAG + ": Batch API call unsuccessful: " + response.code());
+                    failChunk("Failed to decode VIN. HTTP " + response.code());
                 }
+            } finally {
+                permits.release();
+                done.countDown();
             }
+        }
 
-            @Override
-            public void onFailure(Call<VINResponse> call, Throwable t) {
-                System.err.println(TAG + ": API call failed: " + t.getMessage());
-                callback.onError("Network error: " + t.getMessage());
+        @Override
+        public void onFailure(Call<VINResponse> call, Throwable t) {
+            try {
+                System.err.println(TAG + ": Batch API call failed: " + t.getMessage());
+                failChunk(failure(t));
+            } finally {
+                permits.release();
+                done.countDown();
+            }
+        }
+
+        private void merge(VehicleData vehicleData, int position) {
+            if (vehicleData == null) {
+                return;
+            }
+            // Results echo their VIN; fall back to request order if one does not
+            String vin = vehicleData.getVin() != null && !vehicleData.getVin().trim().isEmpty()
+                    ? vehicleData.getVin().trim().toUpperCase()
+                    : position < chunk.size() ? chunk.get(position) : null;
+            if (vin == null || !chunk.contains(vin)) {
+                return;
             }
-        });
+            if (vehicleData.isValid()) {
+                store(vin, vehicleData);
+            }
+            decoded.put(vin, vehicleData);
+        }
+
+        private void failChunk(String error) {
+            for (String vin : chunk) {
+                decoded.put(vin, batchError(vin, error));
+            }
+        }
+    }
+
+    private static VehicleData batchError(String vin, String error) {
+        VehicleData vehicleData = new VehicleData();
+        vehicleData.setVin(vin);
+        vehicleData.setErrorCode("API_ERROR");
+        vehicleData.setErrorText(error);
+        return vehicleData;
     }
 
     /**
-     * Decode a VIN with a specific model year
-     *
-     * @param vin The VIN to decode
-     * @param modelYear The model year (helps with ambiguous decoding)
-     * @param callback Callback for results
+     * Callers waiting on one in-flight API request
      */
-    public void decodeVINWithYear(String vin, String modelYear, VINDecoderCallback callback) {
-        if (vin == null || vin.trim().isEmpty()) {
-            callback.onError("VIN cannot be empty");
-            return;
+    private static final class InFlight implements VINDecoderCallback {
+        private final List<VINDecoderCallback> callbacks = new ArrayList<>();
+        private boolean completed;
+        private RetryingCall call;
+
+        InFlight(VINDecoderCallback first) {
+            callbacks.add(first);
         }
 
-        final String normalizedVin = vin.trim().toUpperCase();
-        final String cacheKey = normalizedVin + "_" + modelYear;
+        /**
+         * @return false if the request already completed and the caller must look again
+         */
+        synchronized boolean join(VINDecoderCallback callback) {
+            if (completed) {
+                return false;
+            }
+            callbacks.add(callback);
+            return true;
+        }
 
-        // Check cache first
-        if (cache.containsKey(cacheKey)) {
-            VehicleData cached = cache.get(cacheKey);
+        /**
+         * Records the API call, cancelling it if every caller left before it was created
+         */
+        synchronized void started(RetryingCall call) {
+            this.call = call;
+            if (completed) {
+                call.cancel();
+            }
+        }
+
+        /**
+         * Removes a waiting caller; the last one to leave cancels the API call
+         * @return true if the request was abandoned and its key must be released
+         */
+        synchronized boolean leave(VINDecoderCallback callback) {
+            if (completed || !callbacks.remove(callback) || !callbacks.isEmpty()) {
+                return false;
+            }
+            completed = true;
+            if (call != null) {
+                call.cancel();
+            }
+            return true;
+        }
+
+        private synchronized List<VINDecoderCallback> complete() {
+            completed = true;
+            return callbacks;
+        }
+
+        @Override
+        public void onSuccess(VehicleData vehicleData) {
+            for (VINDecoderCallback callback : complete()) {
+                callback.onSuccess(vehicleData);
+            }
+        }
+
+        @Override
+        public void onError(String error) {
+            for (VINDecoderCallback callback : complete()) {
+                callback.onError(error);
+            }
+        }
+    }
+
+    /**
+     * Single-flight decode: the first caller for a key sends the request,
+     * concurrent callers for the same key wait for its result
+     *
+     * @param key In-flight key (normalized VIN, or VIN and model year)
+     * @param callback Callback for results
+     * @param request Creates the API call; only invoked by the first caller
+     * @param cacheKeys Keys to cache a successful result under
+     */
+    private void decodeShared(String key, VINDecoderCallback callback,
+                              Supplier<Call<VINResponse>> request, String... cacheKeys) {
+        final InFlight flight = new InFlight(callback);
+        InFlight existing;
+        while ((existing = inFlight.putIfAbsent(key, flight)) != null) {
+            if (existing.join(callback)) {
+                System.out.println(TAG + ": Joining in-flight request for: " + key);
+                return;
+            }
+            // Completed between our cache check and now; a success is cached by now
+            VehicleData cached = cached(key);
             if (cached != null) {
-                System.out.println(TAG + ": Returning cached VIN data for: " + normalizedVin + " year: " + modelYear);
                 callback.onSuccess(cached);
                 return;
             }
+            inFlight.remove(key, existing);
         }
 
-        // Make API call with year
-        System.out.println(TAG + ": Decoding VIN with year: " + normalizedVin + " " + modelYear);
-        Call<VINResponse> call = apiService.decodeVINWithYear(normalizedVin, modelYear, "json");
-
-        call.enqueue(new Callback<VINResponse>() {
+        Callback<VINResponse> handler = new Callback<VINResponse>() {
             @Override
             public void onResponse(Call<VINResponse> call, Response<VINResponse> response) {
                 if (response.isSuccessful() && response.body() != null) {
@@ -180,44 +991,166 @@ public class VINDecoderService {
                     if (vinResponse.hasValidData()) {
                         VehicleData vehicleData = vinResponse.getVehicleData();
 
+                        // Check for errors in the response
                         if (vehicleData.isValid()) {
-                            // Cache the result
-                            cache.put(cacheKey, vehicleData);
-                            cache.put(normalizedVin, vehicleData); // Also cache without year
+                            // Cache the result before releasing the key so late callers hit the cache
+                            for (String cacheKey : cacheKeys) {
+                                store(cacheKey, vehicleData);
+                            }
+                            inFlight.remove(key, flight);
 
                             System.out.println(TAG + ": Successfully decoded VIN: " + vehicleData.getDisplayName());
-                            callback.onSuccess(vehicleData);
+                            flight.onSuccess(vehicleData);
                         } else {
                             String error = vinResponse.getErrorText();
                             if (error == null || error.isEmpty()) {
                                 error = "Invalid VIN or no data available";
                             }
                             System.err.println(TAG + ": VIN decode error: " + error);
-                            callback.onError(error);
+                            fail(error);
                         }
                     } else {
                         System.err.println(TAG + ": No valid data in response");
-                        callback.onError("No vehicle data found for this VIN");
+                        fail("No vehicle data found for this VIN");
                     }
                 } else {
                     System.err.println(TAG + ": API call unsuccessful: " + response.code());
-                    callback.onError("Failed to decode VIN. HTTP " + response.code());
+                    fail("Failed to decode VIN. HTTP " + response.code());
                 }
             }
 
             @Override
             public void onFailure(Call<VINResponse> call, Throwable t) {
                 System.err.println(TAG + ": API call failed: " + t.getMessage());
-                callback.onError("Network error: " + t.getMessage());
+                fail(failure(t));
+            }
+
+            private void fail(String error) {
+                inFlight.remove(key, flight);
+                flight.onError(error);
             }
-        });
+        };
+        // Attempts, retries and hedges go through the request limiter
+        RetryingCall call = new RetryingCall(retryPolicy, request,
+                (attempt, attemptCallback, onSent) -> enqueue(attempt, true, attemptCallback, onSent), handler);
+        flight.started(call);
+        call.start();
     }
 
     /**
-     * Clear the VIN cache
+     * Sends a call once the request limiter allows it, and reports to the limiter how it ended
+     *
+     * @param latencySample Whether the latency is comparable to single-VIN requests
+     * @param onSent Runs just before the call goes to the HTTP client, or null
+     * @return cancels the call, or its wait for the limiter; the callback still
+     *         gets a failure either way
+     */
+    private Runnable enqueue(Call<VINResponse> call, boolean latencySample, Callback<VINResponse> callback,
+                             Runnable onSent) {
+        if (limiter == null) {
+            if (onSent != null) {
+                onSent.run();
+            }
+            call.enqueue(callback);
+            return call::cancel;
+        }
+        RequestLimiter.Waiter waiter = limiter.acquire(latencySample, permit -> {
+            if (onSent != null) {
+                onSent.run();
+            }
+            call.enqueue(new Callback<VINResponse>() {
+                @Override
+                public void onResponse(Call<VINResponse> call, Response<VINResponse> response) {
+                    int code = response.code();
+                    permit.release(code == 429 || code >= 500
+                            ? RequestLimiter.Outcome.DROPPED
+                            : RequestLimiter.Outcome.SUCCESS);
+                    callback.onResponse(call, response);
+                }
+
+                @Override
+                public void onFailure(Call<VINResponse> call, Throwable t) {
+                    permit.release(call.isCanceled()
+                            ? RequestLimiter.Outcome.IGNORED
+                            : RequestLimiter.Outcome.DROPPED);
+                    callback.onFailure(call, t);
+                }
+            });
+        }, rejected -> callback.onFailure(call, rejected));
+        return () -> {
+            call.cancel();
+            if (waiter.cancel()) {
+                // Never sent, so Retrofit will not report it
+                callback.onFailure(call, new IOException("Canceled"));
+            }
+        };
+    }
+
+    /**
+     * @return error text for a failed call
+     */
+    private static String failure(Throwable t) {
+        return t instanceof RequestLimiter.RejectedException ? t.getMessage() : "Network error: " + t.getMessage();
+    }
+
+    /**
+     * Get the retry budget, e.g. to read how many retries and hedges were sent
+     *
+     * @return the budget shared by all retries and hedges of this service
+     */
+    public RetryBudget getRetryBudget() {
+        return retryPolicy.budget;
+    }
+
+    /**
+     * Get the request limiter, e.g. to read the current limits and queue depth
+     *
+     * @return the limiter all API requests of this service pass, or null if the
+     *         service was built without limits
+     */
+    public RequestLimiter getRequestLimiter() {
+        return limiter;
+    }
+
+    /**
+     * Get the VIN cache, e.g. to read hit/miss/eviction counters
+     * or change its size limit and TTL
+     *
+     * @return the cache shared by all decode calls
+     */
+    public VINCache getCache() {
+        return cache;
+    }
+
+    /**
+     * Add a persistent cache tier behind the memory cache. Lookups that miss the
+     * memory cache try the disk cache, and every successful decode is written to
+     * both, so a restarted service answers previously decoded VINs without API calls.
+     *
+     * The service does not close the disk cache.
+     *
+     * @param diskCache Disk cache, or null to remove the tier
+     */
+    public void setDiskCache(VINDiskCache diskCache) {
+        this.diskCache = diskCache;
+    }
+
+    /**
+     * @return the persistent cache tier, or null if none is set
+     */
+    public VINDiskCache getDiskCache() {
+        return diskCache;
+    }
+
+    /**
+     * Clear the VIN cache, including the disk cache if one is set
      */
     public void clearCache() {
         cache.clear();
+        VINDiskCache disk = diskCache;
+        if (disk != null) {
+            disk.clear();
+        }
         System.out.println(TAG + ": VIN cache cleared");
     }
 
@@ -228,7 +1161,10 @@ public class VINDecoderService {
      * @return true if cached
      */
     public boolean isCached(String vin) {
-        return vin != null && cache.containsKey(vin.trim().toUpperCase());
+        if (vin == null) return false;
+        String key = vin.trim().toUpperCase();
+        VINDiskCache disk = diskCache;
+        return cache.containsKey(key) || (disk != null && disk.containsKey(key));
     }
 
     /**
@@ -239,6 +1175,32 @@ public class VINDecoderService {
      */
     public VehicleData getCached(String vin) {
         if (vin == null) return null;
-        return cache.get(vin.trim().toUpperCase());
+        return cached(vin.trim().toUpperCase());
+    }
+
+    /**
+     * Look up the memory cache, then the disk cache; disk hits are promoted to memory
+     */
+    private VehicleData cached(String key) {
+        VehicleData vehicleData = cache.get(key);
+        VINDiskCache disk = diskCache;
+        if (vehicleData == null && disk != null) {
+            vehicleData = disk.get(key);
+            if (vehicleData != null) {
+                cache.put(key, vehicleData);
+            }
+        }
+        return vehicleData;
+    }
+
+    /**
+     * Cache a successful decode in every tier
+     */
+    private void store(String key, VehicleData vehicleData) {
+        cache.put(key, vehicleData);
+        VINDiskCache disk = diskCache;
+        if (disk != null) {
+            disk.put(key, vehicleData);
+        }
     }
 }
@@ -0,0 +1,678 @@
+package io.github.vindecoder.nhtsa;
+
+import com.google.gson.Gson;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.CRC32;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Persistent second cache tier for decoded vehicle data
+ *
+ * An append-only, memory-mapped key/value file: every put, invalidation and
+ * clear appends a record, and opening the file replays them into an in-memory
+ * index of offsets. Values are deflated Gson JSON, so a restarted service serves
+ * previously decoded VINs without calling the API.
+ *
+ * Overwritten, invalidated and expired records stay in the file until a
+ * compaction rewrites it with the live entries only. Compaction runs on a
+ * background thread once dead records outweigh live ones; readers and writers
+ * are only blocked while the records appended in the meantime are copied over.
+ *
+ * The file is mapped once at its maximum size, so appends never remap it; on
+ * file systems without sparse files the maximum is allocated up front.
+ *
+ * Records carry a CRC, so a record torn by a crash ends the log on the next open
+ * instead of corrupting it. Writes reach the OS page cache right away and the disk
+ * on {@link #close()}; a machine crash may lose the most recent entries.
+ *
+ * Thread-safe. Expiry uses wall-clock time, as entries outlive the process.
+ * After {@link #close()} lookups miss and writes are ignored.
+ */
+public class VINDiskCache implements Closeable {
+
+    public static final long DEFAULT_MAXIMUM_BYTES = 256L << 20;
+    public static final long DEFAULT_TTL_DAYS = 30;
+
+    private static final int MAGIC = 0x56444331; // "VDC1"
+    /** Magic and current epoch */
+    private static final int HEADER_BYTES = 8;
+    private static final int EPOCH_OFFSET = 4;
+    /** Length and CRC of the payload */
+    private static final int RECORD_HEADER_BYTES = 8;
+    /** Epoch, write time and key length at the start of a payload */
+    private static final int PAYLOAD_PREFIX_BYTES = 4 + 8 + 2;
+    /** Files smaller than this are not worth compacting */
+    private static final long MIN_COMPACTION_BYTES = 1 << 20;
+
+    private static final Gson GSON = new Gson();
+
+    /**
+     * Location of a live record
+     */
+    private static final class Slot {
+        final long offset;
+        final int length;
+        final long expiresAt;
+
+        Slot(long offset, int length, long expiresAt) {
+            this.offset = offset;
+            this.length = length;
+            this.expiresAt = expiresAt;
+        }
+    }
+
+    private final File file;
+    private final long maximumBytes;
+    private final long ttlMillis;
+
+    private RandomAccessFile raf;
+    private FileChannel channel;
+    private MappedByteBuffer buffer;
+    /** Current epoch; records of older epochs were cleared */
+    private int epoch;
+    /** Offset the next record is appended at */
+    private long end;
+    private final Map<String, Slot> index = new HashMap<>();
+    private long liveBytes;
+    private boolean compacting;
+    /** Set when a compaction could not replace the file; stops automatic retries */
+    private boolean compactionFailed;
+    /** Incremented by clear and close, so a running compaction knows its snapshot is stale */
+    private int generation;
+    private boolean closed;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong compactions = new AtomicLong();
+
+    /**
+     * Opens or creates a cache file holding up to 256 MiB for 30 days
+     * @throws IOException if the file cannot be opened or is not a cache file
+     */
+    public VINDiskCache(File file) throws IOException {
+        this(file, DEFAULT_MAXIMUM_BYTES, DEFAULT_TTL_DAYS, TimeUnit.DAYS);
+    }
+
+    /**
+     * Opens or creates a cache file, loading its index
+     *
+     * @param file Cache file; created if missing
+     * @param maximumBytes Maximum file size; compaction drops the oldest entries to stay below it
+     * @param ttl Time an entry stays valid after it was written
+     * @param unit Unit of ttl
+     * @throws IOException if the file cannot be opened or is not a cache file
+     */
+    public VINDiskCache(File file, long maximumBytes, long ttl, TimeUnit unit) throws IOException {
+        if (maximumBytes < MIN_COMPACTION_BYTES || maximumBytes > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("maximumBytes must be between 1 MiB and 2 GiB");
+        }
+        if (ttl <= 0) {
+            throw new IllegalArgumentException("ttl must be positive");
+        }
+        this.file = file;
+        this.maximumBytes = maximumBytes;
+        this.ttlMillis = unit.toMillis(ttl);
+        synchronized (this) {
+            open();
+            scheduleCompactionIfNeeded();
+        }
+    }
+
+    /**
+     * Get a cached entry, counting a hit or a miss
+     *
+     * @param key Cache key (normalized VIN, or VIN and model year)
+     * @return VehicleData or null if not cached or expired
+     */
+    public VehicleData get(String key) {
+        byte[] value;
+        synchronized (this) {
+            value = readLocked(key);
+        }
+        if (value == null) {
+            misses.incrementAndGet();
+            return null;
+        }
+        hits.incrementAndGet();
+        return GSON.fromJson(new String(inflate(value), StandardCharsets.UTF_8), VehicleData.class);
+    }
+
+    /**
+     * Check for a live entry without counting a hit or a miss
+     */
+    public synchronized boolean containsKey(String key) {
+        return liveSlot(key) != null;
+    }
+
+    /**
+     * Add or replace an entry. Entries that would not fit the maximum size are not stored.
+     *
+     * @param key Cache key
+     * @param value Decoded vehicle data
+     */
+    public void put(String key, VehicleData value) {
+        if (key == null || value == null) {
+            return;
+        }
+        byte[] bytes = deflate(GSON.toJson(value).getBytes(StandardCharsets.UTF_8));
+        synchronized (this) {
+            append(key, bytes);
+        }
+    }
+
+    /**
+     * Remove an entry
+     */
+    public synchronized void invalidate(String key) {
+        if (key != null && index.containsKey(key)) {
+            append(key, null);
+        }
+    }
+
+    /**
+     * Remove all entries. Counters are kept.
+     */
+    public synchronized void clear() {
+        if (closed) {
+            return;
+        }
+        generation++;
+        epoch++;
+        buffer.putInt(EPOCH_OFFSET, epoch);
+        index.clear();
+        liveBytes = 0;
+        end = HEADER_BYTES;
+    }
+
+    /**
+     * @return number of entries, including expired entries not yet dropped
+     */
+    public synchronized int size() {
+        return index.size();
+    }
+
+    /**
+     * @return bytes of records in the file, live or not
+     */
+    public synchronized long fileBytes() {
+        return end;
+    }
+
+    /**
+     * @return bytes of live records
+     */
+    public synchronized long liveBytes() {
+        return liveBytes;
+    }
+
+    /**
+     * @return lookups through {@link #get(String)} that found a live entry
+     */
+    public long getHitCount() {
+        return hits.get();
+    }
+
+    /**
+     * @return lookups through {@link #get(String)} that found nothing or an expired entry
+     */
+    public long getMissCount() {
+        return misses.get();
+    }
+
+    /**
+     * @return completed compactions
+     */
+    public long getCompactionCount() {
+        return compactions.get();
+    }
+
+    /**
+     * Rewrites the file with only its live entries, on the calling thread
+     * @throws IOException if the new file cannot be written; the current file stays in use
+     */
+    public void compact() throws IOException {
+        synchronized (this) {
+            while (compacting) {
+                try {
+                    wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IOException("Interrupted while waiting for a compaction", e);
+                }
+            }
+            if (closed) {
+                return;
+            }
+            compacting = true;
+        }
+        runCompaction();
+    }
+
+    /**
+     * Flushes the file to disk and releases it
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        generation++;
+        buffer.force();
+        release();
+    }
+
+    @Override
+    public String toString() {
+        return "VINDiskCache{file=" + file + ", size=" + size() + ", bytes=" + liveBytes() + "/" + fileBytes()
+                + ", hits=" + getHitCount() + ", misses=" + getMissCount()
+                + ", compactions=" + getCompactionCount() + "}";
+    }
+
+    private void open() throws IOException {
+        long size = map();
+        try {
+            if (size == 0) {
+                buffer.putInt(0, MAGIC);
+                buffer.putInt(EPOCH_OFFSET, 0);
+            } else if (size < HEADER_BYTES || buffer.getInt(0) != MAGIC) {
+                throw new IOException("Not a VIN disk cache: " + file);
+            }
+        } catch (IOException | RuntimeException e) {
+            release();
+            throw e;
+        }
+        epoch = buffer.getInt(EPOCH_OFFSET);
+        end = replay(buffer, HEADER_BYTES, buffer.capacity(), index, 0);
+    }
+
+    /**
+     * Opens the file and maps it once, at least at the maximum size, so that
+     * appends never have to remap it
+     * @return file size before mapping
+     */
+    private long map() throws IOException {
+        raf = new RandomAccessFile(file, "rw");
+        try {
+            channel = raf.getChannel();
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("Cache file " + file + " exceeds 2 GiB");
+            }
+            buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, Math.max(size, maximumBytes));
+            return size;
+        } catch (IOException | RuntimeException e) {
+            release();
+            throw e;
+        }
+    }
+
+    /**
+     * Closes the file and drops the mapping, so that the file can be replaced
+     * once the collector has unmapped it
+     */
+    private void release() throws IOException {
+        buffer = null;
+        channel = null;
+        RandomAccessFile open = raf;
+        raf = null;
+        if (open != null) {
+            open.close();
+        }
+    }
+
+    /**
+     * Applies the records of source from offset until the first record that is
+     * missing, torn or of another epoch
+     * @param shift Added to the offsets of the slots, for records that are copied elsewhere
+     * @return offset after the last applied record
+     */
+    private long replay(ByteBuffer source, long offset, long limit, Map<String, Slot> target, long shift) {
+        long now = System.currentTimeMillis();
+        while (offset + RECORD_HEADER_BYTES + PAYLOAD_PREFIX_BYTES <= limit) {
+            int position = (int) offset;
+            int payloadLength = source.getInt(position);
+            if (payloadLength < PAYLOAD_PREFIX_BYTES || offset + RECORD_HEADER_BYTES + payloadLength > limit) {
+                break;
+            }
+            byte[] bytes = new byte[payloadLength];
+            get(source, position + RECORD_HEADER_BYTES, bytes);
+            ByteBuffer payload = ByteBuffer.wrap(bytes);
+            if (crc(bytes) != source.getInt(position + 4) || payload.getInt(0) != epoch) {
+                break;
+            }
+            long writtenAt = payload.getLong(4);
+            int keyLength = payload.getShort(12) & 0xFFFF;
+            if (PAYLOAD_PREFIX_BYTES + keyLength > payloadLength) {
+                break;
+            }
+            String key = new String(bytes, PAYLOAD_PREFIX_BYTES, keyLength, StandardCharsets.UTF_8);
+            int length = RECORD_HEADER_BYTES + payloadLength;
+            boolean tombstone = payloadLength == PAYLOAD_PREFIX_BYTES + keyLength;
+            Slot slot = tombstone || writtenAt + ttlMillis <= now ? null : new Slot(offset + shift, length, writtenAt + ttlMillis);
+            apply(target, key, slot);
+            offset += length;
+        }
+        return offset;
+    }
+
+    private void apply(Map<String, Slot> target, String key, Slot slot) {
+        Slot previous = slot != null ? target.put(key, slot) : target.remove(key);
+        if (target == index) {
+            if (previous != null) {
+                liveBytes -= previous.length;
+            }
+            if (slot != null) {
+                liveBytes += slot.length;
+            }
+        }
+    }
+
+    private void append(String key, byte[] value) {
+        if (closed) {
+            return;
+        }
+        byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+        if (keyBytes.length > 0xFFFF) {
+            throw new IllegalArgumentException("Key too long: " + key);
+        }
+        int payloadLength = PAYLOAD_PREFIX_BYTES + keyBytes.length + (value != null ? value.length : 0);
+        long recordEnd = end + RECORD_HEADER_BYTES + payloadLength;
+        if (recordEnd > maximumBytes) {
+            // Full: drop the write, compaction makes room for the next ones
+            scheduleCompaction();
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        ByteBuffer payload = ByteBuffer.allocate(payloadLength);
+        payload.putInt(epoch).putLong(now).putShort((short) keyBytes.length).put(keyBytes);
+        if (value != null) {
+            payload.put(value);
+        }
+        int position = (int) end;
+        put(buffer, position + RECORD_HEADER_BYTES, payload.array());
+        buffer.putInt(position + 4, crc(payload.array()));
+        // Length last: a record without one ends the log
+        buffer.putInt(position, payloadLength);
+
+        apply(index, key, value != null ? new Slot(end, RECORD_HEADER_BYTES + payloadLength, now + ttlMillis) : null);
+        end = recordEnd;
+        scheduleCompactionIfNeeded();
+    }
+
+    private Slot liveSlot(String key) {
+        if (closed) {
+            return null;
+        }
+        Slot slot = index.get(key);
+        if (slot != null && slot.expiresAt <= System.currentTimeMillis()) {
+            apply(index, key, null);
+            scheduleCompactionIfNeeded();
+            return null;
+        }
+        return slot;
+    }
+
+    private byte[] readLocked(String key) {
+        Slot slot = liveSlot(key);
+        if (slot == null) {
+            return null;
+        }
+        int payload = (int) slot.offset + RECORD_HEADER_BYTES;
+        int keyLength = buffer.getShort(payload + 12) & 0xFFFF;
+        int valueOffset = payload + PAYLOAD_PREFIX_BYTES + keyLength;
+        byte[] value = new byte[(int) (slot.offset + slot.length) - valueOffset];
+        get(buffer, valueOffset, value);
+        return value;
+    }
+
+    private void scheduleCompactionIfNeeded() {
+        if (!compactionFailed && end >= MIN_COMPACTION_BYTES && end - HEADER_BYTES - liveBytes > liveBytes) {
+            scheduleCompaction();
+        }
+    }
+
+    private void scheduleCompaction() {
+        if (compacting || closed) {
+            return;
+        }
+        compacting = true;
+        Thread thread = new Thread(() -> {
+            try {
+                runCompaction();
+            } catch (IOException | RuntimeException e) {
+                System.err.println("VINDiskCache: Compaction of " + file + " failed: " + e.getMessage());
+                synchronized (this) {
+                    compactionFailed = true;
+                }
+            }
+        }, "VINDiskCache-compaction");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Copies the live records to a new file, then, under the lock, the records
+     * appended meanwhile, and swaps the files. Requires compacting to be set.
+     */
+    private void runCompaction() throws IOException {
+        File compacted = new File(file.getPath() + ".compact");
+        RandomAccessFile target = null;
+        boolean swapped = false;
+        try {
+            ByteBuffer source;
+            List<Map.Entry<String, Slot>> live;
+            long snapshotEnd;
+            int snapshotGeneration;
+            int snapshotEpoch;
+            synchronized (this) {
+                if (closed) {
+                    return;
+                }
+                source = buffer;
+                // Copies: the index's own entries change with later puts
+                live = new ArrayList<>(index.size());
+                for (Map.Entry<String, Slot> entry : index.entrySet()) {
+                    live.add(new AbstractMap.SimpleImmutableEntry<>(entry));
+                }
+                snapshotEnd = end;
+                snapshotGeneration = generation;
+                snapshotEpoch = epoch;
+            }
+            // Write order is offset order; keep the newest entries that fit in half the maximum
+            Collections.sort(live, (a, b) -> Long.compare(a.getValue().offset, b.getValue().offset));
+            long budget = maximumBytes / 2 - HEADER_BYTES;
+            int first = live.size();
+            long now = System.currentTimeMillis();
+            while (first > 0 && live.get(first - 1).getValue().length <= budget) {
+                Slot slot = live.get(first - 1).getValue();
+                if (slot.expiresAt > now) {
+                    budget -= slot.length;
+                }
+                first--;
+            }
+
+            target = new RandomAccessFile(compacted, "rw");
+            target.setLength(0);
+            FileChannel out = target.getChannel();
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+            header.putInt(MAGIC).putInt(snapshotEpoch).flip();
+            writeFully(out, header, 0);
+            long position = HEADER_BYTES;
+            Map<String, Slot> moved = new HashMap<>();
+            long movedBytes = 0;
+            for (int i = first; i < live.size(); i++) {
+                Slot slot = live.get(i).getValue();
+                if (slot.expiresAt <= now) {
+                    continue;
+                }
+                writeFully(out, slice(source, slot.offset, slot.length), position);
+                moved.put(live.get(i).getKey(), new Slot(position, slot.length, slot.expiresAt));
+                movedBytes += slot.length;
+                position += slot.length;
+            }
+
+            synchronized (this) {
+                if (closed || generation != snapshotGeneration) {
+                    return;
+                }
+                // Entries touched after the snapshot are replayed from the tail below
+                long tailBytes = end - snapshotEnd;
+                if (position + tailBytes > maximumBytes) {
+                    return;
+                }
+                if (tailBytes > 0) {
+                    writeFully(out, slice(buffer, snapshotEnd, (int) tailBytes), position);
+                }
+                Map<String, Slot> rebuilt = new HashMap<>(moved);
+                if (replay(buffer, snapshotEnd, end, rebuilt, position - snapshotEnd) != end) {
+                    return;
+                }
+                target.close();
+                // Neither file may be open or mapped by us while one replaces the other
+                buffer.force();
+                release();
+                try {
+                    move(compacted, file);
+                } catch (IOException e) {
+                    remap();
+                    throw e;
+                }
+                swapped = true;
+                remap();
+                compactionFailed = false;
+                index.clear();
+                index.putAll(rebuilt);
+                liveBytes = 0;
+                for (Slot slot : rebuilt.values()) {
+                    liveBytes += slot.length;
+                }
+                end = position + tailBytes;
+                compactions.incrementAndGet();
+            }
+        } finally {
+            synchronized (this) {
+                compacting = false;
+                notifyAll();
+            }
+            if (!swapped) {
+                if (target != null) {
+                    target.close();
+                }
+                compacted.delete();
+            }
+        }
+    }
+
+    /**
+     * Maps the file again after a compaction released it; if that fails the
+     * cache closes, as it has no file left to serve from
+     */
+    private void remap() throws IOException {
+        try {
+            map();
+        } catch (IOException | RuntimeException e) {
+            closed = true;
+            generation++;
+            throw e;
+        }
+    }
+
+    private static void move(File source, File target) throws IOException {
+        try {
+            Files.move(source.toPath(), target.toPath(),
+                    StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source.toPath(), target.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static ByteBuffer slice(ByteBuffer source, long offset, int length) {
+        ByteBuffer slice = source.duplicate();
+        slice.limit((int) offset + length).position((int) offset);
+        return slice;
+    }
+
+    private static void writeFully(FileChannel out, ByteBuffer data, long position) throws IOException {
+        while (data.hasRemaining()) {
+            position += out.write(data, position);
+        }
+    }
+
+    private static int crc(byte[] bytes) {
+        CRC32 crc = new CRC32();
+        crc.update(bytes, 0, bytes.length);
+        return (int) crc.getValue();
+    }
+
+    private static void put(ByteBuffer target, int offset, byte[] bytes) {
+        ByteBuffer view = target.duplicate();
+        view.position(offset);
+        view.put(bytes);
+    }
+
+    private static void get(ByteBuffer source, int offset, byte[] bytes) {
+        ByteBuffer view = source.duplicate();
+        view.position(offset);
+        view.get(bytes);
+    }
+
+    private static byte[] deflate(byte[] data) {
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            deflater.setInput(data);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(data.length / 2 + 16);
+            byte[] chunk = new byte[1024];
+            while (!deflater.finished()) {
+                out.write(chunk, 0, deflater.deflate(chunk));
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static byte[] inflate(byte[] data) {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(data);
+            ByteArrayOutputStream out = new ByteArrayOutputStream(data.length * 4);
+            byte[] chunk = new byte[1024];
+            while (!inflater.finished()) {
+                int read = inflater.inflate(chunk);
+                if (read == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new IllegalStateException("Truncated cache record");
+                }
+                out.write(chunk, 0, read);
+            }
+            return out.toByteArray();
+        } catch (DataFormatException e) {
+            throw new IllegalStateException("Corrupt cache record", e);
+        } finally {
+            inflater.end();
+        }
+    }
+}
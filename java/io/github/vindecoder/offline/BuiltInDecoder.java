@@ -0,0 +1,117 @@
+package io.github.vindecoder.offline;
+
+import io.github.vindecoder.nhtsa.VehicleData;
+
+/**
+ * Manufacturer decoders shipped with the library, in routing priority order
+ *
+ * A WMI is routed to the first decoder whose keywords appear in the WMI's
+ * manufacturer name or whose prefixes start the WMI. The decoder classes and
+ * their code tables are only loaded when a VIN of that manufacturer is decoded.
+ */
+enum BuiltInDecoder implements ManufacturerDecoder {
+
+    MERCEDES_BENZ("Mercedes-Benz", new String[] {"Mercedes"}, "4JG", "WD") {
+        @Override
+        void decodeFields(VinView vin, VehicleData vehicleData) {
+            MercedesBenzDecoder.decode(vin, vehicleData);
+        }
+    },
+
+    FORD("Ford", new String[] {"Ford"}, "1F", "2F", "3F") {
+        @Override
+        void decodeFields(VinView vin, VehicleData vehicleData) {
+            FordDecoder.decode(vin, vehicleData);
+        }
+    },
+
+    GM("General Motors", new String[] {"GM", "Chevrolet", "Cadillac", "Buick", "GMC"}, "1G", "2G", "3G") {
+        @Override
+        void decodeFields(VinView vin, VehicleData vehicleData) {
+            GMDecoder.decode(vin, vehicleData);
+        }
+    },
+
+    TOYOTA("Toyota", new String[] {"Toyota", "Lexus"}, "4T", "5T", "JT") {
+        @Override
+        void decodeFields(VinView vin, VehicleData vehicleData) {
+            ToyotaDecoder.decode(vin, vehicleData);
+        }
+    };
+
+    private final String name;
+    /** Matched anywhere in the WMI's manufacturer name */
+    private final String[] keywords;
+    /** Matched against the start of the WMI */
+    private final String[] wmiPrefixes;
+
+    BuiltInDecoder(String name, String[] keywords, String... wmiPrefixes) {
+        this.name = name;
+        this.keywords = keywords;
+        this.wmiPrefixes = wmiPrefixes;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Runs the manufacturer decoder directly on vehicleData. The decoders also report
+     * their own make and plant country (e.g. Chevrolet for a General Motors WMI); the
+     * offline result keeps the WMI database values for those, as it always has.
+     */
+    @Override
+    public final void decode(String vin, VehicleData vehicleData) {
+        decode(VinView.of(vin), vehicleData);
+    }
+
+    @Override
+    public final void decode(VinView vin, VehicleData vehicleData) {
+        String make = vehicleData.make;
+        String plantCountry = vehicleData.plantCountry;
+        vehicleData.make = null;
+
+        decodeFields(vin, vehicleData);
+
+        vehicleData.make = make;
+        vehicleData.plantCountry = plantCountry;
+    }
+
+    /**
+     * Writes the manufacturer-specific fields into vehicleData
+     */
+    abstract void decodeFields(VinView vin, VehicleData vehicleData);
+
+    /**
+     * Finds the decoder for a WMI; only WMIs with a known manufacturer are routed
+     * @param manufacturer Manufacturer name from the WMI database, or null
+     * @param wmi WMI, or its first 2 characters when the third is not a VIN character
+     * @return decoder, or null if none applies
+     */
+    static BuiltInDecoder route(String manufacturer, String wmi) {
+        if (manufacturer == null) {
+            return null;
+        }
+        for (BuiltInDecoder decoder : values()) {
+            if (decoder.matches(manufacturer, wmi)) {
+                return decoder;
+            }
+        }
+        return null;
+    }
+
+    private boolean matches(String manufacturer, String wmi) {
+        for (String keyword : keywords) {
+            if (manufacturer.contains(keyword)) {
+                return true;
+            }
+        }
+        for (String prefix : wmiPrefixes) {
+            if (wmi.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
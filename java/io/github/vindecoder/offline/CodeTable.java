@@ -0,0 +1,63 @@
+package io.github.vindecoder.offline;
+
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * Immutable lookup table keyed by {@link VinView#code} values
+ *
+ * Lets the manufacturer decoders look up VIN sections without building a
+ * String key: keys are packed codes kept sorted for a binary search.
+ */
+final class CodeTable<V> {
+
+    private final int[] codes;
+    private final Object[] values;
+
+    private CodeTable(int[] codes, Object[] values) {
+        this.codes = codes;
+        this.values = values;
+    }
+
+    /**
+     * @param map Keys of up to 4 ASCII characters and their values
+     */
+    static <V> CodeTable<V> of(Map<String, V> map) {
+        int[] codes = new int[map.size()];
+        int size = 0;
+        for (String key : map.keySet()) {
+            codes[size++] = VinView.code(key);
+        }
+        Arrays.sort(codes);
+
+        Object[] values = new Object[size];
+        for (Map.Entry<String, V> entry : map.entrySet()) {
+            values[Arrays.binarySearch(codes, VinView.code(entry.getKey()))] = entry.getValue();
+        }
+        return new CodeTable<>(codes, values);
+    }
+
+    /**
+     * @return value for code, or null
+     */
+    V get(int code) {
+        int index = indexOf(code);
+        return index >= 0 ? valueAt(index) : null;
+    }
+
+    /**
+     * @return dense index of code in [0, size()), or a negative number if absent
+     */
+    int indexOf(int code) {
+        return Arrays.binarySearch(codes, code);
+    }
+
+    @SuppressWarnings("unchecked")
+    V valueAt(int index) {
+        return (V) values[index];
+    }
+
+    int size() {
+        return codes.length;
+    }
+}
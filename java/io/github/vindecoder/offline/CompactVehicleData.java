@@ -0,0 +1,376 @@
+package io.github.vindecoder.offline;
+
+import io.github.vindecoder.nhtsa.VehicleData;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Compact, immutable form of a decoded {@link VehicleData}
+ *
+ * Meant for holding large numbers of decoded vehicles in memory. Only fields
+ * with a value are stored, as (field, code) pairs in one char array:
+ * <ul>
+ *   <li>Fields with a fixed vPIC vocabulary, such as make, region, country,
+ *       body class or fuel type, are codes into dictionaries shared by all
+ *       instances, one per field</li>
+ *   <li>WMI, VDS, VIS and sequential number are recreated from the VIN</li>
+ *   <li>An untouched offline results list is recreated from the fields</li>
+ *   <li>Anything else, e.g. model, engine model or error text, is kept as is in
+ *       the instance, so open-ended values are released with it</li>
+ * </ul>
+ * An offline decode takes a fraction of the heap of the VehicleData it was
+ * made from. {@link #toVehicleData()} converts back without loss, e.g. for Gson.
+ *
+ * Usage:
+ * <pre>
+ * CompactVehicleData compact = CompactVehicleData.of(decoder.decode(vin));
+ * String make = compact.getMake();
+ * String json = gson.toJson(compact.toVehicleData());
+ * </pre>
+ */
+public final class CompactVehicleData {
+
+    /** String fields of VehicleData other than vin, in declaration order */
+    private static final Field[] FIELDS = stringFields();
+    /** Dictionary by field index; null for fields without a fixed vocabulary */
+    private static final Dictionary[] DICTIONARIES = new Dictionary[FIELDS.length];
+    /** Fields whose values come from a fixed vPIC vocabulary */
+    private static final String[] ENUMERATED = {
+        "make", "manufacturer", "manufacturerName", "modelYear", "plantCountry", "plantState", "plantCode",
+        "vehicleType", "region", "bodyClass", "doors", "windows", "engineCylinders", "fuelTypePrimary",
+        "fuelTypeSecondary", "driveType", "transmissionStyle", "transmissionSpeeds", "abs", "airBagLocCurtain",
+        "airBagLocFront", "airBagLocKnee", "airBagLocSeatCushion", "airBagLocSide", "seatBeltsAll",
+        "electrificationLevel", "chargerLevel", "batteryType", "gvwr", "errorCode"
+    };
+
+    private static final int MAKE = index("make");
+    private static final int MANUFACTURER = index("manufacturer");
+    private static final int MANUFACTURER_NAME = index("manufacturerName");
+    private static final int MODEL = index("model");
+    private static final int MODEL_YEAR = index("modelYear");
+    private static final int PLANT_CITY = index("plantCity");
+    private static final int PLANT_COUNTRY = index("plantCountry");
+    private static final int PLANT_STATE = index("plantState");
+    private static final int PLANT_CODE = index("plantCode");
+    private static final int VEHICLE_TYPE = index("vehicleType");
+    private static final int WMI = index("wmi");
+    private static final int VDS = index("vds");
+    private static final int VIS = index("vis");
+    private static final int SEQUENTIAL_NUMBER = index("sequentialNumber");
+    private static final int REGION = index("region");
+    private static final int BODY_CLASS = index("bodyClass");
+    private static final int DOORS = index("doors");
+    private static final int ENGINE_CYLINDERS = index("engineCylinders");
+    private static final int DISPLACEMENT_L = index("displacementL");
+    private static final int ENGINE_MODEL = index("engineModel");
+    private static final int FUEL_TYPE_PRIMARY = index("fuelTypePrimary");
+    private static final int DRIVE_TYPE = index("driveType");
+    private static final int TRANSMISSION_STYLE = index("transmissionStyle");
+    private static final int TRANSMISSION_SPEEDS = index("transmissionSpeeds");
+    private static final int GVWR = index("gvwr");
+    private static final int CURB_WEIGHT = index("curbWeight");
+    private static final int TRIM = index("trim");
+    private static final int MESSAGE = index("message");
+    private static final int ERROR_CODE = index("errorCode");
+    private static final int ERROR_TEXT = index("errorText");
+
+    /** VIN ranges of the fields that are sections of the VIN, by field index; null for other fields */
+    private static final int[][] VIN_RANGES = new int[FIELDS.length][];
+
+    static {
+        VIN_RANGES[WMI] = new int[] {0, 3};
+        VIN_RANGES[VDS] = new int[] {3, 9};
+        VIN_RANGES[VIS] = new int[] {9, 17};
+        VIN_RANGES[SEQUENTIAL_NUMBER] = new int[] {11, 17};
+        for (String name : ENUMERATED) {
+            DICTIONARIES[index(name)] = new Dictionary();
+        }
+    }
+
+    /** Set on a field index: the code is an index into extras */
+    private static final char EXTRA = 0x8000;
+    /** Code of a value that is the field's section of the VIN */
+    private static final char FROM_VIN = 0xFFFF;
+    private static final int NO_COUNT = Integer.MIN_VALUE;
+
+    private final String vin;
+    /** (field index, code) pairs in field order */
+    private final char[] entries;
+    /** Values not in a dictionary; null if there are none */
+    private final String[] extras;
+    /** Results list, unless it is recreated from the fields */
+    private final List<VehicleData.Result> results;
+    private final boolean resultsFromFields;
+    private final int count;
+    private final boolean valid;
+
+    private CompactVehicleData(String vin, char[] entries, String[] extras, List<VehicleData.Result> results,
+                               boolean resultsFromFields, int count, boolean valid) {
+        this.vin = vin;
+        this.entries = entries;
+        this.extras = extras;
+        this.results = results;
+        this.resultsFromFields = resultsFromFields;
+        this.count = count;
+        this.valid = valid;
+    }
+
+    /**
+     * Compacts a decode result. Later changes to vehicleData are not reflected.
+     * @param vehicleData Offline or NHTSA decode result
+     * @return compact copy
+     */
+    public static CompactVehicleData of(VehicleData vehicleData) {
+        if (vehicleData instanceof LazyVehicleData) {
+            // Its VIN fields are only created by their getters
+            ((LazyVehicleData) vehicleData).fill();
+        }
+        String vin = vehicleData.vin;
+        char[] entries = new char[FIELDS.length * 2];
+        int size = 0;
+        List<String> extras = null;
+
+        for (int field = 0; field < FIELDS.length; field++) {
+            String value = read(vehicleData, field);
+            if (value == null) {
+                continue;
+            }
+            int code = isVinSection(vin, field, value) ? FROM_VIN : -1;
+            if (code < 0 && DICTIONARIES[field] != null) {
+                code = DICTIONARIES[field].code(value);
+            }
+            if (code >= 0) {
+                entries[size++] = (char) field;
+            } else {
+                if (extras == null) {
+                    extras = new ArrayList<>();
+                }
+                entries[size++] = (char) (field | EXTRA);
+                code = extras.size();
+                extras.add(value);
+            }
+            entries[size++] = (char) code;
+        }
+
+        boolean resultsFromFields = vehicleData.results instanceof DecodedResults
+                && ((DecodedResults) vehicleData.results).isDerivedFrom(vehicleData);
+        return new CompactVehicleData(vin, Arrays.copyOf(entries, size),
+                extras == null ? null : extras.toArray(new String[0]),
+                resultsFromFields ? null : vehicleData.results, resultsFromFields,
+                vehicleData.count == null ? NO_COUNT : vehicleData.count, vehicleData.valid);
+    }
+
+    /**
+     * Converts back to a VehicleData equal to the one this was made from
+     * @return new VehicleData
+     */
+    public VehicleData toVehicleData() {
+        VehicleData vehicleData = new VehicleData();
+        vehicleData.vin = vin;
+        for (int i = 0; i < entries.length; i += 2) {
+            int field = entries[i] & ~EXTRA;
+            write(vehicleData, field, value(i));
+        }
+        vehicleData.valid = valid;
+        vehicleData.count = count == NO_COUNT ? null : count;
+        vehicleData.results = resultsFromFields ? DecodedResults.of(vehicleData) : results;
+        return vehicleData;
+    }
+
+    /**
+     * @return value of a field, or null if it has none
+     */
+    private String get(int field) {
+        for (int i = 0; i < entries.length; i += 2) {
+            int entryField = entries[i] & ~EXTRA;
+            if (entryField == field) {
+                return value(i);
+            }
+            if (entryField > field) {
+                break;
+            }
+        }
+        return null;
+    }
+
+    private String value(int entry) {
+        int field = entries[entry] & ~EXTRA;
+        char code = entries[entry + 1];
+        if ((entries[entry] & EXTRA) != 0) {
+            return extras[code];
+        }
+        if (code == FROM_VIN) {
+            int[] range = VIN_RANGES[field];
+            return vin.substring(range[0], range[1]);
+        }
+        return DICTIONARIES[field].value(code);
+    }
+
+    private static boolean isVinSection(String vin, int field, String value) {
+        int[] range = VIN_RANGES[field];
+        return range != null && vin != null && vin.length() >= range[1]
+                && value.length() == range[1] - range[0]
+                && vin.regionMatches(range[0], value, 0, value.length());
+    }
+
+    // Getters matching VehicleData
+
+    public String getVin() { return vin; }
+    public String getMake() { return get(MAKE); }
+    public String getManufacturer() { return get(MANUFACTURER); }
+    public String getManufacturerName() { return get(MANUFACTURER_NAME); }
+    public String getModel() { return get(MODEL); }
+    public String getModelYear() { return get(MODEL_YEAR); }
+    public String getPlantCity() { return get(PLANT_CITY); }
+    public String getPlantCountry() { return get(PLANT_COUNTRY); }
+    public String getPlantState() { return get(PLANT_STATE); }
+    public String getPlantCode() { return get(PLANT_CODE); }
+    public String getVehicleType() { return get(VEHICLE_TYPE); }
+    public String getWmi() { return get(WMI); }
+    public String getVds() { return get(VDS); }
+    public String getVis() { return get(VIS); }
+    public String getSequentialNumber() { return get(SEQUENTIAL_NUMBER); }
+    public String getRegion() { return get(REGION); }
+    public String getBodyClass() { return get(BODY_CLASS); }
+    public String getDoors() { return get(DOORS); }
+    public String getEngineCylinders() { return get(ENGINE_CYLINDERS); }
+    public String getDisplacementL() { return get(DISPLACEMENT_L); }
+    public String getEngineModel() { return get(ENGINE_MODEL); }
+    public String getFuelTypePrimary() { return get(FUEL_TYPE_PRIMARY); }
+    public String getDriveType() { return get(DRIVE_TYPE); }
+    public String getTransmissionStyle() { return get(TRANSMISSION_STYLE); }
+    public String getTransmissionSpeeds() { return get(TRANSMISSION_SPEEDS); }
+    public String getGvwr() { return get(GVWR); }
+    public String getCurbWeight() { return get(CURB_WEIGHT); }
+    public String getTrim() { return get(TRIM); }
+    public String getMessage() { return get(MESSAGE); }
+    public String getErrorCode() { return get(ERROR_CODE); }
+    public String getErrorText() { return get(ERROR_TEXT); }
+    public Integer getCount() { return count == NO_COUNT ? null : count; }
+
+    /**
+     * @return results list; an offline results list is created on each call
+     */
+    public List<VehicleData.Result> getResults() {
+        return resultsFromFields ? toVehicleData().getResults() : results;
+    }
+
+    /**
+     * @see VehicleData#isValid()
+     */
+    public boolean isValid() {
+        if (valid) {
+            return true;
+        }
+        String errorCode = getErrorCode();
+        return vin != null && !vin.isEmpty()
+                && (getMake() != null || getManufacturer() != null)
+                && errorCode != null && errorCode.equals("0");
+    }
+
+    /**
+     * @see VehicleData#getDisplayName()
+     */
+    public String getDisplayName() {
+        VehicleData name = new VehicleData();
+        name.modelYear = getModelYear();
+        name.make = getMake();
+        name.model = getModel();
+        name.trim = getTrim();
+        return name.getDisplayName();
+    }
+
+    /**
+     * @see VehicleData#getEngineDescription()
+     */
+    public String getEngineDescription() {
+        VehicleData engine = new VehicleData();
+        engine.displacementL = getDisplacementL();
+        engine.engineCylinders = getEngineCylinders();
+        engine.fuelTypePrimary = getFuelTypePrimary();
+        return engine.getEngineDescription();
+    }
+
+    /**
+     * Values of one enumerated field; codes are never reused, so the dictionary
+     * only grows, up to 65,535 values. Further values are stored per instance.
+     */
+    private static final class Dictionary {
+        private final ConcurrentHashMap<String, Integer> codes = new ConcurrentHashMap<>();
+        private volatile String[] values = new String[16];
+        private int size;
+
+        /**
+         * @return code of value, or -1 if the dictionary is full
+         */
+        int code(String value) {
+            Integer code = codes.get(value);
+            if (code != null) {
+                return code;
+            }
+            synchronized (this) {
+                code = codes.get(value);
+                if (code != null) {
+                    return code;
+                }
+                if (size == FROM_VIN) {
+                    return -1;
+                }
+                String[] grown = values;
+                if (size == grown.length) {
+                    grown = Arrays.copyOf(grown, Math.min(grown.length * 2, (int) FROM_VIN));
+                }
+                grown[size] = value;
+                // Publish the value before its code
+                values = grown;
+                codes.put(value, size);
+                return size++;
+            }
+        }
+
+        String value(int code) {
+            return values[code];
+        }
+    }
+
+    private static Field[] stringFields() {
+        List<Field> fields = new ArrayList<>();
+        for (Field field : VehicleData.class.getDeclaredFields()) {
+            int modifiers = field.getModifiers();
+            if (field.getType() == String.class && Modifier.isPublic(modifiers) && !Modifier.isStatic(modifiers)
+                    && !field.getName().equals("vin")) {
+                fields.add(field);
+            }
+        }
+        return fields.toArray(new Field[0]);
+    }
+
+    private static int index(String name) {
+        for (int field = 0; field < FIELDS.length; field++) {
+            if (FIELDS[field].getName().equals(name)) {
+                return field;
+            }
+        }
+        throw new IllegalStateException("VehicleData has no String field " + name);
+    }
+
+    private static String read(VehicleData vehicleData, int field) {
+        try {
+            return (String) FIELDS[field].get(vehicleData);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void write(VehicleData vehicleData, int field, String value) {
+        try {
+            FIELDS[field].set(vehicleData, value);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
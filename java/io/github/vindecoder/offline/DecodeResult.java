@@ -0,0 +1,292 @@
+package io.github.vindecoder.offline;
+
+import io.github.vindecoder.nhtsa.VehicleData;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reusable result of {@link OfflineVINDecoder#decodeInto(CharSequence, DecodeResult)}
+ *
+ * Each decode overwrites the previous one, so a stream processor can keep one
+ * result per thread and decode without allocating: the VIN sections are views
+ * of the result's own copy of the VIN and every decoded value is a shared
+ * table string. Use {@link #toVehicleData()} to keep a result beyond the next
+ * decode.
+ *
+ * Not thread-safe.
+ *
+ * Usage:
+ * <pre>
+ * DecodeResult result = new DecodeResult();
+ * for (CharSequence vin : records) {
+ *     decoder.decodeInto(vin, result);
+ *     if (result.isValid()) {
+ *         count(result.getMake(), result.getModelYear());
+ *     }
+ * }
+ * </pre>
+ */
+public final class DecodeResult {
+
+    /** Public String fields of VehicleData, copied by toVehicleData */
+    private static final Field[] FIELDS = stringFields();
+
+    private final VinView vin = new VinView();
+    /** Decoded fields; the section fields are left unset */
+    private VehicleData vehicleData = new VehicleData();
+    /** Whether vin holds the decoded VIN, i.e. the input had 17 characters */
+    private boolean hasVin;
+    /** Whether a manufacturer decoder other than a built-in one wrote vehicleData */
+    private boolean foreignDecoder;
+    private int modelYear;
+    private CharSequence sequentialNumber;
+
+    /**
+     * Clears the previous decode. The built-in decoders write a known set of fields;
+     * after any other decoder the fields are not known, so they are dropped instead.
+     */
+    void clear() {
+        hasVin = false;
+        modelYear = VINValidator.UNKNOWN_MODEL_YEAR;
+        if (foreignDecoder) {
+            vehicleData = new VehicleData();
+            foreignDecoder = false;
+            return;
+        }
+        VehicleData data = vehicleData;
+        data.vin = null;
+        data.valid = false;
+        data.errorCode = null;
+        data.errorText = null;
+        data.make = null;
+        data.manufacturerName = null;
+        data.modelYear = null;
+        data.region = null;
+        data.plantCountry = null;
+        data.plantCode = null;
+        data.vehicleType = null;
+        data.model = null;
+        data.trim = null;
+        data.bodyClass = null;
+        data.driveType = null;
+        data.doors = null;
+        data.engineModel = null;
+        data.displacementL = null;
+        data.engineCylinders = null;
+        data.fuelTypePrimary = null;
+        data.transmissionStyle = null;
+        data.transmissionSpeeds = null;
+        data.plantCity = null;
+        data.plantState = null;
+        data.gvwr = null;
+        data.curbWeight = null;
+    }
+
+    /**
+     * Records the outcome of a decode of vin()
+     */
+    void decoded(int modelYear, ManufacturerDecoder manufacturerDecoder) {
+        this.hasVin = true;
+        this.modelYear = modelYear;
+        this.foreignDecoder = manufacturerDecoder != null && !(manufacturerDecoder instanceof BuiltInDecoder);
+    }
+
+    VinView vin() {
+        return vin;
+    }
+
+    VehicleData vehicleData() {
+        return vehicleData;
+    }
+
+    /**
+     * @return the upper-case VIN, or null if the input was not 17 characters long
+     */
+    public CharSequence getVin() {
+        return hasVin ? vin : null;
+    }
+
+    public boolean isValid() {
+        return vehicleData.valid;
+    }
+
+    /**
+     * @return "INVALID_VIN" for a wrong length, "INVALID_FORMAT" for a failed
+     *         validation, or null
+     */
+    public String getErrorCode() {
+        return vehicleData.errorCode;
+    }
+
+    public String getErrorText() {
+        return vehicleData.errorText;
+    }
+
+    public String getMake() {
+        return vehicleData.make;
+    }
+
+    public String getManufacturerName() {
+        return vehicleData.manufacturerName;
+    }
+
+    /**
+     * @return model year, or VINValidator.UNKNOWN_MODEL_YEAR
+     */
+    public int getModelYear() {
+        return modelYear;
+    }
+
+    public String getModel() {
+        return vehicleData.model;
+    }
+
+    public String getTrim() {
+        return vehicleData.trim;
+    }
+
+    public String getBodyClass() {
+        return vehicleData.bodyClass;
+    }
+
+    public String getDriveType() {
+        return vehicleData.driveType;
+    }
+
+    public String getDoors() {
+        return vehicleData.doors;
+    }
+
+    public String getEngineModel() {
+        return vehicleData.engineModel;
+    }
+
+    public String getDisplacementL() {
+        return vehicleData.displacementL;
+    }
+
+    public String getEngineCylinders() {
+        return vehicleData.engineCylinders;
+    }
+
+    public String getFuelTypePrimary() {
+        return vehicleData.fuelTypePrimary;
+    }
+
+    public String getTransmissionStyle() {
+        return vehicleData.transmissionStyle;
+    }
+
+    public String getTransmissionSpeeds() {
+        return vehicleData.transmissionSpeeds;
+    }
+
+    public String getGvwr() {
+        return vehicleData.gvwr;
+    }
+
+    public String getCurbWeight() {
+        return vehicleData.curbWeight;
+    }
+
+    public String getVehicleType() {
+        return vehicleData.vehicleType;
+    }
+
+    public String getRegion() {
+        return vehicleData.region;
+    }
+
+    public String getPlantCountry() {
+        return vehicleData.plantCountry;
+    }
+
+    public String getPlantState() {
+        return vehicleData.plantState;
+    }
+
+    public String getPlantCity() {
+        return vehicleData.plantCity;
+    }
+
+    public String getPlantCode() {
+        return vehicleData.plantCode;
+    }
+
+    /**
+     * @return World Manufacturer Identifier, a view valid until the next decode, or null
+     */
+    public CharSequence getWmi() {
+        return hasVin ? vin.wmi() : null;
+    }
+
+    /**
+     * @return Vehicle Descriptor Section, a view valid until the next decode, or null
+     */
+    public CharSequence getVds() {
+        return hasVin ? vin.vds() : null;
+    }
+
+    /**
+     * @return Vehicle Identifier Section, a view valid until the next decode, or null
+     */
+    public CharSequence getVis() {
+        return hasVin ? vin.vis() : null;
+    }
+
+    /**
+     * @return positions 12-17, a view valid until the next decode, or null
+     */
+    public CharSequence getSequentialNumber() {
+        if (!hasVin) {
+            return null;
+        }
+        if (sequentialNumber == null) {
+            sequentialNumber = vin.subSequence(11, VinView.LENGTH);
+        }
+        return sequentialNumber;
+    }
+
+    /**
+     * Copies this result into the VehicleData that
+     * {@link OfflineVINDecoder#decode(String)} returns for the same VIN
+     */
+    public VehicleData toVehicleData() {
+        VehicleData data = new VehicleData();
+        try {
+            for (Field field : FIELDS) {
+                field.set(data, field.get(vehicleData));
+            }
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException(e);
+        }
+        data.valid = vehicleData.valid;
+        if (hasVin) {
+            String vin = this.vin.toString();
+            data.vin = vin;
+            data.wmi = vin.substring(0, 3);
+            data.vds = vin.substring(3, 9);
+            data.vis = vin.substring(9, 17);
+            data.sequentialNumber = vin.substring(11, 17);
+
+            DecodedResults results = DecodedResults.of(data);
+            data.results = results;
+            data.count = results.count();
+            data.message = "VIN decoded offline";
+        }
+        return data;
+    }
+
+    private static Field[] stringFields() {
+        List<Field> fields = new ArrayList<>();
+        for (Field field : VehicleData.class.getDeclaredFields()) {
+            int modifiers = field.getModifiers();
+            if (field.getType() == String.class && Modifier.isPublic(modifiers) && !Modifier.isStatic(modifiers)) {
+                fields.add(field);
+            }
+        }
+        return fields.toArray(new Field[0]);
+    }
+}
@@ -0,0 +1,150 @@
+package io.github.vindecoder.offline;
+
+import io.github.vindecoder.nhtsa.VehicleData;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * NHTSA-compatible results list of an offline decode
+ *
+ * Holds the decoded values and only creates the {@link VehicleData.Result}
+ * objects on first access, so callers that read the typed fields never pay for
+ * them. Serializing VehicleData with Gson iterates the list like any other.
+ * Once created, the list behaves like the ArrayList it replaces, including
+ * modification.
+ */
+final class DecodedResults extends AbstractList<VehicleData.Result> implements RandomAccess {
+
+    private static final String[] VARIABLES = {
+        "VIN", "Make", "Manufacturer Name", "Model Year", "Plant Country", "Plant Code",
+        "Vehicle Type", "Region", "WMI", "VDS", "VIS", "Sequential Number", "Valid"
+    };
+
+    /** Entries of VARIABLES that are the VIN or a section of it */
+    private static final boolean[] SECTIONS = {
+        true, false, false, false, false, false, false, false, true, true, true, true, false
+    };
+
+    /** Value per entry of VARIABLES; null or empty values are left out of the list */
+    private final String[] values;
+    private final int count;
+    private volatile List<VehicleData.Result> results;
+
+    /**
+     * @param values Values in the order of VARIABLES
+     */
+    DecodedResults(String[] values) {
+        this.values = values;
+        int count = 0;
+        for (String value : values) {
+            if (value != null && !value.isEmpty()) {
+                count++;
+            }
+        }
+        this.count = count;
+    }
+
+    /**
+     * Results for the values of a decoded VIN
+     */
+    static DecodedResults of(VehicleData vehicleData) {
+        return new DecodedResults(valuesOf(vehicleData));
+    }
+
+    /**
+     * Number of results {@code of(vehicleData)} will have once the VIN and its
+     * sections are filled in, without creating them
+     */
+    static int countWithSections(VehicleData vehicleData) {
+        String[] values = valuesOf(vehicleData);
+        int count = 0;
+        for (int i = 0; i < values.length; i++) {
+            String value = values[i];
+            if (SECTIONS[i] || (value != null && !value.isEmpty())) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private static String[] valuesOf(VehicleData vehicleData) {
+        return new String[] {
+            vehicleData.vin, vehicleData.make, vehicleData.manufacturerName, vehicleData.modelYear,
+            vehicleData.plantCountry, vehicleData.plantCode, vehicleData.vehicleType, vehicleData.region,
+            vehicleData.wmi, vehicleData.vds, vehicleData.vis, vehicleData.sequentialNumber,
+            String.valueOf(vehicleData.valid)
+        };
+    }
+
+    /**
+     * Whether this list was never accessed and equals {@code of(vehicleData)},
+     * so it can be recreated from the fields instead of being stored.
+     * Once created, the list or its entries may have been changed.
+     */
+    boolean isDerivedFrom(VehicleData vehicleData) {
+        return results == null && Arrays.equals(values, valuesOf(vehicleData));
+    }
+
+    /**
+     * Number of results, without creating them
+     */
+    int count() {
+        return count;
+    }
+
+    private List<VehicleData.Result> results() {
+        List<VehicleData.Result> list = results;
+        if (list == null) {
+            synchronized (this) {
+                list = results;
+                if (list == null) {
+                    list = new ArrayList<>(count);
+                    for (int i = 0; i < values.length; i++) {
+                        String value = values[i];
+                        if (value != null && !value.isEmpty()) {
+                            VehicleData.Result result = new VehicleData.Result();
+                            result.setVariable(VARIABLES[i]);
+                            result.setValue(value);
+                            result.setVariableId(String.valueOf(list.size() + 1));
+                            list.add(result);
+                        }
+                    }
+                    results = list;
+                }
+            }
+        }
+        return list;
+    }
+
+    @Override
+    public VehicleData.Result get(int index) {
+        return results().get(index);
+    }
+
+    @Override
+    public int size() {
+        List<VehicleData.Result> list = results;
+        return list != null ? list.size() : count;
+    }
+
+    @Override
+    public VehicleData.Result set(int index, VehicleData.Result element) {
+        return results().set(index, element);
+    }
+
+    @Override
+    public void add(int index, VehicleData.Result element) {
+        results().add(index, element);
+        modCount++;
+    }
+
+    @Override
+    public VehicleData.Result remove(int index) {
+        VehicleData.Result removed = results().remove(index);
+        modCount++;
+        return removed;
+    }
+}
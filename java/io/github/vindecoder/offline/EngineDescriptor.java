@@ -0,0 +1,149 @@
+package io.github.vindecoder.offline;
+
+import io.github.vindecoder.nhtsa.VehicleData;
+import java.util.Map;
+
+/**
+ * Engine code entry of a manufacturer decoder
+ *
+ * Displacement, cylinder count and fuel type are parsed from the description
+ * once, when the decoder's engine table is built, so decoding an engine is a
+ * table read followed by field assignments.
+ */
+final class EngineDescriptor {
+
+    final String description;
+    final String displacementL;
+    final String cylinders;
+    final String fuelType;
+
+    EngineDescriptor(String description, String displacementL, String cylinders, String fuelType) {
+        this.description = description;
+        this.displacementL = displacementL;
+        this.cylinders = cylinders;
+        this.fuelType = fuelType;
+    }
+
+    /**
+     * Builds a table indexed by engine code character,
+     * parsing every description with the GM/Ford/Toyota rules
+     * @param codes Single-character engine codes and their descriptions
+     */
+    static EngineDescriptor[] index(Map<String, String> codes) {
+        EngineDescriptor[] table = new EngineDescriptor[128];
+        for (Map.Entry<String, String> entry : codes.entrySet()) {
+            table[entry.getKey().charAt(0)] = parse(entry.getValue());
+        }
+        return table;
+    }
+
+    /**
+     * @return entry for an engine code character, or null if the code is unknown
+     */
+    static EngineDescriptor lookup(EngineDescriptor[] table, char code) {
+        return code < table.length ? table[code] : null;
+    }
+
+    /**
+     * Sets engine model, displacement, cylinders and fuel type
+     */
+    void applyTo(VehicleData vehicleData) {
+        vehicleData.engineModel = description;
+        vehicleData.displacementL = displacementL;
+        vehicleData.engineCylinders = cylinders;
+        vehicleData.fuelTypePrimary = fuelType;
+    }
+
+    /**
+     * Extracts engine details from an engine description
+     */
+    static EngineDescriptor parse(String engineDescription) {
+        String displacement = null;
+        String cylinders = null;
+
+        // Extract displacement
+        if (engineDescription.contains("1.5L")) {
+            displacement = "1.5";
+            cylinders = "4";
+        } else if (engineDescription.contains("2.0L")) {
+            displacement = "2.0";
+            cylinders = "4";
+        } else if (engineDescription.contains("2.3L")) {
+            displacement = "2.3";
+            cylinders = "4";
+        } else if (engineDescription.contains("2.5L")) {
+            displacement = "2.5";
+            cylinders = "4";
+        } else if (engineDescription.contains("2.7L")) {
+            displacement = "2.7";
+            cylinders = "6";
+        } else if (engineDescription.contains("3.0L")) {
+            displacement = "3.0";
+            cylinders = "6";
+        } else if (engineDescription.contains("3.5L")) {
+            displacement = "3.5";
+            cylinders = "6";
+        } else if (engineDescription.contains("3.6L")) {
+            displacement = "3.6";
+            cylinders = "6";
+        } else if (engineDescription.contains("4.0L")) {
+            displacement = "4.0";
+            cylinders = "8";
+        } else if (engineDescription.contains("5.0L")) {
+            displacement = "5.0";
+            cylinders = "8";
+        } else if (engineDescription.contains("5.3L")) {
+            displacement = "5.3";
+            cylinders = "8";
+        } else if (engineDescription.contains("5.7L")) {
+            displacement = "5.7";
+            cylinders = "8";
+        } else if (engineDescription.contains("6.2L")) {
+            displacement = "6.2";
+            cylinders = "8";
+        } else if (engineDescription.contains("6.6L")) {
+            displacement = "6.6";
+            cylinders = "8";
+        }
+
+        // Set fuel type
+        String fuelType = null;
+        if (engineDescription.contains("Electric") && !engineDescription.contains("Hybrid")) {
+            fuelType = "Electric";
+        } else if (engineDescription.contains("Hybrid")) {
+            fuelType = "Gasoline/Electric Hybrid";
+        } else if (engineDescription.contains("Diesel")) {
+            fuelType = "Diesel";
+        } else if (engineDescription.contains("Flex Fuel") || engineDescription.contains("E85")) {
+            fuelType = "Flexible Fuel Vehicle";
+        } else if (engineDescription.contains("Gasoline") || containsLitres(engineDescription)) {
+            fuelType = "Gasoline";
+        }
+
+        return new EngineDescriptor(engineDescription, displacement, cylinders, fuelType);
+    }
+
+    /**
+     * Whether the text contains a displacement like "5.3L" (digits, '.', digits, 'L'),
+     * without loading java.util.regex while the decoder class initializes
+     */
+    private static boolean containsLitres(String text) {
+        for (int dot = 1; dot < text.length(); dot++) {
+            if (text.charAt(dot) != '.' || !isDigit(text.charAt(dot - 1))) {
+                continue;
+            }
+            int end = dot + 1;
+            while (end < text.length() && isDigit(text.charAt(end))) {
+                end++;
+            }
+            if (end > dot + 1 && end < text.length() && text.charAt(end) == 'L') {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+}
@@ -1,5 +1,6 @@
 package io.github.vindecoder.offline;
 
+import io.github.vindecoder.nhtsa.VehicleData;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -14,13 +15,22 @@ import java.util.Map;
 public class FordDecoder {
 
     private static final Map<String, ModelInfo> MODEL_CODES = new HashMap<>();
+    /** MODEL_CODES keyed by VinView code */
+    private static final CodeTable<ModelInfo> MODELS;
     private static final Map<String, String> ENGINE_CODES = new HashMap<>();
+    /** ENGINE_CODES with details pre-parsed, indexed by engine code character */
+    private static final EngineDescriptor[] ENGINES;
     private static final Map<String, String> GVWR_CODES = new HashMap<>();
+    /** GVWR_CODES keyed by VinView code */
+    private static final CodeTable<String> GVWRS;
 
     static {
         initializeModelCodes();
+        MODELS = CodeTable.of(MODEL_CODES);
         initializeEngineCodes();
+        ENGINES = EngineDescriptor.index(ENGINE_CODES);
         initializeGVWRCodes();
+        GVWRS = CodeTable.of(GVWR_CODES);
     }
 
     public static class ModelInfo {
@@ -219,210 +229,243 @@ public class FordDecoder {
             return null;
         }
 
+        VehicleData vehicleData = new VehicleData();
+        decode(vin, vehicleData);
+
         VehicleInfo info = new VehicleInfo();
+        info.model = vehicleData.model;
+        info.series = vehicleData.trim;
+        info.bodyClass = vehicleData.bodyClass;
+        info.driveType = vehicleData.driveType;
+        info.doors = vehicleData.doors;
+        info.engineDescription = vehicleData.engineModel;
+        info.transmissionStyle = vehicleData.transmissionStyle;
+        info.transmissionSpeeds = vehicleData.transmissionSpeeds;
+        info.plantCity = vehicleData.plantCity;
+        info.plantState = vehicleData.plantState;
+        info.plantCountry = vehicleData.plantCountry;
+        info.gvwr = vehicleData.gvwr;
+        info.curbWeight = vehicleData.curbWeight;
+        info.manufacturer = "Ford";
+        info.manufacturerName = "Ford Motor Company";
+        return info;
+    }
 
+    /**
+     * Decode Ford specific information from VIN straight into vehicleData,
+     * without an intermediate VehicleInfo. Sets model, trim, body class, drive type,
+     * doors, engine model, transmission, plant and weight fields as they are decoded,
+     * so pass a VehicleData where those fields are not yet set.
+     */
+    public static void decode(String vin, VehicleData vehicleData) {
+        if (vin == null || vin.length() < 17) {
+            return;
+        }
+        decode(VinView.of(vin), vehicleData);
+    }
+
+    /**
+     * Decode Ford specific information from a VIN view into vehicleData
+     * @see #decode(String, VehicleData)
+     */
+    public static void decode(VinView vin, VehicleData vehicleData) {
         // Extract model code (positions 5-7)
-        String modelCode = vin.substring(4, 7).toUpperCase();
-        ModelInfo modelInfo = MODEL_CODES.get(modelCode);
+        ModelInfo modelInfo = MODELS.get(vin.code(4, 7));
 
         if (modelInfo != null) {
-            info.model = modelInfo.model;
-            info.series = modelInfo.series;
-            info.bodyClass = modelInfo.bodyClass;
-            info.driveType = modelInfo.driveType;
-            info.doors = modelInfo.doors;
+            vehicleData.model = modelInfo.model;
+            vehicleData.trim = modelInfo.series;
+            vehicleData.bodyClass = modelInfo.bodyClass;
+            vehicleData.driveType = modelInfo.driveType;
+            vehicleData.doors = modelInfo.doors;
         }
 
         // Extract engine code (position 8)
-        String engineCode = String.valueOf(vin.charAt(7));
-        info.engineDescription = ENGINE_CODES.get(engineCode.toUpperCase());
+        char engineCode = vin.charAt(7);
+        EngineDescriptor engine = EngineDescriptor.lookup(ENGINES, Character.toUpperCase(engineCode));
+        if (engine != null) {
+            engine.applyTo(vehicleData);
+        }
 
         // Extract GVWR for trucks (position 4)
         if (modelInfo != null && modelInfo.bodyClass != null &&
             (modelInfo.bodyClass.contains("Truck") || modelInfo.bodyClass.contains("Van"))) {
-            String gvwrCode = String.valueOf(vin.charAt(3));
-            String gvwrRange = GVWR_CODES.get(gvwrCode.toUpperCase());
+            String gvwrRange = GVWRS.get(vin.code(3, 4));
             if (gvwrRange != null) {
-                info.gvwr = gvwrRange;
+                vehicleData.gvwr = gvwrRange;
             }
         }
 
         // Determine transmission based on model and engine
-        if (info.model != null && info.engineDescription != null) {
-            if (info.model.contains("F-150") || info.model.contains("F-250") || info.model.contains("F-350")) {
-                info.transmissionStyle = "Automatic";
-                info.transmissionSpeeds = "10";  // Most modern F-Series have 10-speed
-                if (info.engineDescription.contains("Diesel")) {
-                    info.transmissionSpeeds = "10";  // TorqShift 10-speed
+        if (vehicleData.model != null && vehicleData.engineModel != null) {
+            if (vehicleData.model.contains("F-150") || vehicleData.model.contains("F-250") || vehicleData.model.contains("F-350")) {
+                vehicleData.transmissionStyle = "Automatic";
+                vehicleData.transmissionSpeeds = "10";  // Most modern F-Series have 10-speed
+                if (vehicleData.engineModel.contains("Diesel")) {
+                    vehicleData.transmissionSpeeds = "10";  // TorqShift 10-speed
                 }
-            } else if (info.model.contains("Mustang")) {
+            } else if (vehicleData.model.contains("Mustang")) {
                 // Mustang can have manual or automatic
-                if (info.series != null && (info.series.contains("GT350") || info.series.contains("GT500"))) {
-                    info.transmissionStyle = "Manual/Automatic";
-                    info.transmissionSpeeds = "6/10";  // TREMEC 6-speed manual or 10-speed auto
-                } else if (engineCode.equals("2") || engineCode.equals("F")) {  // EcoBoost or V8
-                    info.transmissionStyle = "Manual/Automatic";
-                    info.transmissionSpeeds = "6/10";
+                if (vehicleData.trim != null && (vehicleData.trim.contains("GT350") || vehicleData.trim.contains("GT500"))) {
+                    vehicleData.transmissionStyle = "Manual/Automatic";
+                    vehicleData.transmissionSpeeds = "6/10";  // TREMEC 6-speed manual or 10-speed auto
+                } else if (engineCode == '2' || engineCode == 'F') {  // EcoBoost or V8
+                    vehicleData.transmissionStyle = "Manual/Automatic";
+                    vehicleData.transmissionSpeeds = "6/10";
                 } else {
-                    info.transmissionStyle = "Automatic";
-                    info.transmissionSpeeds = "10";
+                    vehicleData.transmissionStyle = "Automatic";
+                    vehicleData.transmissionSpeeds = "10";
                 }
-            } else if (info.model.contains("Explorer") || info.model.contains("Edge") || info.model.contains("Escape")) {
-                info.transmissionStyle = "Automatic";
-                if (info.model.contains("Escape")) {
-                    info.transmissionSpeeds = "8";  // 8-speed on newer models
+            } else if (vehicleData.model.contains("Explorer") || vehicleData.model.contains("Edge") || vehicleData.model.contains("Escape")) {
+                vehicleData.transmissionStyle = "Automatic";
+                if (vehicleData.model.contains("Escape")) {
+                    vehicleData.transmissionSpeeds = "8";  // 8-speed on newer models
                 } else {
-                    info.transmissionSpeeds = "10";  // 10-speed on Explorer/Edge
+                    vehicleData.transmissionSpeeds = "10";  // 10-speed on Explorer/Edge
                 }
-            } else if (info.model.contains("Bronco")) {
-                if (engineCode.equals("U")) {  // 2.3L EcoBoost
-                    info.transmissionStyle = "Manual/Automatic";
-                    info.transmissionSpeeds = "7/10";  // 7-speed manual or 10-speed auto
+            } else if (vehicleData.model.contains("Bronco")) {
+                if (engineCode == 'U') {  // 2.3L EcoBoost
+                    vehicleData.transmissionStyle = "Manual/Automatic";
+                    vehicleData.transmissionSpeeds = "7/10";  // 7-speed manual or 10-speed auto
                 } else {
-                    info.transmissionStyle = "Automatic";
-                    info.transmissionSpeeds = "10";
+                    vehicleData.transmissionStyle = "Automatic";
+                    vehicleData.transmissionSpeeds = "10";
                 }
-            } else if (info.model.contains("Transit")) {
-                info.transmissionStyle = "Automatic";
-                info.transmissionSpeeds = "10";  // 10-speed on newer Transits
+            } else if (vehicleData.model.contains("Transit")) {
+                vehicleData.transmissionStyle = "Automatic";
+                vehicleData.transmissionSpeeds = "10";  // 10-speed on newer Transits
             }
         }
 
-        // Set manufacturer info
-        info.manufacturer = "Ford";
-        info.manufacturerName = "Ford Motor Company";
-
         // Determine plant location based on position 11
         char plantCode = vin.charAt(10);
         switch (plantCode) {
             case 'A':
-                info.plantCity = "Wayne";
-                info.plantState = "Michigan";
-                info.plantCountry = "United States";
+                vehicleData.plantCity = "Wayne";
+                vehicleData.plantState = "Michigan";
+                vehicleData.plantCountry = "United States";
                 break;
             case 'B':
-                info.plantCity = "Oakville";
-                info.plantState = "Ontario";
-                info.plantCountry = "Canada";
+                vehicleData.plantCity = "Oakville";
+                vehicleData.plantState = "Ontario";
+                vehicleData.plantCountry = "Canada";
                 break;
             case 'C':
-                info.plantCity = "Ontario";
-                info.plantCountry = "Canada";
+                vehicleData.plantCity = "Ontario";
+                vehicleData.plantCountry = "Canada";
                 break;
             case 'D':
             case 'E':
-                info.plantCity = "Dearborn";
-                info.plantState = "Michigan";
-                info.plantCountry = "United States";
+                vehicleData.plantCity = "Dearborn";
+                vehicleData.plantState = "Michigan";
+                vehicleData.plantCountry = "United States";
                 break;
             case 'F':
-                info.plantCity = "Flat Rock";
-                info.plantState = "Michigan";
-                info.plantCountry = "United States";
+                vehicleData.plantCity = "Flat Rock";
+                vehicleData.plantState = "Michigan";
+                vehicleData.plantCountry = "United States";
                 break;
             case 'G':
-                info.plantCity = "Chicago";
-                info.plantState = "Illinois";
-                info.plantCountry = "United States";
+                vehicleData.plantCity = "Chicago";
+                vehicleData.plantState = "Illinois";
+                vehicleData.plantCountry = "United States";
                 break;
             case 'H':
-                info.plantCity = "Lorain";
-                info.plantState = "Ohio";
-                info.plantCountry = "United States";
+                vehicleData.plantCity = "Lorain";
+                vehicleData.plantState = "Ohio";
+                vehicleData.plantCountry = "United States";
                 break;
             case 'J':
-                info.plantCity = "Claycomo";
-                info.plantState = "Missouri";
-                info.plantCountry = "United States";
+                vehicleData.plantCity = "Claycomo";
+                vehicleData.plantState = "Missouri";
+                vehicleData.plantCountry = "United States";
                 break;
             case 'K':
-                info.plantCity = "Kansas City";
-                info.plantState = "Missouri";
-                info.plantCountry = "United States";
+                vehicleData.plantCity = "Kansas City";
+                vehicleData.plantState = "Missouri";
+                vehicleData.plantCountry = "United States";
                 break;
             case 'L':
-                info.plantCity = "Louisville";
-                info.plantState = "Kentucky";
-                info.plantCountry = "United States";
+                vehicleData.plantCity = "Louisville";
+                vehicleData.plantState = "Kentucky";
+                vehicleData.plantCountry = "United States";
                 break;
             case 'M':
-                info.plantCity = "Wayne";
-                info.plantState = "Michigan";
-                info.plantCountry = "United States";
+                vehicleData.plantCity = "Wayne";
+                vehicleData.plantState = "Michigan";
+                vehicleData.plantCountry = "United States";
                 break;
             case 'N':
-                info.plantCity = "Norfolk";
-                info.plantState = "Virginia";
-                info.plantCountry = "United States";
+                vehicleData.plantCity = "Norfolk";
+                vehicleData.plantState = "Virginia";
+                vehicleData.plantCountry = "United States";
                 break;
             case 'P':
-                info.plantCity = "Twin Cities";
-                info.plantState = "Minnesota";
-                info.plantCountry = "United States";
+                vehicleData.plantCity = "Twin Cities";
+                vehicleData.plantState = "Minnesota";
+                vehicleData.plantCountry = "United States";
                 break;
             case 'R':
-                info.plantCity = "Hermosillo";
-                info.plantCountry = "Mexico";
+                vehicleData.plantCity = "Hermosillo";
+                vehicleData.plantCountry = "Mexico";
                 break;
             case 'S':
-                info.plantCity = "Allen Park";
-                info.plantState = "Michigan";
-                info.plantCountry = "United States";
+                vehicleData.plantCity = "Allen Park";
+                vehicleData.plantState = "Michigan";
+                vehicleData.plantCountry = "United States";
                 break;
             case 'T':
-                info.plantCity = "Edison";
-                info.plantState = "New Jersey";
-                info.plantCountry = "United States";
+                vehicleData.plantCity = "Edison";
+                vehicleData.plantState = "New Jersey";
+                vehicleData.plantCountry = "United States";
                 break;
             case 'U':
-                info.plantCity = "Louisville";
-                info.plantState = "Kentucky";
-                info.plantCountry = "United States";
+                vehicleData.plantCity = "Louisville";
+                vehicleData.plantState = "Kentucky";
+                vehicleData.plantCountry = "United States";
                 break;
             case 'W':
-                info.plantCity = "Wayne";
-                info.plantState = "Michigan";
-                info.plantCountry = "United States";
+                vehicleData.plantCity = "Wayne";
+                vehicleData.plantState = "Michigan";
+                vehicleData.plantCountry = "United States";
                 break;
             case 'X':
-                info.plantCity = "St. Thomas";
-                info.plantState = "Ontario";
-                info.plantCountry = "Canada";
+                vehicleData.plantCity = "St. Thomas";
+                vehicleData.plantState = "Ontario";
+                vehicleData.plantCountry = "Canada";
                 break;
             case 'Y':
-                info.plantCity = "Wixom";
-                info.plantState = "Michigan";
-                info.plantCountry = "United States";
+                vehicleData.plantCity = "Wixom";
+                vehicleData.plantState = "Michigan";
+                vehicleData.plantCountry = "United States";
                 break;
             case 'Z':
-                info.plantCity = "Hazelwood";
-                info.plantState = "Missouri";
-                info.plantCountry = "United States";
+                vehicleData.plantCity = "Hazelwood";
+                vehicleData.plantState = "Missouri";
+                vehicleData.plantCountry = "United States";
                 break;
         }
 
         // Add weight estimates based on model
-        if (info.model != null) {
-            if (info.model.contains("F-150")) {
-                info.curbWeight = "4500-5000";
-            } else if (info.model.contains("F-250")) {
-                info.curbWeight = "5500-6500";
-            } else if (info.model.contains("F-350")) {
-                info.curbWeight = "6500-7500";
-            } else if (info.model.contains("Explorer")) {
-                info.curbWeight = "4400-4900";
-            } else if (info.model.contains("Mustang")) {
-                info.curbWeight = "3500-3900";
-            } else if (info.model.contains("Escape")) {
-                info.curbWeight = "3300-3600";
-            } else if (info.model.contains("Bronco")) {
-                info.curbWeight = "4300-4800";
-            } else if (info.model.contains("Transit")) {
-                info.curbWeight = "4600-5200";
+        if (vehicleData.model != null) {
+            if (vehicleData.model.contains("F-150")) {
+                vehicleData.curbWeight = "4500-5000";
+            } else if (vehicleData.model.contains("F-250")) {
+                vehicleData.curbWeight = "5500-6500";
+            } else if (vehicleData.model.contains("F-350")) {
+                vehicleData.curbWeight = "6500-7500";
+            } else if (vehicleData.model.contains("Explorer")) {
+                vehicleData.curbWeight = "4400-4900";
+            } else if (vehicleData.model.contains("Mustang")) {
+                vehicleData.curbWeight = "3500-3900";
+            } else if (vehicleData.model.contains("Escape")) {
+                vehicleData.curbWeight = "3300-3600";
+            } else if (vehicleData.model.contains("Bronco")) {
+                vehicleData.curbWeight = "4300-4800";
+            } else if (vehicleData.model.contains("Transit")) {
+                vehicleData.curbWeight = "4600-5200";
             }
         }
-
-        return info;
     }
 
     /**
@@ -1,5 +1,6 @@
 package io.github.vindecoder.offline;
 
+import io.github.vindecoder.nhtsa.VehicleData;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -14,13 +15,22 @@ import java.util.Map;
 public class GMDecoder {
 
     private static final Map<String, ModelInfo> MODEL_CODES = new HashMap<>();
+    /** MODEL_CODES keyed by VinView code */
+    private static final CodeTable<ModelInfo> MODELS;
     private static final Map<String, String> ENGINE_CODES = new HashMap<>();
+    /** ENGINE_CODES with details pre-parsed, indexed by engine code character */
+    private static final EngineDescriptor[] ENGINES;
     private static final Map<String, String> BODY_STYLES = new HashMap<>();
+    /** BODY_STYLES keyed by VinView code */
+    private static final CodeTable<String> BODIES;
 
     static {
         initializeModelCodes();
+        MODELS = CodeTable.of(MODEL_CODES);
         initializeEngineCodes();
+        ENGINES = EngineDescriptor.index(ENGINE_CODES);
         initializeBodyStyles();
+        BODIES = CodeTable.of(BODY_STYLES);
     }
 
     public static class ModelInfo {
@@ -247,39 +257,78 @@ public class GMDecoder {
             return null;
         }
 
+        VehicleData vehicleData = new VehicleData();
+        decode(vin, vehicleData);
+
         VehicleInfo info = new VehicleInfo();
+        info.make = vehicleData.make;
+        info.model = vehicleData.model;
+        info.series = vehicleData.trim;
+        info.bodyClass = vehicleData.bodyClass;
+        info.driveType = vehicleData.driveType;
+        info.doors = vehicleData.doors;
+        info.engineDescription = vehicleData.engineModel;
+        info.transmissionStyle = vehicleData.transmissionStyle;
+        info.transmissionSpeeds = vehicleData.transmissionSpeeds;
+        info.plantCity = vehicleData.plantCity;
+        info.plantState = vehicleData.plantState;
+        info.plantCountry = vehicleData.plantCountry;
+        info.gvwr = vehicleData.gvwr;
+        info.curbWeight = vehicleData.curbWeight;
+        info.manufacturer = "General Motors";
+        if (info.make != null) {
+            info.manufacturerName = "General Motors (" + info.make + ")";
+        } else {
+            info.manufacturerName = "General Motors";
+        }
+        return info;
+    }
 
+    /**
+     * Decode GM specific information from VIN straight into vehicleData,
+     * without an intermediate VehicleInfo. Sets make, model, trim, body class, drive type,
+     * doors, engine model, transmission, plant and weight fields as they are decoded,
+     * so pass a VehicleData where those fields are not yet set.
+     */
+    public static void decode(String vin, VehicleData vehicleData) {
+        if (vin == null || vin.length() < 17) {
+            return;
+        }
+        decode(VinView.of(vin), vehicleData);
+    }
+
+    /**
+     * Decode GM specific information from a VIN view into vehicleData
+     * @see #decode(String, VehicleData)
+     */
+    public static void decode(VinView vin, VehicleData vehicleData) {
         // GM uses different patterns for different platforms
         // Try to identify the vehicle type from positions 4-7
-        String platformCode = vin.substring(3, 7).toUpperCase();
 
         // Try full 4-character codes first
-        ModelInfo modelInfo = MODEL_CODES.get(platformCode);
+        ModelInfo modelInfo = MODELS.get(vin.code(3, 7));
 
         if (modelInfo == null) {
             // Try 3-character codes (positions 4-6)
-            platformCode = vin.substring(3, 6).toUpperCase();
-            modelInfo = MODEL_CODES.get(platformCode);
+            modelInfo = MODELS.get(vin.code(3, 6));
         }
 
         if (modelInfo == null) {
             // Try 2-character codes (positions 5-6)
-            platformCode = vin.substring(4, 6).toUpperCase();
-            modelInfo = MODEL_CODES.get(platformCode);
+            modelInfo = MODELS.get(vin.code(4, 6));
         }
 
         if (modelInfo != null) {
-            info.make = modelInfo.make;
-            info.model = modelInfo.model;
-            info.series = modelInfo.series;
-            info.bodyClass = modelInfo.bodyClass;
-            info.driveType = modelInfo.driveType;
-            info.doors = modelInfo.doors;
+            vehicleData.make = modelInfo.make;
+            vehicleData.model = modelInfo.model;
+            vehicleData.trim = modelInfo.series;
+            vehicleData.bodyClass = modelInfo.bodyClass;
+            vehicleData.driveType = modelInfo.driveType;
+            vehicleData.doors = modelInfo.doors;
         } else {
             // Try to determine make from WMI
-            String wmi = vin.substring(0, 3);
-            if (wmi.startsWith("1G")) {
-                char wmi3 = wmi.charAt(2);
+            if (vin.startsWith("1G")) {
+                char wmi3 = vin.charAt(2);
                 switch (wmi3) {
                     case '1':
                     case 'C':
@@ -288,294 +337,285 @@ public class GMDecoder {
                     case 'S':
                     case 'X':
                     case 'Y':
-                        info.make = "Chevrolet";
+                        vehicleData.make = "Chevrolet";
                         break;
                     case '2':
                     case '3':
                     case 'M':
-                        info.make = "Pontiac";
+                        vehicleData.make = "Pontiac";
                         break;
                     case '4':
                     case 'B':
                     case 'K':
-                        info.make = "Buick";
+                        vehicleData.make = "Buick";
                         break;
                     case '6':
                     case 'E':
-                        info.make = "Cadillac";
+                        vehicleData.make = "Cadillac";
                         break;
                     case '7':
-                        info.make = "Pontiac Canada";
+                        vehicleData.make = "Pontiac Canada";
                         break;
                     case '8':
                     case 'Z':
-                        info.make = "Saturn";
+                        vehicleData.make = "Saturn";
                         break;
                     case 'T':
                     case 'J':
-                        info.make = "GMC";
+                        vehicleData.make = "GMC";
                         break;
                 }
-            } else if (wmi.equals("2G1")) {
-                info.make = "Chevrolet Canada";
-            } else if (wmi.equals("2G2")) {
-                info.make = "Pontiac Canada";
-            } else if (wmi.equals("3G1")) {
-                info.make = "Chevrolet Mexico";
+            } else if (vin.startsWith("2G1")) {
+                vehicleData.make = "Chevrolet Canada";
+            } else if (vin.startsWith("2G2")) {
+                vehicleData.make = "Pontiac Canada";
+            } else if (vin.startsWith("3G1")) {
+                vehicleData.make = "Chevrolet Mexico";
             }
         }
 
         // Extract engine code (position 8)
-        String engineCode = String.valueOf(vin.charAt(7));
-        info.engineDescription = ENGINE_CODES.get(engineCode.toUpperCase());
+        EngineDescriptor engine = EngineDescriptor.lookup(ENGINES, Character.toUpperCase(vin.charAt(7)));
+        if (engine != null) {
+            engine.applyTo(vehicleData);
+        }
 
         // Extract body style if position 6 has relevant info
-        String bodyCode = String.valueOf(vin.charAt(5));
-        String bodyStyle = BODY_STYLES.get(bodyCode);
-        if (bodyStyle != null && info.bodyClass == null) {
-            info.bodyClass = bodyStyle;
+        String bodyStyle = BODIES.get(vin.charAt(5));
+        if (bodyStyle != null && vehicleData.bodyClass == null) {
+            vehicleData.bodyClass = bodyStyle;
         }
 
         // Determine transmission based on model and engine
-        if (info.model != null && info.engineDescription != null) {
-            if (info.model.contains("Corvette")) {
-                if (info.model.contains("Z06") || info.model.contains("ZR1")) {
-                    info.transmissionStyle = "Manual/Automatic";
-                    info.transmissionSpeeds = "7/8";  // 7-speed manual or 8-speed auto
+        if (vehicleData.model != null && vehicleData.engineModel != null) {
+            if (vehicleData.model.contains("Corvette")) {
+                if (vehicleData.model.contains("Z06") || vehicleData.model.contains("ZR1")) {
+                    vehicleData.transmissionStyle = "Manual/Automatic";
+                    vehicleData.transmissionSpeeds = "7/8";  // 7-speed manual or 8-speed auto
                 } else if (vin.charAt(9) >= 'L') {  // C8 Corvette (2020+)
-                    info.transmissionStyle = "Automatic (DCT)";
-                    info.transmissionSpeeds = "8";  // 8-speed dual-clutch
+                    vehicleData.transmissionStyle = "Automatic (DCT)";
+                    vehicleData.transmissionSpeeds = "8";  // 8-speed dual-clutch
                 } else {
-                    info.transmissionStyle = "Manual/Automatic";
-                    info.transmissionSpeeds = "6/8";
+                    vehicleData.transmissionStyle = "Manual/Automatic";
+                    vehicleData.transmissionSpeeds = "6/8";
                 }
-            } else if (info.model.contains("Camaro")) {
-                if (info.model.contains("ZL1")) {
-                    info.transmissionStyle = "Manual/Automatic";
-                    info.transmissionSpeeds = "6/10";  // 6-speed manual or 10-speed auto
-                } else if (info.model.contains("SS")) {
-                    info.transmissionStyle = "Manual/Automatic";
-                    info.transmissionSpeeds = "6/8";
+            } else if (vehicleData.model.contains("Camaro")) {
+                if (vehicleData.model.contains("ZL1")) {
+                    vehicleData.transmissionStyle = "Manual/Automatic";
+                    vehicleData.transmissionSpeeds = "6/10";  // 6-speed manual or 10-speed auto
+                } else if (vehicleData.model.contains("SS")) {
+                    vehicleData.transmissionStyle = "Manual/Automatic";
+                    vehicleData.transmissionSpeeds = "6/8";
                 } else {
-                    info.transmissionStyle = "Automatic";
-                    info.transmissionSpeeds = "8";
+                    vehicleData.transmissionStyle = "Automatic";
+                    vehicleData.transmissionSpeeds = "8";
                 }
-            } else if (info.model.contains("Silverado") || info.model.contains("Sierra")) {
-                if (info.engineDescription != null && info.engineDescription.contains("Diesel")) {
-                    info.transmissionStyle = "Automatic";
-                    info.transmissionSpeeds = "10";  // Allison 10-speed
+            } else if (vehicleData.model.contains("Silverado") || vehicleData.model.contains("Sierra")) {
+                if (vehicleData.engineModel != null && vehicleData.engineModel.contains("Diesel")) {
+                    vehicleData.transmissionStyle = "Automatic";
+                    vehicleData.transmissionSpeeds = "10";  // Allison 10-speed
                 } else {
-                    info.transmissionStyle = "Automatic";
-                    info.transmissionSpeeds = "8-10";  // 8 or 10-speed depending on year
+                    vehicleData.transmissionStyle = "Automatic";
+                    vehicleData.transmissionSpeeds = "8-10";  // 8 or 10-speed depending on year
                 }
-            } else if (info.model.contains("Tahoe") || info.model.contains("Suburban") ||
-                      info.model.contains("Yukon") || info.model.contains("Escalade")) {
-                info.transmissionStyle = "Automatic";
-                info.transmissionSpeeds = "10";  // 10-speed on newer models
+            } else if (vehicleData.model.contains("Tahoe") || vehicleData.model.contains("Suburban") ||
+                      vehicleData.model.contains("Yukon") || vehicleData.model.contains("Escalade")) {
+                vehicleData.transmissionStyle = "Automatic";
+                vehicleData.transmissionSpeeds = "10";  // 10-speed on newer models
             } else {
                 // Most other GM vehicles
-                info.transmissionStyle = "Automatic";
-                if (info.model.contains("CT4") || info.model.contains("CT5")) {
-                    if (info.model.contains("Blackwing")) {
-                        info.transmissionStyle = "Manual/Automatic";
-                        info.transmissionSpeeds = "6/10";
+                vehicleData.transmissionStyle = "Automatic";
+                if (vehicleData.model.contains("CT4") || vehicleData.model.contains("CT5")) {
+                    if (vehicleData.model.contains("Blackwing")) {
+                        vehicleData.transmissionStyle = "Manual/Automatic";
+                        vehicleData.transmissionSpeeds = "6/10";
                     } else {
-                        info.transmissionSpeeds = "10";
+                        vehicleData.transmissionSpeeds = "10";
                     }
                 } else {
-                    info.transmissionSpeeds = "6-9";  // Varies by model
+                    vehicleData.transmissionSpeeds = "6-9";  // Varies by model
                 }
             }
         }
 
-        // Set manufacturer info
-        info.manufacturer = "General Motors";
-        if (info.make != null) {
-            info.manufacturerName = "General Motors (" + info.make + ")";
-        } else {
-            info.manufacturerName = "General Motors";
-        }
-
         // Determine plant location based on position 11
         char plantCode = vin.charAt(10);
         switch (plantCode) {
             case '0':
-                info.plantCity = "Lansing";
-                info.plantState = "Michigan";
-                info.plantCountry = "United States";
+                vehicleData.plantCity = "Lansing";
+                vehicleData.plantState = "Michigan";
+                vehicleData.plantCountry = "United States";
                 break;
             case '1':
-                info.plantCity = "Wentzville";
-                info.plantState = "Missouri";
-                info.plantCountry = "United States";
+                vehicleData.plantCity = "Wentzville";
+                vehicleData.plantState = "Missouri";
+                vehicleData.plantCountry = "United States";
                 break;
             case '2':
-                info.plantCity = "St. Therese";
-                info.plantCountry = "Canada";
+                vehicleData.plantCity = "St. Therese";
+                vehicleData.plantCountry = "Canada";
                 break;
             case '3':
-                info.plantCity = "Detroit/Hamtramck";
-                info.plantState = "Michigan";
-                info.plantCountry = "United States";
+                vehicleData.plantCity = "Detroit/Hamtramck";
+                vehicleData.plantState = "Michigan";
+                vehicleData.plantCountry = "United States";
                 break;
             case '4':
-                info.plantCity = "Orion";
-                info.plantState = "Michigan";
-                info.plantCountry = "United States";
+                vehicleData.plantCity = "Orion";
+                vehicleData.plantState = "Michigan";
+                vehicleData.plantCountry = "United States";
                 break;
             case '5':
-                info.plantCity = "London/Bowling Green";
-                info.plantState = "Kentucky/Ontario";
-                info.plantCountry = "United States/Canada";
+                vehicleData.plantCity = "London/Bowling Green";
+                vehicleData.plantState = "Kentucky/Ontario";
+                vehicleData.plantCountry = "United States/Canada";
                 break;
             case '6':
-                info.plantCity = "Lansing Grand River";
-                info.plantState = "Michigan";
-                info.plantCountry = "United States";
+                vehicleData.plantCity = "Lansing Grand River";
+                vehicleData.plantState = "Michigan";
+                vehicleData.plantCountry = "United States";
                 break;
             case '7':
-                info.plantCity = "Lordstown";
-                info.plantState = "Ohio";
-                info.plantCountry = "United States";
+                vehicleData.plantCity = "Lordstown";
+                vehicleData.plantState = "Ohio";
+                vehicleData.plantCountry = "United States";
                 break;
             case '8':
             case 'B':
-                info.plantCity = "Flint/Shreveport";
-                info.plantState = "Michigan/Louisiana";
-                info.plantCountry = "United States";
+                vehicleData.plantCity = "Flint/Shreveport";
+                vehicleData.plantState = "Michigan/Louisiana";
+                vehicleData.plantCountry = "United States";
                 break;
             case '9':
-                info.plantCity = "Oshawa";
-                info.plantState = "Ontario";
-                info.plantCountry = "Canada";
+                vehicleData.plantCity = "Oshawa";
+                vehicleData.plantState = "Ontario";
+                vehicleData.plantCountry = "Canada";
                 break;
             case 'A':
-                info.plantCity = "Ramos Arizpe";
-                info.plantCountry = "Mexico";
+                vehicleData.plantCity = "Ramos Arizpe";
+                vehicleData.plantCountry = "Mexico";
                 break;
             case 'C':
-                info.plantCity = "Southgate";
-                info.plantState = "California";
-                info.plantCountry = "United States";
+                vehicleData.plantCity = "Southgate";
+                vehicleData.plantState = "California";
+                vehicleData.plantCountry = "United States";
                 break;
             case 'D':
-                info.plantCity = "Doraville";
-                info.plantState = "Georgia";
-                info.plantCountry = "United States";
+                vehicleData.plantCity = "Doraville";
+                vehicleData.plantState = "Georgia";
+                vehicleData.plantCountry = "United States";
                 break;
             case 'E':
-                info.plantCity = "Pontiac";
-                info.plantState = "Michigan";
-                info.plantCountry = "United States";
+                vehicleData.plantCity = "Pontiac";
+                vehicleData.plantState = "Michigan";
+                vehicleData.plantCountry = "United States";
                 break;
             case 'F':
-                info.plantCity = "Fairfax";
-                info.plantState = "Kansas";
-                info.plantCountry = "United States";
+                vehicleData.plantCity = "Fairfax";
+                vehicleData.plantState = "Kansas";
+                vehicleData.plantCountry = "United States";
                 break;
             case 'G':
-                info.plantCity = "Silao";
-                info.plantCountry = "Mexico";
+                vehicleData.plantCity = "Silao";
+                vehicleData.plantCountry = "Mexico";
                 break;
             case 'H':
-                info.plantCity = "Flint";
-                info.plantState = "Michigan";
-                info.plantCountry = "United States";
+                vehicleData.plantCity = "Flint";
+                vehicleData.plantState = "Michigan";
+                vehicleData.plantCountry = "United States";
                 break;
             case 'J':
-                info.plantCity = "Janesville";
-                info.plantState = "Wisconsin";
-                info.plantCountry = "United States";
+                vehicleData.plantCity = "Janesville";
+                vehicleData.plantState = "Wisconsin";
+                vehicleData.plantCountry = "United States";
                 break;
             case 'K':
-                info.plantCity = "Linden/Leeds";
-                info.plantState = "New Jersey/Missouri";
-                info.plantCountry = "United States";
+                vehicleData.plantCity = "Linden/Leeds";
+                vehicleData.plantState = "New Jersey/Missouri";
+                vehicleData.plantCountry = "United States";
                 break;
             case 'L':
-                info.plantCity = "Van Nuys";
-                info.plantState = "California";
-                info.plantCountry = "United States";
+                vehicleData.plantCity = "Van Nuys";
+                vehicleData.plantState = "California";
+                vehicleData.plantCountry = "United States";
                 break;
             case 'N':
-                info.plantCity = "Norwood";
-                info.plantState = "Ohio";
-                info.plantCountry = "United States";
+                vehicleData.plantCity = "Norwood";
+                vehicleData.plantState = "Ohio";
+                vehicleData.plantCountry = "United States";
                 break;
             case 'R':
-                info.plantCity = "Arlington";
-                info.plantState = "Texas";
-                info.plantCountry = "United States";
+                vehicleData.plantCity = "Arlington";
+                vehicleData.plantState = "Texas";
+                vehicleData.plantCountry = "United States";
                 break;
             case 'S':
-                info.plantCity = "Ramos Arizpe/St. Louis";
-                info.plantCountry = "Mexico/United States";
+                vehicleData.plantCity = "Ramos Arizpe/St. Louis";
+                vehicleData.plantCountry = "Mexico/United States";
                 break;
             case 'T':
-                info.plantCity = "Tarrytown";
-                info.plantState = "New York";
-                info.plantCountry = "United States";
+                vehicleData.plantCity = "Tarrytown";
+                vehicleData.plantState = "New York";
+                vehicleData.plantCountry = "United States";
                 break;
             case 'U':
-                info.plantCity = "Detroit";
-                info.plantState = "Michigan";
-                info.plantCountry = "United States";
+                vehicleData.plantCity = "Detroit";
+                vehicleData.plantState = "Michigan";
+                vehicleData.plantCountry = "United States";
                 break;
             case 'V':
-                info.plantCity = "Pontiac";
-                info.plantState = "Michigan";
-                info.plantCountry = "United States";
+                vehicleData.plantCity = "Pontiac";
+                vehicleData.plantState = "Michigan";
+                vehicleData.plantCountry = "United States";
                 break;
             case 'W':
-                info.plantCity = "Wilmington";
-                info.plantState = "Delaware";
-                info.plantCountry = "United States";
+                vehicleData.plantCity = "Wilmington";
+                vehicleData.plantState = "Delaware";
+                vehicleData.plantCountry = "United States";
                 break;
             case 'X':
-                info.plantCity = "Fairfax II";
-                info.plantState = "Kansas";
-                info.plantCountry = "United States";
+                vehicleData.plantCity = "Fairfax II";
+                vehicleData.plantState = "Kansas";
+                vehicleData.plantCountry = "United States";
                 break;
             case 'Y':
-                info.plantCity = "Wilmington";
-                info.plantState = "Delaware";
-                info.plantCountry = "United States";
+                vehicleData.plantCity = "Wilmington";
+                vehicleData.plantState = "Delaware";
+                vehicleData.plantCountry = "United States";
                 break;
             case 'Z':
-                info.plantCity = "Fort Wayne/Fremont";
-                info.plantState = "Indiana/California";
-                info.plantCountry = "United States";
+                vehicleData.plantCity = "Fort Wayne/Fremont";
+                vehicleData.plantState = "Indiana/California";
+                vehicleData.plantCountry = "United States";
                 break;
         }
 
         // Add weight estimates based on model
-        if (info.model != null) {
-            if (info.model.contains("Silverado 1500") || info.model.contains("Sierra 1500")) {
-                info.curbWeight = "4500-5300";
-            } else if (info.model.contains("Silverado 2500") || info.model.contains("Sierra 2500")) {
-                info.curbWeight = "6000-6800";
-            } else if (info.model.contains("Silverado 3500") || info.model.contains("Sierra 3500")) {
-                info.curbWeight = "6500-7500";
-            } else if (info.model.contains("Corvette")) {
-                info.curbWeight = "3300-3650";
-            } else if (info.model.contains("Camaro")) {
-                info.curbWeight = "3400-3900";
-            } else if (info.model.contains("Tahoe") || info.model.contains("Yukon")) {
-                info.curbWeight = "5300-5700";
-            } else if (info.model.contains("Suburban") || info.model.contains("Yukon XL")) {
-                info.curbWeight = "5600-6000";
-            } else if (info.model.contains("Escalade")) {
-                info.curbWeight = "5700-6100";
-            } else if (info.model.contains("Equinox")) {
-                info.curbWeight = "3300-3500";
-            } else if (info.model.contains("Traverse") || info.model.contains("Enclave")) {
-                info.curbWeight = "4300-4700";
-            } else if (info.model.contains("Malibu")) {
-                info.curbWeight = "3100-3300";
+        if (vehicleData.model != null) {
+            if (vehicleData.model.contains("Silverado 1500") || vehicleData.model.contains("Sierra 1500")) {
+                vehicleData.curbWeight = "4500-5300";
+            } else if (vehicleData.model.contains("Silverado 2500") || vehicleData.model.contains("Sierra 2500")) {
+                vehicleData.curbWeight = "6000-6800";
+            } else if (vehicleData.model.contains("Silverado 3500") || vehicleData.model.contains("Sierra 3500")) {
+                vehicleData.curbWeight = "6500-7500";
+            } else if (vehicleData.model.contains("Corvette")) {
+                vehicleData.curbWeight = "3300-3650";
+            } else if (vehicleData.model.contains("Camaro")) {
+                vehicleData.curbWeight = "3400-3900";
+            } else if (vehicleData.model.contains("Tahoe") || vehicleData.model.contains("Yukon")) {
+                vehicleData.curbWeight = "5300-5700";
+            } else if (vehicleData.model.contains("Suburban") || vehicleData.model.contains("Yukon XL")) {
+                vehicleData.curbWeight = "5600-6000";
+            } else if (vehicleData.model.contains("Escalade")) {
+                vehicleData.curbWeight = "5700-6100";
+            } else if (vehicleData.model.contains("Equinox")) {
+                vehicleData.curbWeight = "3300-3500";
+            } else if (vehicleData.model.contains("Traverse") || vehicleData.model.contains("Enclave")) {
+                vehicleData.curbWeight = "4300-4700";
+            } else if (vehicleData.model.contains("Malibu")) {
+                vehicleData.curbWeight = "3100-3300";
             }
         }
-
-        return info;
     }
 
     /**
@@ -0,0 +1,107 @@
+package io.github.vindecoder.offline;
+
+import io.github.vindecoder.nhtsa.VehicleData;
+import java.util.List;
+
+/**
+ * Result of a decode from bytes
+ *
+ * Keeps the VIN as the characters it was decoded from and creates the VIN,
+ * WMI, VDS, VIS and sequential number Strings, and the results list, only when
+ * their getters are called. Until then those public fields are null; read them
+ * through the getters, or call {@link #fill()} first.
+ */
+final class LazyVehicleData extends VehicleData {
+
+    /** The upper-case VIN; transient so Gson does not serialize it */
+    private final transient VinView view;
+    private transient boolean resultsSet;
+
+    LazyVehicleData(VinView view) {
+        this.view = view;
+    }
+
+    /**
+     * Completes the decode once decodeFields has run: like the String path, the
+     * VIN sections override whatever a manufacturer decoder set
+     */
+    void decoded() {
+        wmi = null;
+        vds = null;
+        vis = null;
+        setCount(DecodedResults.countWithSections(this));
+        setMessage("VIN decoded offline");
+    }
+
+    /**
+     * Creates every lazy field, e.g. before the public fields are read directly
+     */
+    void fill() {
+        fillSections();
+        getResults();
+    }
+
+    private void fillSections() {
+        getVin();
+        getWmi();
+        getVds();
+        getVis();
+        getSequentialNumber();
+    }
+
+    @Override
+    public String getVin() {
+        if (vin == null) {
+            vin = view.toString();
+        }
+        return vin;
+    }
+
+    @Override
+    public String getWmi() {
+        if (wmi == null) {
+            wmi = view.substring(0, 3);
+        }
+        return wmi;
+    }
+
+    @Override
+    public String getVds() {
+        if (vds == null) {
+            vds = view.substring(3, 9);
+        }
+        return vds;
+    }
+
+    @Override
+    public String getVis() {
+        if (vis == null) {
+            vis = view.substring(9, 17);
+        }
+        return vis;
+    }
+
+    @Override
+    public String getSequentialNumber() {
+        if (sequentialNumber == null) {
+            sequentialNumber = view.substring(11, 17);
+        }
+        return sequentialNumber;
+    }
+
+    @Override
+    public List<Result> getResults() {
+        if (!resultsSet) {
+            resultsSet = true;
+            fillSections();
+            results = DecodedResults.of(this);
+        }
+        return results;
+    }
+
+    @Override
+    public void setResults(List<Result> results) {
+        resultsSet = true;
+        super.setResults(results);
+    }
+}
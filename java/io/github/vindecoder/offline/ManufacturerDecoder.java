@@ -0,0 +1,40 @@
+package io.github.vindecoder.offline;
+
+import io.github.vindecoder.nhtsa.VehicleData;
+
+/**
+ * Manufacturer-specific VIN decoder
+ *
+ * Adds model, trim, engine and plant details that only the manufacturer's own
+ * VDS/VIS conventions reveal. Implementations are registered by WMI prefix in
+ * {@link ManufacturerDecoders} and called by {@link OfflineVINDecoder} after the
+ * generic fields are decoded.
+ *
+ * Implementations must be thread-safe: one instance serves every decode.
+ */
+public interface ManufacturerDecoder {
+
+    /**
+     * @return name for diagnostics, e.g. "Ford"
+     */
+    String getName();
+
+    /**
+     * Adds manufacturer-specific details to vehicleData
+     * @param vin Upper-case, 17 character VIN
+     * @param vehicleData Result being built; VIN, make, model year, region and
+     *                    plant country are already set
+     */
+    void decode(String vin, VehicleData vehicleData);
+
+    /**
+     * Adds manufacturer-specific details to vehicleData from a parsed VIN;
+     * the offline decoder calls this one. Override it to read the view directly
+     * instead of the VIN String.
+     * @param vin Upper-case VIN; only valid for the duration of the call
+     * @param vehicleData Result being built, as for {@link #decode(String, VehicleData)}
+     */
+    default void decode(VinView vin, VehicleData vehicleData) {
+        decode(vin.toString(), vehicleData);
+    }
+}
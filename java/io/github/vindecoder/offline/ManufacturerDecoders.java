@@ -0,0 +1,173 @@
+package io.github.vindecoder.offline;
+
+import io.github.vindecoder.nhtsa.VehicleData;
+import java.util.Arrays;
+
+/**
+ * WMI dispatch table for manufacturer-specific decoders
+ *
+ * Every 3-character WMI has a slot holding the decoder for it, so choosing a
+ * decoder is one array lookup. Built-in routing is resolved per slot on its
+ * first lookup. Tables are immutable: {@link #with} returns a copy,
+ * which makes a table safe to share between threads and decoders.
+ *
+ * Usage:
+ * <pre>
+ * ManufacturerDecoders decoders = ManufacturerDecoders.builtIn()
+ *         .with(new TeslaDecoder(), "5YJ", "7SA", "LRW");
+ * OfflineVINDecoder decoder = new OfflineVINDecoder(decoders);
+ * </pre>
+ */
+public final class ManufacturerDecoders {
+
+    private static final int WMI_SLOTS =
+            WMIDatabase.ALPHABET_SIZE * WMIDatabase.ALPHABET_SIZE * WMIDatabase.ALPHABET_SIZE;
+    private static final int PREFIX_SLOTS = WMIDatabase.ALPHABET_SIZE * WMIDatabase.ALPHABET_SIZE;
+
+    /** Marks a slot resolved to no decoder */
+    private static final ManufacturerDecoder NONE = new ManufacturerDecoder() {
+        @Override
+        public String getName() {
+            return "None";
+        }
+
+        @Override
+        public void decode(String vin, VehicleData vehicleData) {
+        }
+    };
+
+    private static final WMIDatabase WMI_DATABASE = new WMIDatabase();
+
+    /** Decoder per 3-character WMI */
+    private final ManufacturerDecoder[] byWmi;
+    /** Decoder per 2-character prefix, for WMIs whose third character is not a VIN character */
+    private final ManufacturerDecoder[] byPrefix;
+    /** Whether empty slots still have to be resolved with the built-in routing rules */
+    private final boolean builtInRouting;
+
+    private ManufacturerDecoders(ManufacturerDecoder[] byWmi, ManufacturerDecoder[] byPrefix, boolean builtInRouting) {
+        this.byWmi = byWmi;
+        this.byPrefix = byPrefix;
+        this.builtInRouting = builtInRouting;
+    }
+
+    /**
+     * Created on first use (holder class idiom)
+     */
+    private static final class BuiltIn {
+        static final ManufacturerDecoders TABLE = new ManufacturerDecoders(
+                new ManufacturerDecoder[WMI_SLOTS], new ManufacturerDecoder[PREFIX_SLOTS], true);
+    }
+
+    /**
+     * Table routing GM, Ford, Toyota and Mercedes-Benz WMIs to the bundled decoders
+     */
+    public static ManufacturerDecoders builtIn() {
+        return BuiltIn.TABLE;
+    }
+
+    /**
+     * Table without any decoders
+     */
+    public static ManufacturerDecoders empty() {
+        return new ManufacturerDecoders(new ManufacturerDecoder[WMI_SLOTS], new ManufacturerDecoder[PREFIX_SLOTS], false);
+    }
+
+    /**
+     * Returns a copy of this table with decoder registered for the given WMI prefixes.
+     * A prefix of 1 to 3 characters covers every WMI starting with it, known to the
+     * WMI database or not. The decoder replaces any earlier registration for those WMIs.
+     * @param decoder Decoder to register
+     * @param wmiPrefixes WMI prefixes, e.g. "5YJ" or "1G"
+     * @return new table
+     */
+    public ManufacturerDecoders with(ManufacturerDecoder decoder, String... wmiPrefixes) {
+        if (decoder == null) {
+            throw new IllegalArgumentException("decoder must not be null");
+        }
+        if (wmiPrefixes == null || wmiPrefixes.length == 0) {
+            throw new IllegalArgumentException("At least one WMI prefix is required");
+        }
+        ManufacturerDecoders table = new ManufacturerDecoders(
+                Arrays.copyOf(byWmi, WMI_SLOTS), Arrays.copyOf(byPrefix, PREFIX_SLOTS), builtInRouting);
+        String alphabet = WMIDatabase.ALPHABET;
+
+        for (String wmiPrefix : wmiPrefixes) {
+            if (wmiPrefix == null || wmiPrefix.isEmpty() || wmiPrefix.length() > 3) {
+                throw new IllegalArgumentException("WMI prefix must be 1 to 3 characters: " + wmiPrefix);
+            }
+            String prefix = wmiPrefix.toUpperCase();
+            for (int c = 0; c < prefix.length(); c++) {
+                if (alphabet.indexOf(prefix.charAt(c)) < 0) {
+                    throw new IllegalArgumentException("Not a VIN character in WMI prefix: " + wmiPrefix);
+                }
+            }
+
+            // Fill every WMI slot the prefix covers
+            char c1 = prefix.charAt(0);
+            String seconds = prefix.length() > 1 ? prefix.substring(1, 2) : alphabet;
+            String thirds = prefix.length() > 2 ? prefix.substring(2, 3) : alphabet;
+            for (int j = 0; j < seconds.length(); j++) {
+                char c2 = seconds.charAt(j);
+                if (prefix.length() < 3) {
+                    table.byPrefix[WMIDatabase.index(c1, c2)] = decoder;
+                }
+                for (int k = 0; k < thirds.length(); k++) {
+                    table.byWmi[WMIDatabase.index(c1, c2, thirds.charAt(k))] = decoder;
+                }
+            }
+        }
+        return table;
+    }
+
+    /**
+     * Finds the decoder for a VIN
+     * @param vin VIN or WMI, at least 3 characters
+     * @return decoder, or null if no decoder is registered for the WMI
+     */
+    public ManufacturerDecoder find(CharSequence vin) {
+        if (vin == null || vin.length() < 3) {
+            return null;
+        }
+        char c1 = vin.charAt(0);
+        char c2 = vin.charAt(1);
+        char c3 = vin.charAt(2);
+        ManufacturerDecoder[] slots = byWmi;
+        int slot = WMIDatabase.index(c1, c2, c3);
+        if (slot < 0) {
+            slots = byPrefix;
+            slot = WMIDatabase.index(c1, c2);
+            if (slot < 0) {
+                return null;
+            }
+        }
+
+        ManufacturerDecoder decoder = slots[slot];
+        if (decoder == null && builtInRouting) {
+            // Racing threads resolve the same decoder, so an unsynchronized write is safe
+            decoder = resolveBuiltIn(c1, c2, slots == byWmi ? c3 : 0);
+            slots[slot] = decoder;
+        }
+        return decoder == NONE ? null : decoder;
+    }
+
+    /**
+     * Applies the built-in routing rules to one WMI. Resolving slots on first lookup,
+     * instead of all 35,937 up front, keeps the table free at startup.
+     * @param c3 Third WMI character, or 0 when it is not a VIN character
+     */
+    private static ManufacturerDecoder resolveBuiltIn(char c1, char c2, char c3) {
+        char[] wmi = {Character.toUpperCase(c1), Character.toUpperCase(c2), Character.toUpperCase(c3)};
+        String prefix = new String(wmi, 0, 2);
+        String manufacturer = null;
+        if (c3 != 0) {
+            manufacturer = WMI_DATABASE.getManufacturerName(WMI_DATABASE.getManufacturerId(c1, c2, c3));
+        }
+        if (manufacturer == null) {
+            // Same fallback as OfflineVINDecoder when the full WMI is unknown
+            manufacturer = WMI_DATABASE.getManufacturerByPrefix(prefix);
+        }
+        BuiltInDecoder decoder = BuiltInDecoder.route(manufacturer, c3 != 0 ? new String(wmi) : prefix);
+        return decoder != null ? decoder : NONE;
+    }
+}
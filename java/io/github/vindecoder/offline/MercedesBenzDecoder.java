@@ -1,5 +1,6 @@
 package io.github.vindecoder.offline;
 
+import io.github.vindecoder.nhtsa.VehicleData;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -12,13 +13,25 @@ import java.util.Map;
 public class MercedesBenzDecoder {
 
     private static final Map<String, ModelInfo> MODEL_CODES = new HashMap<>();
+    /** MODEL_CODES keyed by VinView code */
+    private static final CodeTable<ModelInfo> MODELS;
     private static final Map<String, String> ENGINE_CODES = new HashMap<>();
+    /** ENGINE_CODES with details pre-parsed, indexed by engine code character */
+    private static final EngineDescriptor[] ENGINES;
     private static final Map<String, String> BODY_STYLES = new HashMap<>();
+    /** BODY_STYLES keyed by VinView code */
+    private static final CodeTable<String> BODIES;
+    /** "body class / body style" per MODELS and BODIES index, created on first use */
+    private static final String[] STYLED_BODY_CLASSES;
 
     static {
         initializeModelCodes();
+        MODELS = CodeTable.of(MODEL_CODES);
         initializeEngineCodes();
+        ENGINES = indexEngines();
         initializeBodyStyles();
+        BODIES = CodeTable.of(BODY_STYLES);
+        STYLED_BODY_CLASSES = new String[MODELS.size() * BODIES.size()];
     }
 
     public static class ModelInfo {
@@ -136,6 +149,48 @@ public class MercedesBenzDecoder {
         ENGINE_CODES.put("9", "2.0L Turbo I4 Mild Hybrid");
     }
 
+    /**
+     * Pre-parses ENGINE_CODES with the Mercedes-Benz displacement and fuel type rules
+     */
+    private static EngineDescriptor[] indexEngines() {
+        EngineDescriptor[] table = new EngineDescriptor[128];
+        for (Map.Entry<String, String> entry : ENGINE_CODES.entrySet()) {
+            String description = entry.getValue();
+            String displacement = null;
+            String cylinders = null;
+
+            // Extract displacement from description
+            if (description.contains("2.0L")) {
+                displacement = "2.0";
+                cylinders = "4";
+            } else if (description.contains("3.0L")) {
+                displacement = "3.0";
+                cylinders = "6";
+            } else if (description.contains("3.5L")) {
+                displacement = "3.5";
+                cylinders = "6";
+            } else if (description.contains("4.0L")) {
+                displacement = "4.0";
+                cylinders = "8";
+            }
+
+            // Set fuel type
+            String fuelType;
+            if (description.contains("Electric")) {
+                fuelType = "Electric";
+            } else if (description.contains("Hybrid")) {
+                fuelType = "Gasoline/Electric Hybrid";
+            } else if (description.contains("Diesel")) {
+                fuelType = "Diesel";
+            } else {
+                fuelType = "Gasoline";
+            }
+
+            table[entry.getKey().charAt(0)] = new EngineDescriptor(description, displacement, cylinders, fuelType);
+        }
+        return table;
+    }
+
     private static void initializeBodyStyles() {
         // Body style codes (sometimes position 7)
         BODY_STYLES.put("A", "Sedan");
@@ -161,87 +216,135 @@ public class MercedesBenzDecoder {
             return null;
         }
 
+        VehicleData vehicleData = new VehicleData();
+        decode(vin, vehicleData);
+
         VehicleInfo info = new VehicleInfo();
+        info.model = vehicleData.model;
+        info.series = vehicleData.trim;
+        info.bodyClass = vehicleData.bodyClass;
+        info.driveType = vehicleData.driveType;
+        info.doors = vehicleData.doors;
+        info.engineDescription = vehicleData.engineModel;
+        info.transmissionStyle = vehicleData.transmissionStyle;
+        info.transmissionSpeeds = vehicleData.transmissionSpeeds;
+        info.plantCity = vehicleData.plantCity;
+        info.plantState = vehicleData.plantState;
+        info.plantCountry = vehicleData.plantCountry;
+        info.gvwr = vehicleData.gvwr;
+        info.curbWeight = vehicleData.curbWeight;
+        info.manufacturer = "Mercedes-Benz";
+        info.manufacturerName = "Mercedes-Benz (Daimler AG)";
+        return info;
+    }
+
+    /**
+     * Decode Mercedes-Benz specific information from VIN straight into vehicleData,
+     * without an intermediate VehicleInfo. Sets model, trim, body class, drive type,
+     * doors, engine model, transmission, plant and weight fields as they are decoded,
+     * so pass a VehicleData where those fields are not yet set.
+     */
+    public static void decode(String vin, VehicleData vehicleData) {
+        if (vin == null || vin.length() < 17) {
+            return;
+        }
+        decode(VinView.of(vin), vehicleData);
+    }
 
+    /**
+     * Decode Mercedes-Benz specific information from a VIN view into vehicleData
+     * @see #decode(String, VehicleData)
+     */
+    public static void decode(VinView vin, VehicleData vehicleData) {
         // Extract model code (positions 4-6)
-        String modelCode = vin.substring(3, 6).toUpperCase();
-        ModelInfo modelInfo = MODEL_CODES.get(modelCode);
+        int model = MODELS.indexOf(vin.code(3, 6));
+        ModelInfo modelInfo = model >= 0 ? MODELS.valueAt(model) : null;
 
         if (modelInfo != null) {
-            info.model = modelInfo.model;
-            info.series = modelInfo.series;
-            info.bodyClass = modelInfo.bodyClass;
-            info.driveType = modelInfo.driveType;
-            info.doors = modelInfo.doors;
+            vehicleData.model = modelInfo.model;
+            vehicleData.trim = modelInfo.series;
+            vehicleData.bodyClass = modelInfo.bodyClass;
+            vehicleData.driveType = modelInfo.driveType;
+            vehicleData.doors = modelInfo.doors;
         }
 
         // Extract engine code (position 8)
-        String engineCode = String.valueOf(vin.charAt(7));
-        info.engineDescription = ENGINE_CODES.get(engineCode);
+        EngineDescriptor engine = EngineDescriptor.lookup(ENGINES, vin.charAt(7));
+        if (engine != null) {
+            engine.applyTo(vehicleData);
+        }
 
         // Extract body style (position 7)
-        String bodyCode = String.valueOf(vin.charAt(6));
-        String bodyStyle = BODY_STYLES.get(bodyCode);
-        if (bodyStyle != null && info.bodyClass != null) {
+        int body = BODIES.indexOf(vin.charAt(6));
+        if (body >= 0 && vehicleData.bodyClass != null) {
             // Enhance body class with style info
-            info.bodyClass = info.bodyClass + " / " + bodyStyle;
+            if (modelInfo != null && vehicleData.bodyClass == modelInfo.bodyClass) {
+                vehicleData.bodyClass = styledBodyClass(model, body);
+            } else {
+                vehicleData.bodyClass = vehicleData.bodyClass + " / " + BODIES.valueAt(body);
+            }
         }
 
         // Determine transmission (Mercedes typically uses automatic)
-        if (info.driveType != null) {
-            info.transmissionStyle = "Automatic";
-            info.transmissionSpeeds = "9";  // Most modern Mercedes use 9-speed
+        if (vehicleData.driveType != null) {
+            vehicleData.transmissionStyle = "Automatic";
+            vehicleData.transmissionSpeeds = "9";  // Most modern Mercedes use 9-speed
 
-            if (info.model != null && info.model.contains("AMG")) {
-                info.transmissionSpeeds = "9";  // AMG Speedshift
+            if (vehicleData.model != null && vehicleData.model.contains("AMG")) {
+                vehicleData.transmissionSpeeds = "9";  // AMG Speedshift
             }
-            if (info.engineDescription != null && info.engineDescription.contains("Electric")) {
-                info.transmissionStyle = "Direct Drive";
-                info.transmissionSpeeds = "1";
+            if (vehicleData.engineModel != null && vehicleData.engineModel.contains("Electric")) {
+                vehicleData.transmissionStyle = "Direct Drive";
+                vehicleData.transmissionSpeeds = "1";
             }
         }
 
-        // Set manufacturer details
-        info.manufacturer = "Mercedes-Benz";
-        info.manufacturerName = "Mercedes-Benz (Daimler AG)";
-
         // Set assembly plant info for US-built vehicles
         if (vin.startsWith("4JG")) {
-            info.plantCity = "Tuscaloosa";
-            info.plantState = "Alabama";
-            info.plantCountry = "United States";
+            vehicleData.plantCity = "Tuscaloosa";
+            vehicleData.plantState = "Alabama";
+            vehicleData.plantCountry = "United States";
         } else if (vin.startsWith("WDB") || vin.startsWith("WDD")) {
-            info.plantCountry = "Germany";
-            info.plantCity = "Sindelfingen";
+            vehicleData.plantCountry = "Germany";
+            vehicleData.plantCity = "Sindelfingen";
         } else if (vin.startsWith("WDC")) {
-            info.plantCountry = "Germany";
-            info.plantCity = "Bremen";
+            vehicleData.plantCountry = "Germany";
+            vehicleData.plantCity = "Bremen";
         }
 
         // Estimate weight based on vehicle type
-        if (info.model != null) {
-            if (info.model.contains("S-Class")) {
-                info.gvwr = "6000";
-                info.curbWeight = "4500";
-            } else if (info.model.contains("GLE")) {
-                info.gvwr = "6062";
-                info.curbWeight = "4630";
-            } else if (info.model.contains("GLC")) {
-                info.gvwr = "5500";
-                info.curbWeight = "3900";
-            } else if (info.model.contains("C-Class")) {
-                info.gvwr = "4800";
-                info.curbWeight = "3500";
-            } else if (info.model.contains("E-Class")) {
-                info.gvwr = "5300";
-                info.curbWeight = "3900";
-            } else if (info.model.contains("G-Class")) {
-                info.gvwr = "7000";
-                info.curbWeight = "5500";
+        if (vehicleData.model != null) {
+            if (vehicleData.model.contains("S-Class")) {
+                vehicleData.gvwr = "6000";
+                vehicleData.curbWeight = "4500";
+            } else if (vehicleData.model.contains("GLE")) {
+                vehicleData.gvwr = "6062";
+                vehicleData.curbWeight = "4630";
+            } else if (vehicleData.model.contains("GLC")) {
+                vehicleData.gvwr = "5500";
+                vehicleData.curbWeight = "3900";
+            } else if (vehicleData.model.contains("C-Class")) {
+                vehicleData.gvwr = "4800";
+                vehicleData.curbWeight = "3500";
+            } else if (vehicleData.model.contains("E-Class")) {
+                vehicleData.gvwr = "5300";
+                vehicleData.curbWeight = "3900";
+            } else if (vehicleData.model.contains("G-Class")) {
+                vehicleData.gvwr = "7000";
+                vehicleData.curbWeight = "5500";
             }
         }
+    }
 
-        return info;
+    private static String styledBodyClass(int model, int body) {
+        int index = model * BODIES.size() + body;
+        String styled = STYLED_BODY_CLASSES[index];
+        if (styled == null) {
+            // Racing threads store equal strings
+            styled = MODELS.valueAt(model).bodyClass + " / " + BODIES.valueAt(body);
+            STYLED_BODY_CLASSES[index] = styled;
+        }
+        return styled;
     }
 
     /**
@@ -1,8 +1,14 @@
 package io.github.vindecoder.offline;
 
 import io.github.vindecoder.nhtsa.VehicleData;
-import java.util.ArrayList;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.stream.Stream;
 
 /**
  * Offline VIN Decoder
@@ -12,10 +18,32 @@ import java.util.List;
  */
 public class OfflineVINDecoder {
 
+    /** VINs decoded per fork/join leaf task; a decode takes a few microseconds */
+    private static final int BULK_CHUNK_SIZE = 512;
+
+    /** Model years 1980-2039 as strings, created on first use and shared by all results */
+    private static final String[] MODEL_YEAR_NAMES = new String[60];
+    /** One character plant codes by ASCII value, created on first use and shared by all results */
+    private static final String[] PLANT_CODES = new String[128];
+    /** Vehicle type implied by a manufacturer name, or "" if the VDS decides */
+    private static final Map<String, String> MANUFACTURER_TYPES = new ConcurrentHashMap<>();
+    /** Bounds MANUFACTURER_TYPES when decoders report arbitrary makes */
+    private static final int MAX_MANUFACTURER_TYPES = 4096;
+
     private final WMIDatabase wmiDatabase;
+    private final ManufacturerDecoders manufacturerDecoders;
 
     public OfflineVINDecoder() {
+        this(null);
+    }
+
+    /**
+     * @param manufacturerDecoders Manufacturer-specific decoders by WMI, e.g.
+     *                             ManufacturerDecoders.builtIn().with(...), or null for the built-in table
+     */
+    public OfflineVINDecoder(ManufacturerDecoders manufacturerDecoders) {
         this.wmiDatabase = new WMIDatabase();
+        this.manufacturerDecoders = manufacturerDecoders;
     }
 
     /**
@@ -24,19 +52,229 @@ public class OfflineVINDecoder {
      * @return VehicleData with decoded information
      */
     public VehicleData decode(String vin) {
-        VehicleData vehicleData = new VehicleData();
+        if (vin == null || vin.length() != 17) {
+            return invalidLength();
+        }
+
+        vin = vin.toUpperCase();
+        return decodeNormalized(vin, VINValidator.isValidVIN(vin));
+    }
+
+    /**
+     * Decodes a VIN stored as 17 ASCII bytes, e.g. a record in a network or file buffer.
+     * Validation and the WMI, year, plant and serial lookups run on a copy of the bytes;
+     * no String is created for them. The VIN, WMI, VDS, VIS and sequential number
+     * Strings and the results list are created when their getters are first called,
+     * so read them through the getters rather than the public fields.
+     * @param vin Buffer holding the VIN as ASCII
+     * @param offset Index of the first VIN byte
+     * @return VehicleData with decoded information
+     */
+    public VehicleData decode(byte[] vin, int offset) {
+        if (vin == null || offset < 0 || offset > vin.length - 17) {
+            return invalidLength();
+        }
+
+        return decodeView(new VinView().reset(vin, offset));
+    }
 
+    /**
+     * Decodes a VIN stored as 17 ASCII bytes at an absolute offset of a buffer.
+     * The buffer's position and limit are not modified, so this works on direct and
+     * memory-mapped buffers shared between readers. Creates Strings lazily like
+     * {@link #decode(byte[], int)}.
+     * @param buffer Buffer holding the VIN as ASCII
+     * @param offset Absolute index of the first VIN byte
+     * @return VehicleData with decoded information
+     */
+    public VehicleData decode(ByteBuffer buffer, int offset) {
+        if (buffer == null || offset < 0 || offset > buffer.limit() - 17) {
+            return invalidLength();
+        }
+
+        return decodeView(new VinView().reset(buffer, offset));
+    }
+
+    /**
+     * Decodes a VIN into a caller-owned result instead of a new VehicleData, e.g. once
+     * per record of a stream. The result is cleared and refilled; with the built-in
+     * manufacturer decoders a warmed-up loop allocates nothing. Decodes the same
+     * values as {@link #decode(String)}, see {@link DecodeResult#toVehicleData()}.
+     * @param vin The Vehicle Identification Number, either case
+     * @param result Result to overwrite
+     * @return result
+     */
+    public DecodeResult decodeInto(CharSequence vin, DecodeResult result) {
+        result.clear();
+        VehicleData vehicleData = result.vehicleData();
         if (vin == null || vin.length() != 17) {
             vehicleData.setErrorCode("INVALID_VIN");
             vehicleData.setErrorText("VIN must be exactly 17 characters");
-            return vehicleData;
+            return result;
         }
 
-        vin = vin.toUpperCase();
+        VinView view = result.vin().reset(vin, 0).upperCase();
+        ManufacturerDecoder manufacturerDecoder = decodeFields(view, view.isValid(), vehicleData);
+        result.decoded(view.modelYear(), manufacturerDecoder);
+        return result;
+    }
+
+    /**
+     * Decodes many VINs across all cores of the common fork/join pool
+     * @param vins VINs to decode
+     * @return results in input order
+     */
+    public List<VehicleData> decodeAll(List<String> vins) {
+        return decodeAll(vins, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Decodes many VINs on the given pool, e.g. new ForkJoinPool(4) to cap parallelism
+     * @param vins VINs to decode
+     * @param pool Pool to run on, or null to decode sequentially on the calling thread
+     * @return results in input order
+     */
+    public List<VehicleData> decodeAll(List<String> vins, ForkJoinPool pool) {
+        String[] array = vins.toArray(new String[0]);
+        return Arrays.asList(decodeAll(array, pool));
+    }
+
+    /**
+     * Decodes many VINs across all cores of the common fork/join pool
+     * @param vins VINs to decode
+     * @return results, index for index with the input
+     */
+    public VehicleData[] decodeAll(String[] vins) {
+        return decodeAll(vins, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Decodes many VINs on the given pool, e.g. new ForkJoinPool(4) to cap parallelism.
+     * Small inputs and single-threaded pools are decoded on the calling thread.
+     * @param vins VINs to decode
+     * @param pool Pool to run on, or null to decode sequentially on the calling thread
+     * @return results, index for index with the input
+     */
+    public VehicleData[] decodeAll(String[] vins, ForkJoinPool pool) {
+        VehicleData[] results = new VehicleData[vins.length];
+        if (pool == null || pool.getParallelism() <= 1 || vins.length <= BULK_CHUNK_SIZE) {
+            decodeRange(vins, results, 0, vins.length);
+        } else {
+            pool.invoke(new DecodeTask(vins, results, 0, vins.length));
+        }
+        return results;
+    }
+
+    /**
+     * Decodes a stream of VINs lazily. Order, parallelism and laziness follow the
+     * input stream, e.g. Files.lines(path).parallel() decodes on the common pool.
+     * @param vins VINs to decode
+     * @return stream of results
+     */
+    public Stream<VehicleData> decodeAll(Stream<String> vins) {
+        return vins.map(this::decode);
+    }
+
+    /**
+     * Splits an index range in halves until it is small enough to decode directly.
+     * Each task writes only its own slice of the result array, so input order is kept
+     * without merging.
+     */
+    private final class DecodeTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final String[] vins;
+        private final VehicleData[] results;
+        private final int from;
+        private final int to;
+
+        DecodeTask(String[] vins, VehicleData[] results, int from, int to) {
+            this.vins = vins;
+            this.results = results;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= BULK_CHUNK_SIZE) {
+                decodeRange(vins, results, from, to);
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new DecodeTask(vins, results, from, middle), new DecodeTask(vins, results, middle, to));
+        }
+    }
+
+    private void decodeRange(String[] vins, VehicleData[] results, int from, int to) {
+        for (int i = from; i < to; i++) {
+            results[i] = decode(vins[i]);
+        }
+    }
+
+    /**
+     * The built-in table is resolved here rather than in the constructor so that
+     * creating a decoder for validation alone does not build it
+     */
+    private ManufacturerDecoders manufacturerDecoders() {
+        return manufacturerDecoders != null ? manufacturerDecoders : ManufacturerDecoders.builtIn();
+    }
+
+    private VehicleData invalidLength() {
+        VehicleData vehicleData = new VehicleData();
+        vehicleData.setErrorCode("INVALID_VIN");
+        vehicleData.setErrorText("VIN must be exactly 17 characters");
+        return vehicleData;
+    }
+
+    /**
+     * Shared decode path for an upper-case, 17 character VIN. The VIN is parsed
+     * into one view that the manufacturer decoder reads; the substrings taken here
+     * are the section fields of the result.
+     */
+    private VehicleData decodeNormalized(String vin, boolean isValid) {
+        VinView view = VinView.of(vin);
+        VehicleData vehicleData = new VehicleData();
         vehicleData.setVin(vin);
 
-        // Validate VIN
-        boolean isValid = VINValidator.isValidVIN(vin);
+        // Get production number
+        vehicleData.setSequentialNumber(vin.substring(11, 17));
+
+        decodeFields(view, isValid, vehicleData);
+
+        // Set additional fields
+        vehicleData.setWmi(vin.substring(0, 3));
+        vehicleData.setVds(vin.substring(3, 9));
+        vehicleData.setVis(vin.substring(9, 17));
+
+        // Add decoded results list for compatibility; its entries are created on first access
+        DecodedResults results = DecodedResults.of(vehicleData);
+        vehicleData.setResults(results);
+        vehicleData.setCount(results.count());
+        vehicleData.setMessage("VIN decoded offline");
+
+        return vehicleData;
+    }
+
+    /**
+     * Decode path for bytes: the result reads the VIN and its sections from the view on demand
+     */
+    private VehicleData decodeView(VinView view) {
+        view.upperCase();
+        LazyVehicleData vehicleData = new LazyVehicleData(view);
+        decodeFields(view, view.isValid(), vehicleData);
+        vehicleData.decoded();
+        return vehicleData;
+    }
+
+    /**
+     * Decodes everything but the VIN section fields into vehicleData. Every value set
+     * here is a shared table string, so this allocates nothing unless the manufacturer
+     * decoder does.
+     * @param vin Upper-case VIN
+     * @return the manufacturer decoder that ran, or null
+     */
+    private ManufacturerDecoder decodeFields(VinView vin, boolean isValid, VehicleData vehicleData) {
         vehicleData.setValid(isValid);
 
         if (!isValid) {
@@ -44,195 +282,47 @@ public class OfflineVINDecoder {
             vehicleData.setErrorText("VIN failed validation check");
         }
 
-        // Extract WMI and get manufacturer
-        String wmi = VINValidator.getWMI(vin);
-        String manufacturer = null;
-
-        if (wmi != null) {
-            manufacturer = wmiDatabase.getManufacturer(wmi);
-            if (manufacturer != null) {
-                vehicleData.setMake(manufacturer);
-                vehicleData.setManufacturerName(manufacturer);
-            } else {
-                // Try with first 2 characters for some manufacturers
-                String wmi2 = wmi.substring(0, 2);
-                manufacturer = wmiDatabase.getManufacturerByPrefix(wmi2);
-                if (manufacturer != null) {
-                    vehicleData.setMake(manufacturer);
-                    vehicleData.setManufacturerName(manufacturer);
-                }
-            }
+        // Get manufacturer from the WMI
+        String manufacturer = wmiDatabase.getManufacturer(vin, 0);
+        if (manufacturer == null) {
+            // Try with first 2 characters for some manufacturers
+            manufacturer = wmiDatabase.getManufacturerByPrefix(vin.charAt(0), vin.charAt(1));
+        }
+        if (manufacturer != null) {
+            vehicleData.setMake(manufacturer);
+            vehicleData.setManufacturerName(manufacturer);
         }
 
         // Decode model year
-        Integer modelYear = VINValidator.getModelYear(vin);
-        if (modelYear != null) {
-            vehicleData.setModelYear(String.valueOf(modelYear));
+        int modelYear = vin.modelYear();
+        if (modelYear != VINValidator.UNKNOWN_MODEL_YEAR) {
+            vehicleData.setModelYear(modelYearName(modelYear));
         }
 
         // Get region and country
-        String region = VINValidator.getRegion(vin);
-        vehicleData.setRegion(region);
-
-        String country = VINValidator.getCountry(vin);
-        vehicleData.setPlantCountry(country);
+        vehicleData.setRegion(vin.region());
+        vehicleData.setPlantCountry(vin.country());
 
         // Get plant code
-        String plantCode = VINValidator.getPlantCode(vin);
-        vehicleData.setPlantCode(plantCode);
-
-        // Get production number
-        String productionNumber = VINValidator.getProductionNumber(vin);
-        vehicleData.setSequentialNumber(productionNumber);
-
-        // Extract VDS and VIS sections
-        String vds = VINValidator.getVDS(vin);
-        String vis = VINValidator.getVIS(vin);
+        vehicleData.setPlantCode(plantCode(vin.charAt(10)));
 
         // Use manufacturer-specific decoder for enhanced information
-        if (manufacturer != null && (manufacturer.contains("Mercedes") || wmi.startsWith("4JG") || wmi.startsWith("WD"))) {
-            // Use Mercedes-Benz specific decoder
-            MercedesBenzDecoder.VehicleInfo mbInfo = MercedesBenzDecoder.decode(vin);
-            if (mbInfo != null) {
-                // Enhanced model and series information
-                if (mbInfo.model != null) vehicleData.setModel(mbInfo.model);
-                if (mbInfo.series != null) vehicleData.setTrim(mbInfo.series);
-                if (mbInfo.bodyClass != null) vehicleData.setBodyClass(mbInfo.bodyClass);
-                if (mbInfo.driveType != null) vehicleData.setDriveType(mbInfo.driveType);
-                if (mbInfo.doors != null) vehicleData.setDoors(mbInfo.doors);
-                if (mbInfo.engineDescription != null) {
-                    vehicleData.setEngineModel(mbInfo.engineDescription);
-                    // Extract displacement from description
-                    if (mbInfo.engineDescription.contains("2.0L")) {
-                        vehicleData.setDisplacementL("2.0");
-                        vehicleData.setEngineCylinders("4");
-                    } else if (mbInfo.engineDescription.contains("3.0L")) {
-                        vehicleData.setDisplacementL("3.0");
-                        vehicleData.setEngineCylinders("6");
-                    } else if (mbInfo.engineDescription.contains("3.5L")) {
-                        vehicleData.setDisplacementL("3.5");
-                        vehicleData.setEngineCylinders("6");
-                    } else if (mbInfo.engineDescription.contains("4.0L")) {
-                        vehicleData.setDisplacementL("4.0");
-                        vehicleData.setEngineCylinders("8");
-                    }
-                    // Set fuel type
-                    if (mbInfo.engineDescription.contains("Electric")) {
-                        vehicleData.setFuelTypePrimary("Electric");
-                    } else if (mbInfo.engineDescription.contains("Hybrid")) {
-                        vehicleData.setFuelTypePrimary("Gasoline/Electric Hybrid");
-                    } else if (mbInfo.engineDescription.contains("Diesel")) {
-                        vehicleData.setFuelTypePrimary("Diesel");
-                    } else {
-                        vehicleData.setFuelTypePrimary("Gasoline");
-                    }
-                }
-                if (mbInfo.transmissionStyle != null) vehicleData.setTransmissionStyle(mbInfo.transmissionStyle);
-                if (mbInfo.transmissionSpeeds != null) vehicleData.setTransmissionSpeeds(mbInfo.transmissionSpeeds);
-                if (mbInfo.plantCity != null) vehicleData.setPlantCity(mbInfo.plantCity);
-                if (mbInfo.plantState != null) vehicleData.setPlantState(mbInfo.plantState);
-                if (mbInfo.gvwr != null) vehicleData.setGvwr(mbInfo.gvwr);
-                if (mbInfo.curbWeight != null) vehicleData.setCurbWeight(mbInfo.curbWeight);
-            }
-        } else if (manufacturer != null && (manufacturer.contains("Ford") || wmi.startsWith("1F") || wmi.startsWith("2F") || wmi.startsWith("3F"))) {
-            // Use Ford specific decoder
-            FordDecoder.VehicleInfo fordInfo = FordDecoder.decode(vin);
-            if (fordInfo != null) {
-                if (fordInfo.model != null) vehicleData.setModel(fordInfo.model);
-                if (fordInfo.series != null) vehicleData.setTrim(fordInfo.series);
-                if (fordInfo.bodyClass != null) vehicleData.setBodyClass(fordInfo.bodyClass);
-                if (fordInfo.driveType != null) vehicleData.setDriveType(fordInfo.driveType);
-                if (fordInfo.doors != null) vehicleData.setDoors(fordInfo.doors);
-                if (fordInfo.engineDescription != null) {
-                    vehicleData.setEngineModel(fordInfo.engineDescription);
-                    extractEngineDetails(vehicleData, fordInfo.engineDescription);
-                }
-                if (fordInfo.transmissionStyle != null) vehicleData.setTransmissionStyle(fordInfo.transmissionStyle);
-                if (fordInfo.transmissionSpeeds != null) vehicleData.setTransmissionSpeeds(fordInfo.transmissionSpeeds);
-                if (fordInfo.plantCity != null) vehicleData.setPlantCity(fordInfo.plantCity);
-                if (fordInfo.plantState != null) vehicleData.setPlantState(fordInfo.plantState);
-                if (fordInfo.gvwr != null) vehicleData.setGvwr(fordInfo.gvwr);
-                if (fordInfo.curbWeight != null) vehicleData.setCurbWeight(fordInfo.curbWeight);
-            }
-        } else if (manufacturer != null && (manufacturer.contains("GM") || manufacturer.contains("Chevrolet") ||
-                   manufacturer.contains("Cadillac") || manufacturer.contains("Buick") || manufacturer.contains("GMC") ||
-                   wmi.startsWith("1G") || wmi.startsWith("2G") || wmi.startsWith("3G"))) {
-            // Use GM specific decoder
-            GMDecoder.VehicleInfo gmInfo = GMDecoder.decode(vin);
-            if (gmInfo != null) {
-                if (gmInfo.model != null) vehicleData.setModel(gmInfo.model);
-                if (gmInfo.series != null) vehicleData.setTrim(gmInfo.series);
-                if (gmInfo.bodyClass != null) vehicleData.setBodyClass(gmInfo.bodyClass);
-                if (gmInfo.driveType != null) vehicleData.setDriveType(gmInfo.driveType);
-                if (gmInfo.doors != null) vehicleData.setDoors(gmInfo.doors);
-                if (gmInfo.engineDescription != null) {
-                    vehicleData.setEngineModel(gmInfo.engineDescription);
-                    extractEngineDetails(vehicleData, gmInfo.engineDescription);
-                }
-                if (gmInfo.transmissionStyle != null) vehicleData.setTransmissionStyle(gmInfo.transmissionStyle);
-                if (gmInfo.transmissionSpeeds != null) vehicleData.setTransmissionSpeeds(gmInfo.transmissionSpeeds);
-                if (gmInfo.plantCity != null) vehicleData.setPlantCity(gmInfo.plantCity);
-                if (gmInfo.plantState != null) vehicleData.setPlantState(gmInfo.plantState);
-                if (gmInfo.gvwr != null) vehicleData.setGvwr(gmInfo.gvwr);
-                if (gmInfo.curbWeight != null) vehicleData.setCurbWeight(gmInfo.curbWeight);
-            }
-        } else if (manufacturer != null && (manufacturer.contains("Toyota") || manufacturer.contains("Lexus") ||
-                   wmi.startsWith("4T") || wmi.startsWith("5T") || wmi.startsWith("JT"))) {
-            // Use Toyota specific decoder
-            ToyotaDecoder.VehicleInfo toyotaInfo = ToyotaDecoder.decode(vin);
-            if (toyotaInfo != null) {
-                if (toyotaInfo.model != null) vehicleData.setModel(toyotaInfo.model);
-                if (toyotaInfo.series != null) vehicleData.setTrim(toyotaInfo.series);
-                if (toyotaInfo.bodyClass != null) vehicleData.setBodyClass(toyotaInfo.bodyClass);
-                if (toyotaInfo.driveType != null) vehicleData.setDriveType(toyotaInfo.driveType);
-                if (toyotaInfo.doors != null) vehicleData.setDoors(toyotaInfo.doors);
-                if (toyotaInfo.engineDescription != null) {
-                    vehicleData.setEngineModel(toyotaInfo.engineDescription);
-                    extractEngineDetails(vehicleData, toyotaInfo.engineDescription);
-                }
-                if (toyotaInfo.transmissionStyle != null) vehicleData.setTransmissionStyle(toyotaInfo.transmissionStyle);
-                if (toyotaInfo.transmissionSpeeds != null) vehicleData.setTransmissionSpeeds(toyotaInfo.transmissionSpeeds);
-                if (toyotaInfo.plantCity != null) vehicleData.setPlantCity(toyotaInfo.plantCity);
-                if (toyotaInfo.plantState != null) vehicleData.setPlantState(toyotaInfo.plantState);
-                if (toyotaInfo.gvwr != null) vehicleData.setGvwr(toyotaInfo.gvwr);
-                if (toyotaInfo.curbWeight != null) vehicleData.setCurbWeight(toyotaInfo.curbWeight);
+        ManufacturerDecoder manufacturerDecoder = manufacturerDecoders().find(vin);
+        if (manufacturerDecoder != null) {
+            if (vehicleData.vin == null && !(manufacturerDecoder instanceof BuiltInDecoder)) {
+                // Other decoders are promised the VIN field
+                vehicleData.setVin(vin.toString());
             }
+            manufacturerDecoder.decode(vin, vehicleData);
         }
 
         // Determine vehicle type if not already set
         String vehicleType = vehicleData.getVehicleType();
         if (vehicleType == null || vehicleType.isEmpty()) {
-            vehicleType = determineVehicleType(vehicleData.getMake(), vds);
+            vehicleType = determineVehicleType(vehicleData.getMake(), vin.vds());
             vehicleData.setVehicleType(vehicleType);
         }
-
-        // Set additional fields
-        vehicleData.setWmi(wmi);
-        vehicleData.setVds(vds);
-        vehicleData.setVis(vis);
-
-        // Add decoded results list for compatibility
-        List<VehicleData.Result> results = new ArrayList<>();
-
-        addResult(results, "VIN", vin);
-        addResult(results, "Make", vehicleData.getMake());
-        addResult(results, "Manufacturer Name", vehicleData.getManufacturerName());
-        addResult(results, "Model Year", vehicleData.getModelYear());
-        addResult(results, "Plant Country", vehicleData.getPlantCountry());
-        addResult(results, "Plant Code", vehicleData.getPlantCode());
-        addResult(results, "Vehicle Type", vehicleData.getVehicleType());
-        addResult(results, "Region", vehicleData.getRegion());
-        addResult(results, "WMI", wmi);
-        addResult(results, "VDS", vds);
-        addResult(results, "VIS", vis);
-        addResult(results, "Sequential Number", productionNumber);
-        addResult(results, "Valid", String.valueOf(isValid));
-
-        vehicleData.setResults(results);
-        vehicleData.setCount(results.size());
-        vehicleData.setMessage("VIN decoded offline");
-
-        return vehicleData;
+        return manufacturerDecoder;
     }
 
     /**
@@ -248,19 +338,36 @@ public class OfflineVINDecoder {
     public String getManufacturer(String vin) {
         if (vin == null || vin.length() < 3) return null;
 
-        String wmi = VINValidator.getWMI(vin);
-        if (wmi != null) {
-            String manufacturer = wmiDatabase.getManufacturer(wmi);
-            if (manufacturer != null) {
-                return manufacturer;
-            }
+        String manufacturer = wmiDatabase.getManufacturer(vin, 0);
+        if (manufacturer != null) {
+            return manufacturer;
+        }
+
+        // Try 2-char prefix
+        return wmiDatabase.getManufacturerByPrefix(vin.substring(0, 2));
+    }
 
-            // Try 2-char prefix
-            String wmi2 = wmi.substring(0, 2);
-            return wmiDatabase.getManufacturerByPrefix(wmi2);
+    private static String modelYearName(int modelYear) {
+        String name = MODEL_YEAR_NAMES[modelYear - 1980];
+        if (name == null) {
+            // Racing threads store equal strings
+            name = String.valueOf(modelYear);
+            MODEL_YEAR_NAMES[modelYear - 1980] = name;
         }
+        return name;
+    }
 
-        return null;
+    private static String plantCode(char c) {
+        if (c >= PLANT_CODES.length) {
+            return String.valueOf(c);
+        }
+        String code = PLANT_CODES[c];
+        if (code == null) {
+            // Racing threads store equal strings
+            code = String.valueOf(c);
+            PLANT_CODES[c] = code;
+        }
+        return code;
     }
 
     /**
@@ -287,9 +394,34 @@ public class OfflineVINDecoder {
     /**
      * Determines vehicle type based on manufacturer and VDS
      */
-    private String determineVehicleType(String manufacturer, String vds) {
+    private String determineVehicleType(String manufacturer, CharSequence vds) {
         if (manufacturer == null || vds == null) return "Passenger Car";
 
+        String type = MANUFACTURER_TYPES.get(manufacturer);
+        if (type == null) {
+            type = manufacturerType(manufacturer);
+            if (MANUFACTURER_TYPES.size() < MAX_MANUFACTURER_TYPES) {
+                MANUFACTURER_TYPES.put(manufacturer, type);
+            }
+        }
+        if (!type.isEmpty()) {
+            return type;
+        }
+
+        // Check VDS for SUV/Truck indicators
+        char vdsChar4 = vds.charAt(0);
+        if (vdsChar4 == 'T' || vdsChar4 == 'K' || vdsChar4 == 'C') {
+            return "Truck";
+        }
+
+        // Default to passenger car
+        return "Passenger Car";
+    }
+
+    /**
+     * @return vehicle type implied by the manufacturer name, or "" if none
+     */
+    private static String manufacturerType(String manufacturer) {
         // Common patterns for different vehicle types
         manufacturer = manufacturer.toUpperCase();
 
@@ -334,93 +466,7 @@ public class OfflineVINDecoder {
             manufacturer.contains("RECREATIONAL")) {
             return "Multipurpose Passenger Vehicle (MPV)";
         }
-
-        // Check VDS for SUV/Truck indicators
-        char vdsChar4 = vds.charAt(0);
-        if (vdsChar4 == 'T' || vdsChar4 == 'K' || vdsChar4 == 'C') {
-            return "Truck";
-        }
-
-        // Default to passenger car
-        return "Passenger Car";
-    }
-
-    /**
-     * Helper to add a result to the list
-     */
-    private void addResult(List<VehicleData.Result> results, String variable, String value) {
-        if (value != null && !value.isEmpty()) {
-            VehicleData.Result result = new VehicleData.Result();
-            result.setVariable(variable);
-            result.setValue(value);
-            result.setVariableId(String.valueOf(results.size() + 1));
-            results.add(result);
-        }
-    }
-
-    /**
-     * Extracts engine details from engine description and sets them in VehicleData
-     */
-    private void extractEngineDetails(VehicleData vehicleData, String engineDescription) {
-        if (engineDescription == null) return;
-
-        // Extract displacement
-        if (engineDescription.contains("1.5L")) {
-            vehicleData.setDisplacementL("1.5");
-            vehicleData.setEngineCylinders("4");
-        } else if (engineDescription.contains("2.0L")) {
-            vehicleData.setDisplacementL("2.0");
-            vehicleData.setEngineCylinders("4");
-        } else if (engineDescription.contains("2.3L")) {
-            vehicleData.setDisplacementL("2.3");
-            vehicleData.setEngineCylinders("4");
-        } else if (engineDescription.contains("2.5L")) {
-            vehicleData.setDisplacementL("2.5");
-            vehicleData.setEngineCylinders("4");
-        } else if (engineDescription.contains("2.7L")) {
-            vehicleData.setDisplacementL("2.7");
-            vehicleData.setEngineCylinders("6");
-        } else if (engineDescription.contains("3.0L")) {
-            vehicleData.setDisplacementL("3.0");
-            vehicleData.setEngineCylinders("6");
-        } else if (engineDescription.contains("3.5L")) {
-            vehicleData.setDisplacementL("3.5");
-            vehicleData.setEngineCylinders("6");
-        } else if (engineDescription.contains("3.6L")) {
-            vehicleData.setDisplacementL("3.6");
-            vehicleData.setEngineCylinders("6");
-        } else if (engineDescription.contains("4.0L")) {
-            vehicleData.setDisplacementL("4.0");
-            vehicleData.setEngineCylinders("8");
-        } else if (engineDescription.contains("5.0L")) {
-            vehicleData.setDisplacementL("5.0");
-            vehicleData.setEngineCylinders("8");
-        } else if (engineDescription.contains("5.3L")) {
-            vehicleData.setDisplacementL("5.3");
-            vehicleData.setEngineCylinders("8");
-        } else if (engineDescription.contains("5.7L")) {
-            vehicleData.setDisplacementL("5.7");
-            vehicleData.setEngineCylinders("8");
-        } else if (engineDescription.contains("6.2L")) {
-            vehicleData.setDisplacementL("6.2");
-            vehicleData.setEngineCylinders("8");
-        } else if (engineDescription.contains("6.6L")) {
-            vehicleData.setDisplacementL("6.6");
-            vehicleData.setEngineCylinders("8");
-        }
-
-        // Set fuel type
-        if (engineDescription.contains("Electric") && !engineDescription.contains("Hybrid")) {
-            vehicleData.setFuelTypePrimary("Electric");
-        } else if (engineDescription.contains("Hybrid")) {
-            vehicleData.setFuelTypePrimary("Gasoline/Electric Hybrid");
-        } else if (engineDescription.contains("Diesel")) {
-            vehicleData.setFuelTypePrimary("Diesel");
-        } else if (engineDescription.contains("Flex Fuel") || engineDescription.contains("E85")) {
-            vehicleData.setFuelTypePrimary("Flexible Fuel Vehicle");
-        } else if (engineDescription.contains("Gasoline") || engineDescription.matches(".*\\d+\\.\\d+L.*")) {
-            vehicleData.setFuelTypePrimary("Gasoline");
-        }
+        return "";
     }
 
     /**
@@ -1,5 +1,6 @@
 package io.github.vindecoder.offline;
 
+import io.github.vindecoder.nhtsa.VehicleData;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -14,13 +15,22 @@ import java.util.Map;
 public class ToyotaDecoder {
 
     private static final Map<String, ModelInfo> MODEL_CODES = new HashMap<>();
+    /** MODEL_CODES keyed by VinView code */
+    private static final CodeTable<ModelInfo> MODELS;
     private static final Map<String, String> ENGINE_CODES = new HashMap<>();
+    /** ENGINE_CODES with details pre-parsed, indexed by engine code character */
+    private static final EngineDescriptor[] ENGINES;
     private static final Map<String, String> SERIES_CODES = new HashMap<>();
+    /** SERIES_CODES keyed by VinView code */
+    private static final CodeTable<String> SERIES;
 
     static {
         initializeModelCodes();
+        MODELS = CodeTable.of(MODEL_CODES);
         initializeEngineCodes();
+        ENGINES = EngineDescriptor.index(ENGINE_CODES);
         initializeSeriesCodes();
+        SERIES = CodeTable.of(SERIES_CODES);
     }
 
     public static class ModelInfo {
@@ -247,37 +257,80 @@ public class ToyotaDecoder {
             return null;
         }
 
+        VehicleData vehicleData = new VehicleData();
+        decode(vin, vehicleData);
+
         VehicleInfo info = new VehicleInfo();
+        info.make = vehicleData.make;
+        info.model = vehicleData.model;
+        info.series = vehicleData.trim;
+        info.bodyClass = vehicleData.bodyClass;
+        info.driveType = vehicleData.driveType;
+        info.doors = vehicleData.doors;
+        info.engineDescription = vehicleData.engineModel;
+        info.transmissionStyle = vehicleData.transmissionStyle;
+        info.transmissionSpeeds = vehicleData.transmissionSpeeds;
+        info.plantCity = vehicleData.plantCity;
+        info.plantState = vehicleData.plantState;
+        info.plantCountry = vehicleData.plantCountry;
+        info.gvwr = vehicleData.gvwr;
+        info.curbWeight = vehicleData.curbWeight;
+        info.manufacturer = "Toyota";
+        info.manufacturerName = info.make != null ? "Toyota Motor Corporation (" + info.make + ")" : "Toyota Motor Corporation";
+        return info;
+    }
+
+    /**
+     * Decode Toyota specific information from VIN straight into vehicleData,
+     * without an intermediate VehicleInfo. Sets make, model, trim, body class, drive type,
+     * doors, engine model, transmission, plant and weight fields as they are decoded,
+     * so pass a VehicleData where those fields are not yet set.
+     */
+    public static void decode(String vin, VehicleData vehicleData) {
+        if (vin == null || vin.length() < 17) {
+            return;
+        }
+        decode(VinView.of(vin), vehicleData);
+    }
 
+    /**
+     * Decode Toyota specific information from a VIN view into vehicleData
+     * @see #decode(String, VehicleData)
+     */
+    public static void decode(VinView vin, VehicleData vehicleData) {
         // Determine make from WMI
-        String wmi = vin.substring(0, 3).toUpperCase();
-        if (wmi.startsWith("JT") || wmi.startsWith("4T") || wmi.startsWith("5T")) {
-            info.make = "Toyota";
-        } else if (wmi.startsWith("JTH") || wmi.startsWith("JTJ") || wmi.startsWith("2T")) {
-            info.make = "Lexus";
-        } else if (wmi.equals("JF1") || wmi.equals("JF2") || wmi.equals("4S")) {
-            info.make = "Subaru";  // Sometimes Toyota sells Subaru models
+        char wmi1 = vin.upperCaseAt(0);
+        char wmi2 = vin.upperCaseAt(1);
+        char wmi3 = vin.upperCaseAt(2);
+        if (wmi2 == 'T' && (wmi1 == 'J' || wmi1 == '4' || wmi1 == '5')) {
+            vehicleData.make = "Toyota";
+        } else if ((wmi1 == 'J' && wmi2 == 'T' && (wmi3 == 'H' || wmi3 == 'J')) || (wmi1 == '2' && wmi2 == 'T')) {
+            vehicleData.make = "Lexus";
+        } else if (wmi1 == 'J' && wmi2 == 'F' && (wmi3 == '1' || wmi3 == '2')) {
+            vehicleData.make = "Subaru";  // Sometimes Toyota sells Subaru models
         }
 
         // Extract engine code (position 5 for Toyota)
-        String engineCode = String.valueOf(vin.charAt(4));
-        info.engineDescription = ENGINE_CODES.get(engineCode.toUpperCase());
+        char engineCode = vin.charAt(4);
+        EngineDescriptor engine = EngineDescriptor.lookup(ENGINES, Character.toUpperCase(engineCode));
+        if (engine != null) {
+            engine.applyTo(vehicleData);
+        }
 
         // Extract series code (position 6)
-        String seriesCode = String.valueOf(vin.charAt(5));
-        String series = SERIES_CODES.get(seriesCode.toUpperCase());
+        char seriesCode = vin.charAt(5);
+        String series = SERIES.get(vin.code(5, 6));
 
         // Extract model/platform code (position 8)
         char modelChar = vin.charAt(7);
-        String modelCode = String.valueOf(modelChar).toUpperCase();
+        int modelCode = vin.code(7, 8);
 
-        // Try to match with series for more specific model
-        String combinedCode = modelCode + seriesCode;
-        ModelInfo modelInfo = MODEL_CODES.get(combinedCode);
+        // Try to match with series for more specific model; the series is matched as given
+        ModelInfo modelInfo = modelCode >= 0 && seriesCode <= 0xFF ? MODELS.get(modelCode << 8 | seriesCode) : null;
 
-        if (modelInfo == null) {
+        if (modelInfo == null && modelCode >= 0) {
             // Try just model code
-            modelInfo = MODEL_CODES.get(modelCode + "1");  // Try with base trim
+            modelInfo = MODELS.get(modelCode << 8 | '1');  // Try with base trim
         }
 
         if (modelInfo == null) {
@@ -314,32 +367,32 @@ public class ToyotaDecoder {
                     modelInfo = new ModelInfo("Toyota", "Avalon", series, "Sedan", "FWD", "4");
                     break;
                 case 'D':
-                    if (info.make != null && info.make.equals("Lexus")) {
+                    if (vehicleData.make != null && vehicleData.make.equals("Lexus")) {
                         modelInfo = new ModelInfo("Lexus", "GS", series, "Sedan", "RWD", "4");
                     }
                     break;
                 case 'A':
-                    if (info.make != null && info.make.equals("Lexus")) {
+                    if (vehicleData.make != null && vehicleData.make.equals("Lexus")) {
                         modelInfo = new ModelInfo("Lexus", "ES", series, "Sedan", "FWD", "4");
                     }
                     break;
                 case 'H':
-                    if (info.make != null && info.make.equals("Lexus")) {
+                    if (vehicleData.make != null && vehicleData.make.equals("Lexus")) {
                         modelInfo = new ModelInfo("Lexus", "LS", series, "Sedan", "RWD", "4");
                     }
                     break;
                 case 'J':
-                    if (info.make != null && info.make.equals("Lexus")) {
+                    if (vehicleData.make != null && vehicleData.make.equals("Lexus")) {
                         modelInfo = new ModelInfo("Lexus", "GX", series, "SUV", "4WD", "4");
                     }
                     break;
                 case 'T':
-                    if (info.make != null && info.make.equals("Lexus")) {
+                    if (vehicleData.make != null && vehicleData.make.equals("Lexus")) {
                         modelInfo = new ModelInfo("Lexus", "RX", series, "SUV/Crossover", "AWD", "4");
                     }
                     break;
                 case 'Z':
-                    if (info.make != null && info.make.equals("Lexus")) {
+                    if (vehicleData.make != null && vehicleData.make.equals("Lexus")) {
                         modelInfo = new ModelInfo("Lexus", "NX", series, "SUV/Crossover", "AWD", "4");
                     }
                     break;
@@ -347,72 +400,68 @@ public class ToyotaDecoder {
         }
 
         if (modelInfo != null) {
-            if (modelInfo.make != null) info.make = modelInfo.make;
-            info.model = modelInfo.model;
-            info.series = modelInfo.series != null ? modelInfo.series : series;
-            info.bodyClass = modelInfo.bodyClass;
-            info.driveType = modelInfo.driveType;
-            info.doors = modelInfo.doors;
+            if (modelInfo.make != null) vehicleData.make = modelInfo.make;
+            vehicleData.model = modelInfo.model;
+            vehicleData.trim = modelInfo.series != null ? modelInfo.series : series;
+            vehicleData.bodyClass = modelInfo.bodyClass;
+            vehicleData.driveType = modelInfo.driveType;
+            vehicleData.doors = modelInfo.doors;
         }
 
         // Determine transmission
-        if (info.model != null && info.engineDescription != null) {
-            if (info.model.contains("Supra") || info.model.contains("GR86")) {
-                if (info.model.contains("MT Edition")) {
-                    info.transmissionStyle = "Manual";
-                    info.transmissionSpeeds = "6";
+        if (vehicleData.model != null && vehicleData.engineModel != null) {
+            if (vehicleData.model.contains("Supra") || vehicleData.model.contains("GR86")) {
+                if (vehicleData.model.contains("MT Edition")) {
+                    vehicleData.transmissionStyle = "Manual";
+                    vehicleData.transmissionSpeeds = "6";
                 } else {
-                    info.transmissionStyle = "Manual/Automatic";
-                    info.transmissionSpeeds = "6/8";  // 6-speed manual or 8-speed auto
+                    vehicleData.transmissionStyle = "Manual/Automatic";
+                    vehicleData.transmissionSpeeds = "6/8";  // 6-speed manual or 8-speed auto
                 }
-            } else if (info.model.contains("Tacoma")) {
-                if (engineCode.equals("G")) {  // V6
-                    info.transmissionStyle = "Manual/Automatic";
-                    info.transmissionSpeeds = "6";
+            } else if (vehicleData.model.contains("Tacoma")) {
+                if (engineCode == 'G') {  // V6
+                    vehicleData.transmissionStyle = "Manual/Automatic";
+                    vehicleData.transmissionSpeeds = "6";
                 } else {
-                    info.transmissionStyle = "Automatic";
-                    info.transmissionSpeeds = "6";
+                    vehicleData.transmissionStyle = "Automatic";
+                    vehicleData.transmissionSpeeds = "6";
                 }
-            } else if (info.model.contains("Tundra")) {
-                info.transmissionStyle = "Automatic";
-                if (info.engineDescription != null && info.engineDescription.contains("Twin-Turbo")) {
-                    info.transmissionSpeeds = "10";  // New Tundra with 10-speed
+            } else if (vehicleData.model.contains("Tundra")) {
+                vehicleData.transmissionStyle = "Automatic";
+                if (vehicleData.engineModel != null && vehicleData.engineModel.contains("Twin-Turbo")) {
+                    vehicleData.transmissionSpeeds = "10";  // New Tundra with 10-speed
                 } else {
-                    info.transmissionSpeeds = "6";  // Older Tundra
+                    vehicleData.transmissionSpeeds = "6";  // Older Tundra
                 }
-            } else if (info.engineDescription != null && info.engineDescription.contains("Hybrid")) {
-                info.transmissionStyle = "CVT";
-                info.transmissionSpeeds = "Electronic CVT";
-            } else if (info.model.contains("Corolla") && info.model.contains("GR")) {
-                info.transmissionStyle = "Manual";
-                info.transmissionSpeeds = "6";
-            } else if (info.model.contains("Camry") || info.model.contains("RAV4") ||
-                      info.model.contains("Highlander") || info.model.contains("Corolla")) {
-                info.transmissionStyle = "Automatic";
-                if (engineCode.equals("F") || engineCode.equals("G")) {  // 2.5L or V6
-                    info.transmissionSpeeds = "8";
+            } else if (vehicleData.engineModel != null && vehicleData.engineModel.contains("Hybrid")) {
+                vehicleData.transmissionStyle = "CVT";
+                vehicleData.transmissionSpeeds = "Electronic CVT";
+            } else if (vehicleData.model.contains("Corolla") && vehicleData.model.contains("GR")) {
+                vehicleData.transmissionStyle = "Manual";
+                vehicleData.transmissionSpeeds = "6";
+            } else if (vehicleData.model.contains("Camry") || vehicleData.model.contains("RAV4") ||
+                      vehicleData.model.contains("Highlander") || vehicleData.model.contains("Corolla")) {
+                vehicleData.transmissionStyle = "Automatic";
+                if (engineCode == 'F' || engineCode == 'G') {  // 2.5L or V6
+                    vehicleData.transmissionSpeeds = "8";
                 } else {
-                    info.transmissionStyle = "CVT";
-                    info.transmissionSpeeds = "CVT";
+                    vehicleData.transmissionStyle = "CVT";
+                    vehicleData.transmissionSpeeds = "CVT";
                 }
-            } else if (info.make != null && info.make.equals("Lexus")) {
-                info.transmissionStyle = "Automatic";
-                if (info.model != null && (info.model.contains("LS") || info.model.contains("LC"))) {
-                    info.transmissionSpeeds = "10";
+            } else if (vehicleData.make != null && vehicleData.make.equals("Lexus")) {
+                vehicleData.transmissionStyle = "Automatic";
+                if (vehicleData.model != null && (vehicleData.model.contains("LS") || vehicleData.model.contains("LC"))) {
+                    vehicleData.transmissionSpeeds = "10";
                 } else {
-                    info.transmissionSpeeds = "8";
+                    vehicleData.transmissionSpeeds = "8";
                 }
             } else {
                 // Default sensible automatic transmission for recent Toyota/Lexus
-                info.transmissionStyle = "Automatic";
-                info.transmissionSpeeds = "8";
+                vehicleData.transmissionStyle = "Automatic";
+                vehicleData.transmissionSpeeds = "8";
             }
         }
 
-        // Set manufacturer info
-        info.manufacturer = "Toyota";
-        info.manufacturerName = info.make != null ? "Toyota Motor Corporation (" + info.make + ")" : "Toyota Motor Corporation";
-
         // Determine plant location based on position 11
         char plantCode = vin.charAt(10);
         switch (plantCode) {
@@ -424,139 +473,137 @@ public class ToyotaDecoder {
             case '5':
             case '6':
             case '7':
-                info.plantCity = "Toyota City";
-                info.plantCountry = "Japan";
+                vehicleData.plantCity = "Toyota City";
+                vehicleData.plantCountry = "Japan";
                 break;
             case 'A':
             case 'B':
-                info.plantCity = "Aichi";
-                info.plantCountry = "Japan";
+                vehicleData.plantCity = "Aichi";
+                vehicleData.plantCountry = "Japan";
                 break;
             case 'C':
-                info.plantCity = "Cambridge";
-                info.plantState = "Ontario";
-                info.plantCountry = "Canada";
+                vehicleData.plantCity = "Cambridge";
+                vehicleData.plantState = "Ontario";
+                vehicleData.plantCountry = "Canada";
                 break;
             case 'D':
-                info.plantCity = "Derbyshire";
-                info.plantCountry = "United Kingdom";
+                vehicleData.plantCity = "Derbyshire";
+                vehicleData.plantCountry = "United Kingdom";
                 break;
             case 'E':
             case 'F':
-                info.plantCity = "Fukuoka";
-                info.plantCountry = "Japan";
+                vehicleData.plantCity = "Fukuoka";
+                vehicleData.plantCountry = "Japan";
                 break;
             case 'G':
             case 'H':
-                info.plantCity = "Hamura";
-                info.plantCountry = "Japan";
+                vehicleData.plantCity = "Hamura";
+                vehicleData.plantCountry = "Japan";
                 break;
             case 'J':
             case 'K':
-                info.plantCity = "Kyushu";
-                info.plantCountry = "Japan";
+                vehicleData.plantCity = "Kyushu";
+                vehicleData.plantCountry = "Japan";
                 break;
             case 'M':
-                info.plantCity = "Miyagi";
-                info.plantCountry = "Japan";
+                vehicleData.plantCity = "Miyagi";
+                vehicleData.plantCountry = "Japan";
                 break;
             case 'N':
-                info.plantCity = "Nagoya";
-                info.plantCountry = "Japan";
+                vehicleData.plantCity = "Nagoya";
+                vehicleData.plantCountry = "Japan";
                 break;
             case 'P':
-                info.plantCity = "Princeton";
-                info.plantState = "Indiana";
-                info.plantCountry = "United States";
+                vehicleData.plantCity = "Princeton";
+                vehicleData.plantState = "Indiana";
+                vehicleData.plantCountry = "United States";
                 break;
             case 'R':
-                info.plantCity = "Lafayette";
-                info.plantState = "Indiana";
-                info.plantCountry = "United States";
+                vehicleData.plantCity = "Lafayette";
+                vehicleData.plantState = "Indiana";
+                vehicleData.plantCountry = "United States";
                 break;
             case 'S':
-                info.plantCity = "Princeton";
-                info.plantState = "Indiana";
-                info.plantCountry = "United States";
+                vehicleData.plantCity = "Princeton";
+                vehicleData.plantState = "Indiana";
+                vehicleData.plantCountry = "United States";
                 break;
             case 'T':
-                info.plantCity = "Tahara";
-                info.plantCountry = "Japan";
+                vehicleData.plantCity = "Tahara";
+                vehicleData.plantCountry = "Japan";
                 break;
             case 'U':
-                info.plantCity = "Georgetown";
-                info.plantState = "Kentucky";
-                info.plantCountry = "United States";
+                vehicleData.plantCity = "Georgetown";
+                vehicleData.plantState = "Kentucky";
+                vehicleData.plantCountry = "United States";
                 break;
             case 'V':
-                info.plantCity = "Valenciennes";
-                info.plantCountry = "France";
+                vehicleData.plantCity = "Valenciennes";
+                vehicleData.plantCountry = "France";
                 break;
             case 'W':
-                info.plantCity = "Woodstock";
-                info.plantState = "Ontario";
-                info.plantCountry = "Canada";
+                vehicleData.plantCity = "Woodstock";
+                vehicleData.plantState = "Ontario";
+                vehicleData.plantCountry = "Canada";
                 break;
             case 'X':
-                info.plantCity = "San Antonio";
-                info.plantState = "Texas";
-                info.plantCountry = "United States";
+                vehicleData.plantCity = "San Antonio";
+                vehicleData.plantState = "Texas";
+                vehicleData.plantCountry = "United States";
                 break;
             case 'Y':
-                info.plantCity = "Onnaing";
-                info.plantCountry = "France";
+                vehicleData.plantCity = "Onnaing";
+                vehicleData.plantCountry = "France";
                 break;
             case 'Z':
-                info.plantCity = "Fremont";
-                info.plantState = "California";
-                info.plantCountry = "United States";
+                vehicleData.plantCity = "Fremont";
+                vehicleData.plantState = "California";
+                vehicleData.plantCountry = "United States";
                 break;
         }
 
         // Add weight estimates based on model
-        if (info.model != null) {
-            if (info.model.contains("Corolla")) {
-                info.curbWeight = "2800-3150";
-            } else if (info.model.contains("Camry")) {
-                info.curbWeight = "3300-3600";
-            } else if (info.model.contains("RAV4")) {
-                info.curbWeight = "3300-3700";
-            } else if (info.model.contains("Highlander")) {
-                info.curbWeight = "4100-4500";
-            } else if (info.model.contains("4Runner")) {
-                info.curbWeight = "4400-4700";
-            } else if (info.model.contains("Tacoma")) {
-                info.curbWeight = "3900-4500";
-            } else if (info.model.contains("Tundra")) {
-                info.curbWeight = "5200-5800";
-            } else if (info.model.contains("Prius")) {
-                info.curbWeight = "3000-3200";
-            } else if (info.model.contains("Sienna")) {
-                info.curbWeight = "4600-4900";
-            } else if (info.model.contains("Supra")) {
-                info.curbWeight = "3200-3400";
-            } else if (info.model.contains("GR86")) {
-                info.curbWeight = "2800-2900";
-            } else if (info.make != null && info.make.equals("Lexus")) {
-                if (info.model != null) {
-                    if (info.model.contains("IS")) {
-                        info.curbWeight = "3500-3900";
-                    } else if (info.model.contains("ES")) {
-                        info.curbWeight = "3600-3900";
-                    } else if (info.model.contains("RX")) {
-                        info.curbWeight = "4200-4700";
-                    } else if (info.model.contains("NX")) {
-                        info.curbWeight = "3900-4200";
-                    } else if (info.model.contains("GX")) {
-                        info.curbWeight = "5100-5400";
-                    } else if (info.model.contains("LX")) {
-                        info.curbWeight = "5700-6000";
+        if (vehicleData.model != null) {
+            if (vehicleData.model.contains("Corolla")) {
+                vehicleData.curbWeight = "2800-3150";
+            } else if (vehicleData.model.contains("Camry")) {
+                vehicleData.curbWeight = "3300-3600";
+            } else if (vehicleData.model.contains("RAV4")) {
+                vehicleData.curbWeight = "3300-3700";
+            } else if (vehicleData.model.contains("Highlander")) {
+                vehicleData.curbWeight = "4100-4500";
+            } else if (vehicleData.model.contains("4Runner")) {
+                vehicleData.curbWeight = "4400-4700";
+            } else if (vehicleData.model.contains("Tacoma")) {
+                vehicleData.curbWeight = "3900-4500";
+            } else if (vehicleData.model.contains("Tundra")) {
+                vehicleData.curbWeight = "5200-5800";
+            } else if (vehicleData.model.contains("Prius")) {
+                vehicleData.curbWeight = "3000-3200";
+            } else if (vehicleData.model.contains("Sienna")) {
+                vehicleData.curbWeight = "4600-4900";
+            } else if (vehicleData.model.contains("Supra")) {
+                vehicleData.curbWeight = "3200-3400";
+            } else if (vehicleData.model.contains("GR86")) {
+                vehicleData.curbWeight = "2800-2900";
+            } else if (vehicleData.make != null && vehicleData.make.equals("Lexus")) {
+                if (vehicleData.model != null) {
+                    if (vehicleData.model.contains("IS")) {
+                        vehicleData.curbWeight = "3500-3900";
+                    } else if (vehicleData.model.contains("ES")) {
+                        vehicleData.curbWeight = "3600-3900";
+                    } else if (vehicleData.model.contains("RX")) {
+                        vehicleData.curbWeight = "4200-4700";
+                    } else if (vehicleData.model.contains("NX")) {
+                        vehicleData.curbWeight = "3900-4200";
+                    } else if (vehicleData.model.contains("GX")) {
+                        vehicleData.curbWeight = "5100-5400";
+                    } else if (vehicleData.model.contains("LX")) {
+                        vehicleData.curbWeight = "5700-6000";
                     }
                 }
             }
         }
-
-        return info;
     }
 
     /**
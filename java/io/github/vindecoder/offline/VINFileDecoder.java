@@ -0,0 +1,379 @@
+package io.github.vindecoder.offline;
+
+import io.github.vindecoder.nhtsa.VehicleData;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Streaming file decoder
+ *
+ * Decodes a VIN file of any size with flat memory use: the input is memory-mapped
+ * window by window, chunks of VINs are decoded and formatted on worker threads, and
+ * records are written in input order as soon as their chunk is done. At most
+ * 2 chunks per worker are in flight; reading waits for the writer (backpressure).
+ *
+ * Input is UTF-8 text with one VIN per line, as in examples/test_vins.txt: the first
+ * token of each line is the VIN, anything after whitespace or a comma is ignored, and
+ * blank lines and lines starting with '#' are skipped.
+ */
+public class VINFileDecoder {
+
+    /**
+     * Output record format
+     */
+    public enum Format {
+        /** Comma separated, with a header row */
+        CSV,
+        /** One JSON object per line */
+        JSONL
+    }
+
+    public static final int DEFAULT_CHUNK_SIZE = 4096;
+
+    /** Mapped at a time; keeps address space use bounded on 32-bit and Android VMs */
+    private static final long MAP_WINDOW = 64L * 1024 * 1024;
+
+    private static final String[] COLUMNS = {
+        "input", "vin", "valid", "make", "model", "modelYear", "trim", "bodyClass", "driveType",
+        "engineModel", "displacementL", "engineCylinders", "fuelTypePrimary", "transmissionStyle",
+        "plantCity", "plantState", "plantCountry", "region", "vehicleType", "errorCode"
+    };
+
+    private final OfflineVINDecoder decoder;
+    private final int threads;
+    private final int chunkSize;
+
+    /**
+     * Decoder using one worker per available processor
+     */
+    public VINFileDecoder() {
+        this(new OfflineVINDecoder(), Runtime.getRuntime().availableProcessors(), DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * @param decoder Decoder shared by all workers
+     * @param threads Number of decode workers
+     * @param chunkSize VINs per chunk handed to a worker
+     */
+    public VINFileDecoder(OfflineVINDecoder decoder, int threads, int chunkSize) {
+        if (threads < 1 || chunkSize < 1) {
+            throw new IllegalArgumentException("threads and chunkSize must be at least 1");
+        }
+        this.decoder = decoder;
+        this.threads = threads;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Throughput statistics of one run
+     */
+    public static class Stats {
+        private long lines;
+        private long records;
+        private long valid;
+        private long bytesRead;
+        private long elapsedNanos;
+
+        /** @return input lines, including skipped lines */
+        public long getLines() { return lines; }
+        /** @return decoded and written records */
+        public long getRecords() { return records; }
+        /** @return records with a valid VIN */
+        public long getValid() { return valid; }
+        /** @return records with an invalid VIN */
+        public long getInvalid() { return records - valid; }
+        /** @return blank and comment lines */
+        public long getSkipped() { return lines - records; }
+        public long getBytesRead() { return bytesRead; }
+        public long getElapsedNanos() { return elapsedNanos; }
+
+        public double getRecordsPerSecond() {
+            return elapsedNanos == 0 ? 0 : records * 1e9 / elapsedNanos;
+        }
+
+        public double getMegabytesPerSecond() {
+            return elapsedNanos == 0 ? 0 : bytesRead * 1e9 / elapsedNanos / (1024 * 1024);
+        }
+
+        @Override
+        public String toString() {
+            return String.format(Locale.ROOT,
+                    "%d records (%d valid, %d invalid, %d lines skipped) in %.2f s: %.0f VINs/s, %.1f MB/s",
+                    records, valid, getInvalid(), getSkipped(), elapsedNanos / 1e9,
+                    getRecordsPerSecond(), getMegabytesPerSecond());
+        }
+    }
+
+    /**
+     * Output of one chunk, formatted by a worker
+     */
+    private static final class Chunk {
+        final String text;
+        final int records;
+        final int valid;
+
+        Chunk(String text, int records, int valid) {
+            this.text = text;
+            this.records = records;
+            this.valid = valid;
+        }
+    }
+
+    /**
+     * Decode a VIN file into an output file
+     *
+     * @param input VIN file, one VIN per line
+     * @param output File to create or replace
+     * @param format Output format
+     * @return throughput statistics
+     */
+    public Stats decode(Path input, Path output, Format format) throws IOException {
+        try (Writer out = new BufferedWriter(new OutputStreamWriter(
+                Files.newOutputStream(output), StandardCharsets.UTF_8), 1 << 16)) {
+            return decode(input, out, format);
+        }
+    }
+
+    /**
+     * Decode a VIN file, writing records incrementally to out.
+     * The writer is flushed but not closed.
+     *
+     * @param input VIN file, one VIN per line
+     * @param out Destination for the records
+     * @param format Output format
+     * @return throughput statistics
+     */
+    public Stats decode(Path input, Writer out, Format format) throws IOException {
+        long start = System.nanoTime();
+        Stats stats = new Stats();
+        ExecutorService workers = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "vin-file-decoder");
+            thread.setDaemon(true);
+            return thread;
+        });
+        ArrayDeque<Future<Chunk>> inFlight = new ArrayDeque<>();
+        int maxInFlight = threads * 2;
+
+        try (FileChannel channel = FileChannel.open(input, StandardOpenOption.READ)) {
+            if (format == Format.CSV) {
+                out.write(String.join(",", COLUMNS));
+                out.write('\n');
+            }
+
+            List<String> tokens = new ArrayList<>(chunkSize);
+            long size = channel.size();
+            long position = 0;
+            while (position < size) {
+                long length = Math.min(MAP_WINDOW, size - position);
+                boolean lastWindow = position + length == size;
+                MappedByteBuffer window = channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+
+                int lineStart = 0;
+                int limit = window.limit();
+                for (int i = 0; i < limit; i++) {
+                    if (window.get(i) == '\n') {
+                        readToken(window, lineStart, i, tokens, stats);
+                        lineStart = i + 1;
+                        if (tokens.size() == chunkSize) {
+                            submit(workers, inFlight, tokens, format);
+                            tokens = new ArrayList<>(chunkSize);
+                            while (inFlight.size() >= maxInFlight) {
+                                write(inFlight.poll(), out, stats);
+                            }
+                        }
+                    }
+                }
+
+                if (lastWindow) {
+                    if (lineStart < limit) {
+                        readToken(window, lineStart, limit, tokens, stats);
+                    }
+                    position = size;
+                } else if (lineStart == 0) {
+                    throw new IOException("Line longer than " + MAP_WINDOW + " bytes at offset " + position);
+                } else {
+                    // Map the next window from the start of the incomplete line
+                    position += lineStart;
+                }
+            }
+            stats.bytesRead = size;
+
+            if (!tokens.isEmpty()) {
+                submit(workers, inFlight, tokens, format);
+            }
+            while (!inFlight.isEmpty()) {
+                write(inFlight.poll(), out, stats);
+            }
+            out.flush();
+        } finally {
+            for (Future<Chunk> future : inFlight) {
+                future.cancel(true);
+            }
+            workers.shutdownNow();
+        }
+
+        stats.elapsedNanos = System.nanoTime() - start;
+        return stats;
+    }
+
+    /**
+     * Adds the first token of a line to tokens, unless the line is blank or a comment
+     */
+    private static void readToken(MappedByteBuffer window, int from, int to, List<String> tokens, Stats stats) {
+        stats.lines++;
+        while (from < to && isSeparator(window.get(from))) {
+            from++;
+        }
+        if (from == to || window.get(from) == '#') {
+            return;
+        }
+        int end = from;
+        while (end < to && !isSeparator(window.get(end)) && window.get(end) != ',') {
+            end++;
+        }
+        byte[] token = new byte[end - from];
+        for (int i = 0; i < token.length; i++) {
+            token[i] = window.get(from + i);
+        }
+        tokens.add(new String(token, StandardCharsets.UTF_8));
+    }
+
+    private static boolean isSeparator(byte b) {
+        return b == ' ' || b == '\t' || b == '\r';
+    }
+
+    private void submit(ExecutorService workers, ArrayDeque<Future<Chunk>> inFlight,
+                        List<String> tokens, Format format) {
+        inFlight.add(workers.submit(() -> format(tokens, format)));
+    }
+
+    private static void write(Future<Chunk> future, Writer out, Stats stats) throws IOException {
+        Chunk chunk;
+        try {
+            chunk = future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while decoding");
+        } catch (ExecutionException e) {
+            throw new IOException("Decoding failed", e.getCause());
+        }
+        out.write(chunk.text);
+        stats.records += chunk.records;
+        stats.valid += chunk.valid;
+    }
+
+    /**
+     * Decodes and formats one chunk; runs on a worker thread
+     */
+    private Chunk format(List<String> tokens, Format format) {
+        StringBuilder text = new StringBuilder(tokens.size() * 192);
+        int valid = 0;
+        for (String token : tokens) {
+            VehicleData data = decoder.decode(token);
+            if (data.valid) {
+                valid++;
+            }
+            String[] values = {
+                token, data.vin, String.valueOf(data.valid), data.make, data.model, data.modelYear, data.trim,
+                data.bodyClass, data.driveType, data.engineModel, data.displacementL, data.engineCylinders,
+                data.fuelTypePrimary, data.transmissionStyle, data.plantCity, data.plantState,
+                data.plantCountry, data.region, data.vehicleType, data.errorCode
+            };
+            if (format == Format.CSV) {
+                appendCsv(text, values);
+            } else {
+                appendJson(text, values);
+            }
+            text.append('\n');
+        }
+        return new Chunk(text.toString(), tokens.size(), valid);
+    }
+
+    private static void appendCsv(StringBuilder text, String[] values) {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                text.append(',');
+            }
+            String value = values[i];
+            if (value == null) {
+                continue;
+            }
+            if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0
+                    && value.indexOf('\r') < 0) {
+                text.append(value);
+            } else {
+                text.append('"').append(value.replace("\"", "\"\"")).append('"');
+            }
+        }
+    }
+
+    private static void appendJson(StringBuilder text, String[] values) {
+        text.append('{');
+        boolean first = true;
+        for (int i = 0; i < values.length; i++) {
+            String value = values[i];
+            if (value == null) {
+                continue;
+            }
+            if (!first) {
+                text.append(',');
+            }
+            first = false;
+            text.append('"').append(COLUMNS[i]).append("\":");
+            if (i == 2) {
+                text.append(value); // valid is a boolean
+                continue;
+            }
+            text.append('"');
+            for (int c = 0; c < value.length(); c++) {
+                char ch = value.charAt(c);
+                if (ch == '"' || ch == '\\') {
+                    text.append('\\').append(ch);
+                } else if (ch < 0x20) {
+                    text.append(String.format(Locale.ROOT, "\\u%04x", (int) ch));
+                } else {
+                    text.append(ch);
+                }
+            }
+            text.append('"');
+        }
+        text.append('}');
+    }
+
+    /**
+     * Command line entry point:
+     * VINFileDecoder input.txt output.(csv|jsonl) [csv|jsonl]
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: VINFileDecoder <input> <output> [csv|jsonl]");
+            System.exit(2);
+        }
+        Format format;
+        if (args.length > 2) {
+            format = Format.valueOf(args[2].toUpperCase(Locale.ROOT));
+        } else {
+            format = args[1].endsWith(".jsonl") ? Format.JSONL : Format.CSV;
+        }
+        Stats stats = new VINFileDecoder().decode(Paths.get(args[0]), Paths.get(args[1]), format);
+        System.err.println(stats);
+    }
+}
@@ -1,5 +1,7 @@
 package io.github.vindecoder.offline;
 
+import java.util.Arrays;
+
 /**
  * VIN Validator
  *
@@ -13,11 +15,59 @@ public class VINValidator {
         0, 1, 2, 3, 4, 5, 6, 7, 8, 9,  // 0-9
         1, 2, 3, 4, 5, 6, 7, 8,         // A-H
         1, 2, 3, 4, 5,                  // J-N
-        7, 8, 9,                        // P-R
+        7, 9,                           // P, R
         2, 3, 4, 5, 6, 7, 8, 9          // S-Z
     };
     private static final int[] POSITION_WEIGHTS = {8, 7, 6, 5, 4, 3, 2, 10, 0, 9, 8, 7, 6, 5, 4, 3, 2};
 
+    /**
+     * Transliteration value for every ASCII code, or -1 when the character is not
+     * allowed in a VIN (I, O, Q, punctuation). Lower case letters map like their
+     * upper case form, so validation never has to upper-case the input.
+     */
+    private static final byte[] CHAR_TABLE = new byte[128];
+
+    /** Returned by the primitive model year methods when the year code is unknown */
+    public static final int UNKNOWN_MODEL_YEAR = 0;
+
+    /** Year codes in order; they repeat every 30 years */
+    private static final String YEAR_CODES = "ABCDEFGHJKLMNPRSTVWXY123456789";
+
+    /**
+     * Model year indexed by (year code << 1 | YEAR_CYCLE of position 7), for every
+     * Latin-1 character. Lower case year codes are unknown.
+     */
+    private static final short[] MODEL_YEARS = new short[512];
+
+    /**
+     * 30-year cycle for every Latin-1 character at position 7: 0 for a digit
+     * (1980-2009), 1 otherwise (2010-2039)
+     */
+    private static final byte[] YEAR_CYCLE = new byte[256];
+
+    static {
+        Arrays.fill(CHAR_TABLE, (byte) -1);
+        for (int i = 0; i < VALID_CHARS.length(); i++) {
+            char c = VALID_CHARS.charAt(i);
+            CHAR_TABLE[c] = (byte) CHAR_VALUES[i];
+            if (c >= 'A' && c <= 'Z') {
+                CHAR_TABLE[Character.toLowerCase(c)] = (byte) CHAR_VALUES[i];
+            }
+        }
+
+        Arrays.fill(YEAR_CYCLE, (byte) 1);
+        for (char c = '0'; c <= '9'; c++) {
+            YEAR_CYCLE[c] = 0;
+        }
+        // Digits were used in 2001-2009 and will be reused for 2031-2039.
+        // Use 7th-character heuristic: if position 7 is a letter, treat as 2010+ cycle.
+        for (int i = 0; i < YEAR_CODES.length(); i++) {
+            char yearCode = YEAR_CODES.charAt(i);
+            MODEL_YEARS[yearCode << 1] = (short) (1980 + i);
+            MODEL_YEARS[yearCode << 1 | 1] = (short) (2010 + i);
+        }
+    }
+
     /**
      * Validates VIN format and structure
      * @param vin Vehicle Identification Number
@@ -27,29 +77,72 @@ public class VINValidator {
         if (vin == null || vin.length() != 17) {
             return false;
         }
+        return isValidVIN(vin, 0);
+    }
 
-        vin = vin.toUpperCase();
-
-        // Check for invalid characters (I, O, Q not allowed)
-        for (char c : vin.toCharArray()) {
-            if (VALID_CHARS.indexOf(c) == -1) {
+    /**
+     * Validates the 17 characters starting at offset without allocating.
+     * Character check and check digit are computed in a single pass.
+     * @param vin Buffer holding the VIN
+     * @param offset Index of the first VIN character
+     * @return true if VIN is valid
+     */
+    public static boolean isValidVIN(CharSequence vin, int offset) {
+        if (vin == null || offset < 0 || offset > vin.length() - 17) {
+            return false;
+        }
+        int sum = 0;
+        for (int i = 0; i < 17; i++) {
+            int value = charValue(vin.charAt(offset + i));
+            if (value < 0) {
                 return false;
             }
+            sum += value * POSITION_WEIGHTS[i];
         }
+        return checkDigitMatches(vin.charAt(offset), vin.charAt(offset + 8), sum);
+    }
 
-        // Validate check digit for North American VINs (position 9)
-        char checkDigit = vin.charAt(8);
-        if (isNorthAmericanVIN(vin)) {
-            char calculatedCheckDigit = calculateCheckDigit(vin);
-            if (checkDigit != calculatedCheckDigit) {
-                // Allow 'X' as valid check digit
-                if (!(checkDigit == 'X' && calculatedCheckDigit == 'X')) {
-                    return false;
-                }
+    /**
+     * Validates the 17 characters starting at offset without allocating
+     * @param vin Buffer holding the VIN
+     * @param offset Index of the first VIN character
+     * @return true if VIN is valid
+     */
+    public static boolean isValidVIN(char[] vin, int offset) {
+        if (vin == null || offset < 0 || offset > vin.length - 17) {
+            return false;
+        }
+        int sum = 0;
+        for (int i = 0; i < 17; i++) {
+            int value = charValue(vin[offset + i]);
+            if (value < 0) {
+                return false;
             }
+            sum += value * POSITION_WEIGHTS[i];
         }
+        return checkDigitMatches(vin[offset], vin[offset + 8], sum);
+    }
 
-        return true;
+    /**
+     * Validates 17 ASCII bytes starting at offset without allocating, e.g. straight
+     * out of a network buffer
+     * @param vin Buffer holding the VIN as ASCII
+     * @param offset Index of the first VIN byte
+     * @return true if VIN is valid
+     */
+    public static boolean isValidVIN(byte[] vin, int offset) {
+        if (vin == null || offset < 0 || offset > vin.length - 17) {
+            return false;
+        }
+        int sum = 0;
+        for (int i = 0; i < 17; i++) {
+            int value = charValue((char) (vin[offset + i] & 0xFF));
+            if (value < 0) {
+                return false;
+            }
+            sum += value * POSITION_WEIGHTS[i];
+        }
+        return checkDigitMatches((char) vin[offset], (char) vin[offset + 8], sum);
     }
 
     /**
@@ -64,29 +157,25 @@ public class VINValidator {
     }
 
     /**
-     * Calculates check digit for VIN validation
+     * Compares the check digit (position 9) with the weighted sum, for North American VINs only
      */
-    private static char calculateCheckDigit(String vin) {
-        int sum = 0;
-
-        for (int i = 0; i < 17; i++) {
-            if (i == 8) continue; // Skip check digit position
-
-            char c = vin.charAt(i);
-            int value = getCharValue(c);
-            sum += value * POSITION_WEIGHTS[i];
+    private static boolean checkDigitMatches(char firstChar, char checkDigit, int sum) {
+        // North American VINs start with 1-5
+        if (firstChar < '1' || firstChar > '5') {
+            return true;
         }
-
         int remainder = sum % 11;
-        return remainder == 10 ? 'X' : Character.forDigit(remainder, 10);
+        if (remainder == 10) {
+            return checkDigit == 'X' || checkDigit == 'x';
+        }
+        return checkDigit == '0' + remainder;
     }
 
     /**
-     * Gets numeric value for VIN character
+     * Gets numeric value for VIN character, or -1 if the character is not allowed
      */
-    private static int getCharValue(char c) {
-        int index = VALID_CHARS.indexOf(c);
-        return index >= 0 ? CHAR_VALUES[index] : 0;
+    private static int charValue(char c) {
+        return c < 128 ? CHAR_TABLE[c] : -1;
     }
 
     /**
@@ -119,56 +208,65 @@ public class VINValidator {
     public static Integer getModelYear(String vin) {
         if (vin == null || vin.length() < 10) return null;
 
-        char yearCode = vin.charAt(9);
-        char seventhChar = vin.charAt(6);
+        int modelYear = getModelYear(vin, 0);
+        return modelYear == UNKNOWN_MODEL_YEAR ? null : modelYear;
+    }
 
-        // Determine if 2010+ or 1980-2009 based on position 7
-        // If position 7 is a letter (not digit), it's 2010+
-        // If position 7 is a digit, it's 1980-2009
-        boolean is2010Plus = !Character.isDigit(seventhChar);
+    /**
+     * Gets model year from the VIN starting at offset without boxing or allocating
+     * @param vin Buffer holding the VIN
+     * @param offset Index of the first VIN character
+     * @return model year, or UNKNOWN_MODEL_YEAR
+     */
+    public static int getModelYear(CharSequence vin, int offset) {
+        if (vin == null || offset < 0 || offset > vin.length() - 10) {
+            return UNKNOWN_MODEL_YEAR;
+        }
+        char yearCode = vin.charAt(offset + 9);
+        char seventhChar = vin.charAt(offset + 6);
+        if (yearCode >= 256) {
+            return UNKNOWN_MODEL_YEAR;
+        }
+        int cycle = seventhChar < 256 ? YEAR_CYCLE[seventhChar] : (Character.isDigit(seventhChar) ? 0 : 1);
+        return MODEL_YEARS[yearCode << 1 | cycle];
+    }
 
-        return decodeModelYear(yearCode, is2010Plus);
+    /**
+     * Gets model year from the ASCII VIN starting at offset without boxing or allocating
+     * @param vin Buffer holding the VIN as ASCII
+     * @param offset Index of the first VIN byte
+     * @return model year, or UNKNOWN_MODEL_YEAR
+     */
+    public static int getModelYear(byte[] vin, int offset) {
+        if (vin == null || offset < 0 || offset > vin.length - 10) {
+            return UNKNOWN_MODEL_YEAR;
+        }
+        return MODEL_YEARS[(vin[offset + 9] & 0xFF) << 1 | YEAR_CYCLE[vin[offset + 6] & 0xFF]];
     }
 
     /**
-     * Decodes model year from year code character
+     * Gets the model years of a block of ASCII VINs, e.g. fixed-width records
+     * or lines of a file. The loop is two table reads per VIN, without branches.
+     * @param vins Buffer holding the VINs as ASCII
+     * @param offset Index of the first byte of the first VIN
+     * @param stride Distance in bytes from one VIN to the next, e.g. 18 for
+     *               newline-terminated VINs
+     * @param years Receives the model year, or UNKNOWN_MODEL_YEAR, of each VIN
+     * @param count Number of VINs
      */
-    private static Integer decodeModelYear(char yearCode, boolean is2010Plus) {
-        // Year codes repeat every 30 years
-        switch (yearCode) {
-            case 'A': return is2010Plus ? 2010 : 1980;
-            case 'B': return is2010Plus ? 2011 : 1981;
-            case 'C': return is2010Plus ? 2012 : 1982;
-            case 'D': return is2010Plus ? 2013 : 1983;
-            case 'E': return is2010Plus ? 2014 : 1984;
-            case 'F': return is2010Plus ? 2015 : 1985;
-            case 'G': return is2010Plus ? 2016 : 1986;
-            case 'H': return is2010Plus ? 2017 : 1987;
-            case 'J': return is2010Plus ? 2018 : 1988;
-            case 'K': return is2010Plus ? 2019 : 1989;
-            case 'L': return is2010Plus ? 2020 : 1990;
-            case 'M': return is2010Plus ? 2021 : 1991;
-            case 'N': return is2010Plus ? 2022 : 1992;
-            case 'P': return is2010Plus ? 2023 : 1993;
-            case 'R': return is2010Plus ? 2024 : 1994;
-            case 'S': return is2010Plus ? 2025 : 1995;
-            case 'T': return is2010Plus ? 2026 : 1996;
-            case 'V': return is2010Plus ? 2027 : 1997;
-            case 'W': return is2010Plus ? 2028 : 1998;
-            case 'X': return is2010Plus ? 2029 : 1999;
-            case 'Y': return is2010Plus ? 2030 : 2000;
-            // Digits were used in 2001-2009 and will be reused for 2031-2039.
-            // Use 7th-character heuristic: if position 7 is a letter, treat as 2010+ cycle.
-            case '1': return is2010Plus ? 2031 : 2001;
-            case '2': return is2010Plus ? 2032 : 2002;
-            case '3': return is2010Plus ? 2033 : 2003;
-            case '4': return is2010Plus ? 2034 : 2004;
-            case '5': return is2010Plus ? 2035 : 2005;
-            case '6': return is2010Plus ? 2036 : 2006;
-            case '7': return is2010Plus ? 2037 : 2007;
-            case '8': return is2010Plus ? 2038 : 2008;
-            case '9': return is2010Plus ? 2039 : 2009;
-            default: return null;
+    public static void getModelYears(byte[] vins, int offset, int stride, int[] years, int count) {
+        if (count < 0 || count > years.length) {
+            throw new IllegalArgumentException("count must be between 0 and years.length: " + count);
+        }
+        if (count == 0) {
+            return;
+        }
+        if (stride < 1 || offset < 0 || offset + (long) (count - 1) * stride + 10 > vins.length) {
+            throw new IllegalArgumentException("VIN block out of bounds: offset " + offset
+                    + ", stride " + stride + ", count " + count);
+        }
+        for (int i = 0, position = offset; i < count; i++, position += stride) {
+            years[i] = MODEL_YEARS[(vins[position + 9] & 0xFF) << 1 | YEAR_CYCLE[vins[position + 6] & 0xFF]];
         }
     }
 
@@ -194,8 +292,13 @@ public class VINValidator {
     public static String getRegion(String vin) {
         if (vin == null || vin.isEmpty()) return "Unknown";
 
-        char firstChar = vin.charAt(0);
+        return getRegion(vin.charAt(0));
+    }
 
+    /**
+     * Determines manufacturing region from the first VIN character
+     */
+    public static String getRegion(char firstChar) {
         if (firstChar >= '1' && firstChar <= '5') {
             return "North America";
         } else if (firstChar >= '6' && firstChar <= '7') {
@@ -218,67 +321,165 @@ public class VINValidator {
      */
     public static String getCountry(String vin) {
         if (vin == null || vin.length() < 2) return "Unknown";
+        return getCountry(vin, 0);
+    }
 
-        String firstTwo = vin.substring(0, 2).toUpperCase();
-        char first = firstTwo.charAt(0);
-
-        // North America
-        if (first >= '1' && first <= '5') {
-            if (first == '1' || first == '4' || first == '5') return "United States";
-            if (first == '2') return "Canada";
-            if (first == '3') {
-                char second = firstTwo.charAt(1);
-                if (second >= 'A' && second <= 'W') return "Mexico";
-                if (second >= 'X' && second <= '9') return "Costa Rica";
-            }
-        }
-
-        // Europe
-        if (firstTwo.startsWith("W")) {
-            if (firstTwo.equals("WA") || firstTwo.equals("WB")) return "Germany";
-            if (firstTwo.equals("WF")) return "Germany";
-            if (firstTwo.equals("W0")) return "Germany";
-        }
-        if (firstTwo.startsWith("V")) {
-            if (firstTwo.equals("VF")) return "France";
-            if (firstTwo.equals("VS")) return "Spain";
-            if (firstTwo.equals("VR")) return "France";
-        }
-        if (firstTwo.startsWith("Z")) {
-            if (firstTwo.equals("ZA")) return "Italy";
-            if (firstTwo.equals("ZF")) return "Italy";
-        }
-        if (firstTwo.startsWith("S")) {
-            if (firstTwo.equals("SA")) return "United Kingdom";
-            if (firstTwo.equals("SC")) return "United Kingdom";
-            if (firstTwo.equals("SH")) return "United Kingdom";
-        }
-
-        // Asia
-        if (firstTwo.startsWith("J")) {
-            if (first == 'J') return "Japan";
+    /**
+     * Gets country of origin from the first 2 characters of the VIN starting at
+     * offset, per the ISO 3780 WMI country ranges, without allocating
+     * @param vin Buffer holding the VIN
+     * @param offset Index of the first VIN character
+     * @return country, or "Unknown" for unassigned ranges
+     */
+    public static String getCountry(CharSequence vin, int offset) {
+        if (vin == null || offset < 0 || offset > vin.length() - 2) {
+            return "Unknown";
         }
-        if (firstTwo.startsWith("K")) {
-            if (firstTwo.equals("KL") || firstTwo.equals("KM") || firstTwo.equals("KN")) return "South Korea";
+        char first = vin.charAt(offset);
+        int slot = WMIDatabase.index(first, vin.charAt(offset + 1));
+        if (slot < 0) {
+            // Second character outside the VIN alphabet: fall back to countries owning a whole first character
+            slot = WMIDatabase.index(first, 'A');
+            if (slot < 0 || !CountryTable.WHOLE_FIRST_CHAR[slot / WMIDatabase.ALPHABET_SIZE]) {
+                return "Unknown";
+            }
         }
-        if (firstTwo.startsWith("L")) return "China";
-
-        // Oceania
-        if (first == '6') return "Australia";
-        if (first == '7') return "New Zealand";
+        return CountryTable.COUNTRIES[slot];
+    }
 
-        // South America
-        if (first == '8') {
-            if (firstTwo.equals("8A")) return "Argentina";
-            if (firstTwo.equals("8B")) return "Argentina";
-            if (firstTwo.equals("8X")) return "Venezuela";
-        }
-        if (first == '9') {
-            if (firstTwo.equals("93")) return "Brazil";
-            if (firstTwo.equals("9B")) return "Brazil";
-            if (firstTwo.equals("9F")) return "Colombia";
+    /**
+     * Country per 2-character WMI prefix, built on first use (holder class idiom)
+     * so validation never pays for it
+     */
+    private static final class CountryTable {
+
+        /** Order of the second character within an ISO 3780 range */
+        private static final String RANGE_ORDER = "ABCDEFGHJKLMNPRSTUVWXYZ1234567890";
+
+        /** ISO 3780 country ranges: first character, second character from/to, country */
+        private static final String[] RANGES = {
+            // Africa
+            "AAH", "South Africa",
+            "AJN", "Ivory Coast",
+            "BAE", "Angola",
+            "BFK", "Kenya",
+            "BLR", "Tanzania",
+            "CAE", "Benin",
+            "CFK", "Madagascar",
+            "CLR", "Tunisia",
+            "DAE", "Egypt",
+            "DFK", "Morocco",
+            "DLR", "Zambia",
+            "EAE", "Ethiopia",
+            "EFK", "Mozambique",
+            "FAE", "Ghana",
+            "FFK", "Nigeria",
+            // Asia
+            "JA0", "Japan",
+            "KAE", "Sri Lanka",
+            "KFK", "Israel",
+            "KLR", "South Korea",
+            "KS0", "Kazakhstan",
+            "LA0", "China",
+            "MAE", "India",
+            "MFK", "Indonesia",
+            "MLR", "Thailand",
+            "NAE", "Iran",
+            "NFK", "Pakistan",
+            "NLR", "Turkey",
+            "PAE", "Philippines",
+            "PFK", "Singapore",
+            "PLR", "Malaysia",
+            "RAE", "United Arab Emirates",
+            "RFK", "Taiwan",
+            "RLR", "Vietnam",
+            "RS0", "Saudi Arabia",
+            // Europe
+            "SAM", "United Kingdom",
+            "SNT", "Germany",
+            "SUZ", "Poland",
+            "S14", "Latvia",
+            "TAH", "Switzerland",
+            "TJP", "Czech Republic",
+            "TRV", "Hungary",
+            "TW1", "Portugal",
+            "UHM", "Denmark",
+            "UNT", "Ireland",
+            "UUZ", "Romania",
+            "U57", "Slovakia",
+            "VAE", "Austria",
+            "VFR", "France",
+            "VSW", "Spain",
+            "VX2", "Serbia",
+            "V35", "Croatia",
+            "V60", "Estonia",
+            "WA0", "Germany",
+            "XAE", "Bulgaria",
+            "XFK", "Greece",
+            "XLR", "Netherlands",
+            "XSW", "Russia",
+            "XX2", "Luxembourg",
+            "X30", "Russia",
+            "YAE", "Belgium",
+            "YFK", "Finland",
+            "YLR", "Malta",
+            "YSW", "Sweden",
+            "YX2", "Norway",
+            "Y35", "Belarus",
+            "Y60", "Ukraine",
+            "ZAR", "Italy",
+            "ZX2", "Slovenia",
+            "Z35", "Lithuania",
+            // North America
+            "1A0", "United States",
+            "2A0", "Canada",
+            "3AW", "Mexico",
+            "3X7", "Costa Rica",
+            "389", "Cayman Islands",
+            "4A0", "United States",
+            "5A0", "United States",
+            // Oceania
+            "6AW", "Australia",
+            "7AE", "New Zealand",
+            "7F0", "United States",
+            // South America
+            "8AE", "Argentina",
+            "8FK", "Chile",
+            "8LR", "Ecuador",
+            "8SW", "Peru",
+            "8X2", "Venezuela",
+            "9AE", "Brazil",
+            "9FK", "Colombia",
+            "9LR", "Paraguay",
+            "9SW", "Uruguay",
+            "9X2", "Trinidad and Tobago",
+            "939", "Brazil"
+        };
+
+        /** Country by WMIDatabase.index(first, second) */
+        static final String[] COUNTRIES = new String[WMIDatabase.ALPHABET_SIZE * WMIDatabase.ALPHABET_SIZE];
+
+        /** Whether one country owns every prefix of a first character, by alphabet index */
+        static final boolean[] WHOLE_FIRST_CHAR = new boolean[WMIDatabase.ALPHABET_SIZE];
+
+        static {
+            Arrays.fill(COUNTRIES, "Unknown");
+            for (int i = 0; i < RANGES.length; i += 2) {
+                String range = RANGES[i];
+                int from = RANGE_ORDER.indexOf(range.charAt(1));
+                int to = RANGE_ORDER.indexOf(range.charAt(2));
+                for (int second = from; second <= to; second++) {
+                    COUNTRIES[WMIDatabase.index(range.charAt(0), RANGE_ORDER.charAt(second))] = RANGES[i + 1];
+                }
+            }
+            for (int first = 0; first < WMIDatabase.ALPHABET_SIZE; first++) {
+                int row = first * WMIDatabase.ALPHABET_SIZE;
+                boolean whole = !COUNTRIES[row].equals("Unknown");
+                for (int second = 1; second < WMIDatabase.ALPHABET_SIZE && whole; second++) {
+                    whole = COUNTRIES[row + second].equals(COUNTRIES[row]);
+                }
+                WHOLE_FIRST_CHAR[first] = whole;
+            }
         }
-
-        return "Unknown";
     }
 }
@@ -0,0 +1,315 @@
+package io.github.vindecoder.offline;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Reusable, parsed view of one 17-character VIN
+ *
+ * {@link #reset} copies the VIN once; after that sections are handed out as
+ * zero-copy CharSequence views and lookup keys as packed int codes, so decoding
+ * a VIN does not substring it over and over. Characters are kept as given;
+ * {@link #code} upper-cases.
+ *
+ * A view is not thread-safe, and sections read through to it: they change with
+ * the next reset.
+ *
+ * Usage:
+ * <pre>
+ * VinView vin = new VinView();
+ * for (String line : lines) {
+ *     vin.reset(line, 0);
+ *     int year = vin.modelYear();
+ * }
+ * </pre>
+ */
+public final class VinView implements CharSequence {
+
+    public static final int LENGTH = 17;
+
+    private final char[] chars = new char[LENGTH];
+    /** The VIN as a String, when reset from one or once created by toString */
+    private String string;
+    private Section wmi;
+    private Section vds;
+    private Section vis;
+
+    /**
+     * View over the first 17 characters of vin
+     * @throws IllegalArgumentException if vin is shorter than 17 characters
+     */
+    public static VinView of(CharSequence vin) {
+        return new VinView().reset(vin, 0);
+    }
+
+    /**
+     * Points this view at the 17 characters of vin starting at offset
+     * @return this view
+     * @throws IllegalArgumentException if fewer than 17 characters start at offset
+     */
+    public VinView reset(CharSequence vin, int offset) {
+        if (vin == null || offset < 0 || offset > vin.length() - LENGTH) {
+            throw new IllegalArgumentException("No 17 character VIN at offset " + offset);
+        }
+        if (vin instanceof String) {
+            String source = (String) vin;
+            source.getChars(offset, offset + LENGTH, chars, 0);
+            string = source.length() == LENGTH ? source : null;
+        } else {
+            for (int i = 0; i < LENGTH; i++) {
+                chars[i] = vin.charAt(offset + i);
+            }
+            string = null;
+        }
+        return this;
+    }
+
+    /**
+     * Points this view at the 17 ASCII bytes of vin starting at offset
+     * @return this view
+     * @throws IllegalArgumentException if fewer than 17 bytes start at offset
+     */
+    public VinView reset(byte[] vin, int offset) {
+        if (vin == null || offset < 0 || offset > vin.length - LENGTH) {
+            throw new IllegalArgumentException("No 17 byte VIN at offset " + offset);
+        }
+        for (int i = 0; i < LENGTH; i++) {
+            chars[i] = (char) (vin[offset + i] & 0xFF);
+        }
+        string = null;
+        return this;
+    }
+
+    /**
+     * Points this view at the 17 ASCII bytes of buffer starting at an absolute offset.
+     * The buffer's position and limit are not modified.
+     * @return this view
+     * @throws IllegalArgumentException if fewer than 17 bytes start at offset
+     */
+    public VinView reset(ByteBuffer buffer, int offset) {
+        if (buffer == null || offset < 0 || offset > buffer.limit() - LENGTH) {
+            throw new IllegalArgumentException("No 17 byte VIN at offset " + offset);
+        }
+        for (int i = 0; i < LENGTH; i++) {
+            chars[i] = (char) (buffer.get(offset + i) & 0xFF);
+        }
+        string = null;
+        return this;
+    }
+
+    @Override
+    public int length() {
+        return LENGTH;
+    }
+
+    @Override
+    public char charAt(int index) {
+        return chars[index];
+    }
+
+    /**
+     * @return zero-copy view of characters from (inclusive) to (exclusive)
+     */
+    @Override
+    public CharSequence subSequence(int from, int to) {
+        if (from < 0 || from > to || to > LENGTH) {
+            throw new IndexOutOfBoundsException("from " + from + ", to " + to);
+        }
+        return new Section(from, to);
+    }
+
+    /**
+     * @return World Manufacturer Identifier, positions 1-3
+     */
+    public CharSequence wmi() {
+        if (wmi == null) {
+            wmi = new Section(0, 3);
+        }
+        return wmi;
+    }
+
+    /**
+     * @return Vehicle Descriptor Section, positions 4-9
+     */
+    public CharSequence vds() {
+        if (vds == null) {
+            vds = new Section(3, 9);
+        }
+        return vds;
+    }
+
+    /**
+     * @return Vehicle Identifier Section, positions 10-17
+     */
+    public CharSequence vis() {
+        if (vis == null) {
+            vis = new Section(9, 17);
+        }
+        return vis;
+    }
+
+    /**
+     * Packs up to 4 characters, upper-cased, into an int lookup key
+     * @param from Index of the first character
+     * @param to Index after the last character
+     * @return code equal to {@code code(key)} for the upper-case key, or -1 if a
+     *         character is not Latin-1 and so matches no key
+     */
+    public int code(int from, int to) {
+        if (to - from > 4) {
+            throw new IllegalArgumentException("At most 4 characters fit a code");
+        }
+        int code = 0;
+        for (int i = from; i < to; i++) {
+            char c = upperCase(chars[i]);
+            if (c > 0xFF) {
+                return -1;
+            }
+            code = code << 8 | c;
+        }
+        return code;
+    }
+
+    /**
+     * Packs a key of up to 4 characters, as is, the way {@link #code(int, int)} packs VIN sections
+     */
+    public static int code(CharSequence key) {
+        if (key.length() > 4) {
+            throw new IllegalArgumentException("At most 4 characters fit a code: " + key);
+        }
+        int code = 0;
+        for (int i = 0; i < key.length(); i++) {
+            char c = key.charAt(i);
+            if (c > 0x7F) {
+                throw new IllegalArgumentException("Codes are ASCII: " + key);
+            }
+            code = code << 8 | c;
+        }
+        return code;
+    }
+
+    /**
+     * Upper-cases the ASCII letters of this view in place
+     * @return this view
+     */
+    public VinView upperCase() {
+        for (int i = 0; i < LENGTH; i++) {
+            char c = chars[i];
+            if (c >= 'a' && c <= 'z') {
+                chars[i] = upperCase(c);
+                string = null;
+            }
+        }
+        return this;
+    }
+
+    /**
+     * @return character at index, upper-cased if it is an ASCII letter
+     */
+    public char upperCaseAt(int index) {
+        return upperCase(chars[index]);
+    }
+
+    /**
+     * Case-sensitive prefix test, like String.startsWith
+     */
+    public boolean startsWith(String prefix) {
+        if (prefix.length() > LENGTH) {
+            return false;
+        }
+        for (int i = 0; i < prefix.length(); i++) {
+            if (chars[i] != prefix.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @see VINValidator#isValidVIN(char[], int)
+     */
+    public boolean isValid() {
+        return VINValidator.isValidVIN(chars, 0);
+    }
+
+    /**
+     * @return model year, or VINValidator.UNKNOWN_MODEL_YEAR
+     */
+    public int modelYear() {
+        return VINValidator.getModelYear(this, 0);
+    }
+
+    /**
+     * @return country of origin from the ISO 3780 ranges, or "Unknown"
+     */
+    public String country() {
+        return VINValidator.getCountry(this, 0);
+    }
+
+    /**
+     * @return manufacturing region, or "Unknown"
+     */
+    public String region() {
+        return VINValidator.getRegion(chars[0]);
+    }
+
+    /**
+     * @return the VIN; no copy when the view was reset from a 17 character String
+     */
+    @Override
+    public String toString() {
+        if (string == null) {
+            string = new String(chars);
+        }
+        return string;
+    }
+
+    /**
+     * @return characters from (inclusive) to (exclusive) as a new String
+     */
+    String substring(int from, int to) {
+        return string != null ? string.substring(from, to) : new String(chars, from, to - from);
+    }
+
+    private static char upperCase(char c) {
+        return c >= 'a' && c <= 'z' ? (char) (c - ('a' - 'A')) : c;
+    }
+
+    /**
+     * Zero-copy section of the view
+     */
+    private final class Section implements CharSequence {
+        private final int from;
+        private final int to;
+
+        Section(int from, int to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        public int length() {
+            return to - from;
+        }
+
+        @Override
+        public char charAt(int index) {
+            if (index < 0 || index >= to - from) {
+                throw new IndexOutOfBoundsException("index " + index);
+            }
+            return chars[from + index];
+        }
+
+        @Override
+        public CharSequence subSequence(int start, int end) {
+            if (start < 0 || start > end || end > to - from) {
+                throw new IndexOutOfBoundsException("start " + start + ", end " + end);
+            }
+            return new Section(from + start, from + end);
+        }
+
+        @Override
+        public String toString() {
+            return new String(chars, from, to - from);
+        }
+    }
+}
@@ -0,0 +1,335 @@
+package tests;
+
+import com.google.gson.Gson;
+import io.github.vindecoder.nhtsa.VehicleData;
+import io.github.vindecoder.offline.CompactVehicleData;
+import io.github.vindecoder.offline.DecodeResult;
+import io.github.vindecoder.offline.ManufacturerDecoder;
+import io.github.vindecoder.offline.ManufacturerDecoders;
+import io.github.vindecoder.offline.OfflineVINDecoder;
+import io.github.vindecoder.offline.VinView;
+import io.github.vindecoder.offline.WMIDatabase;
+import org.junit.jupiter.api.Test;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class JavaOfflineDecoderTest {
+    private final OfflineVINDecoder decoder = new OfflineVINDecoder();
+
+    private void assertSameDecode(VehicleData expected, VehicleData actual) {
+        assertEquals(expected.getVin(), actual.getVin());
+        assertEquals(expected.isValid(), actual.isValid());
+        assertEquals(expected.getMake(), actual.getMake());
+        assertEquals(expected.getModel(), actual.getModel());
+        assertEquals(expected.getModelYear(), actual.getModelYear());
+        assertEquals(expected.getPlantCity(), actual.getPlantCity());
+        assertEquals(expected.getErrorCode(), actual.getErrorCode());
+        assertEquals(expected.getResults() == null, actual.getResults() == null);
+        if (expected.getResults() != null) {
+            assertEquals(expected.getResults().size(), actual.getResults().size());
+        }
+    }
+
+    @Test
+    void byte_and_buffer_input_decode_like_strings() {
+        String[] vins = {"1FTFW1ET9DFC10312", "5yj3e1eaxjf037274", "WDDZF4KB1JA398744", "1HGCM82633A004353"};
+        for (String vin : vins) {
+            VehicleData expected = decoder.decode(vin);
+            byte[] framed = ("##" + vin + "\n").getBytes(StandardCharsets.US_ASCII);
+
+            ByteBuffer direct = ByteBuffer.allocateDirect(framed.length);
+            direct.put(framed);
+            ByteBuffer heap = ByteBuffer.wrap(framed, 1, framed.length - 1).slice();
+
+            assertSameDecode(expected, decoder.decode(framed, 2));
+            assertSameDecode(expected, decoder.decode(direct, 2));
+            assertSameDecode(expected, decoder.decode(heap, 1));
+            assertEquals(framed.length, direct.position(), "Absolute reads must not move the buffer");
+        }
+    }
+
+    @Test
+    void buffer_decode_works_on_bytes_and_creates_strings_on_demand() {
+        OfflineVINDecoder bytesOnly = new OfflineVINDecoder() {
+            @Override
+            public VehicleData decode(String vin) {
+                throw new AssertionError("Decoded through a String: " + vin);
+            }
+        };
+        ByteBuffer direct = ByteBuffer.allocateDirect(17);
+        direct.put("1ftfw1et9dfc10312".getBytes(StandardCharsets.US_ASCII));
+        VehicleData data = bytesOnly.decode(direct, 0);
+        VehicleData expected = decoder.decode("1FTFW1ET9DFC10312");
+
+        assertEquals("Ford", data.getMake());
+        assertEquals(expected.getCount(), data.getCount());
+        // Nothing read the VIN fields yet
+        assertNull(data.vin);
+        assertNull(data.wmi);
+        assertNull(data.sequentialNumber);
+        assertNull(data.results);
+
+        assertEquals("1FT", data.getWmi());
+        assertEquals(expected.getVin(), data.getVin());
+        assertEquals(expected.getSequentialNumber(), data.getSequentialNumber());
+        assertEquals(expected.getResults().size(), data.getResults().size());
+        assertEquals(new Gson().toJson(expected), new Gson().toJson(data));
+        assertEquals(new Gson().toJson(expected),
+                new Gson().toJson(CompactVehicleData.of(bytesOnly.decode(direct, 0)).toVehicleData()));
+    }
+
+    @Test
+    void out_of_bounds_offset_is_invalid_length() {
+        byte[] vin = "1FTFW1ET9DFC10312".getBytes(StandardCharsets.US_ASCII);
+        VehicleData data = decoder.decode(vin, 1);
+        assertEquals("INVALID_VIN", data.getErrorCode());
+        assertNull(data.getVin());
+        assertFalse(data.isValid());
+        assertEquals("INVALID_VIN", decoder.decode((ByteBuffer) null, 0).getErrorCode());
+    }
+
+    @Test
+    void wmi_lookups_agree() {
+        WMIDatabase wmis = new WMIDatabase();
+        assertEquals("Tesla", wmis.getManufacturer("5YJ"));
+        assertEquals("Tesla", wmis.getManufacturer("5yj"));
+        assertSame(wmis.getManufacturer("5YJ"), wmis.getManufacturer(new StringBuilder("##5YJ3E1EAXJF037274"), 2));
+
+        int id = wmis.getManufacturerId('5', 'Y', 'J');
+        assertEquals("Tesla", wmis.getManufacturerName(id));
+        assertEquals(id, wmis.getManufacturerId('5', 'y', 'j'));
+
+        assertEquals(-1, wmis.getManufacturerId('5', 'Y', 'O'));
+        assertNull(wmis.getManufacturer("5YJ3E1EAXJF037274"));
+        assertNull(wmis.getManufacturer("5YJ", 1));
+    }
+
+    @Test
+    void wmi_resource_matches_csv() throws Exception {
+        // Fails when data/wmi-database.csv was edited without running data/build_wmi_resource.py
+        String csv = new String(Files.readAllBytes(Paths.get("data", "wmi-database.csv")), StandardCharsets.UTF_8);
+        List<List<String>> rows = csvRows(csv);
+        WMIDatabase wmis = new WMIDatabase();
+        Map<String, String> expected = new HashMap<>();
+        for (List<String> row : rows.subList(1, rows.size())) {
+            // Same normalization as read_wmis in the generator
+            if (row.size() == 1 && row.get(0).isEmpty()) {
+                continue;
+            }
+            String wmi = row.get(0).strip().toUpperCase(Locale.ROOT);
+            String manufacturer = row.get(1).strip();
+            assertEquals(manufacturer, wmis.getManufacturer(wmi), String.join(",", row));
+            expected.put(wmi, manufacturer);
+        }
+
+        String alphabet = "0123456789ABCDEFGHJKLMNPRSTUVWXYZ";
+        int known = 0;
+        for (char c1 : alphabet.toCharArray()) {
+            for (char c2 : alphabet.toCharArray()) {
+                for (char c3 : alphabet.toCharArray()) {
+                    if (wmis.getManufacturerId(c1, c2, c3) >= 0) {
+                        known++;
+                    }
+                }
+            }
+        }
+        assertEquals(expected.size(), known);
+
+        assertEquals(List.of(List.of("WMI", "Manufacturer"), List.of("1ZZ", "Acme, \"Inc\"\r\nUSA"), List.of("")),
+                csvRows("WMI,Manufacturer\r\n1ZZ,\"Acme, \"\"Inc\"\"\r\nUSA\"\n\n"));
+    }
+
+    /**
+     * Splits CSV text into rows the way Python's csv.reader does: quoted fields
+     * may hold commas, doubled quotes and line breaks
+     */
+    private static List<List<String>> csvRows(String text) {
+        List<List<String>> rows = new ArrayList<>();
+        List<String> row = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (quoted) {
+                if (c != '"') {
+                    field.append(c);
+                } else if (i + 1 < text.length() && text.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else {
+                    quoted = false;
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                row.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\n' || c == '\r') {
+                if (c == '\r' && i + 1 < text.length() && text.charAt(i + 1) == '\n') {
+                    i++;
+                }
+                row.add(field.toString());
+                field.setLength(0);
+                rows.add(row);
+                row = new ArrayList<>();
+            } else {
+                field.append(c);
+            }
+        }
+        if (field.length() > 0 || !row.isEmpty()) {
+            row.add(field.toString());
+            rows.add(row);
+        }
+        return rows;
+    }
+
+    @Test
+    void decode_all_keeps_input_order() {
+        List<String> vins = new ArrayList<>();
+        String[] samples = {"1FTFW1ET9DFC10312", "5YJ3E1EAXJF037274", "WDDZF4KB1JA398744", "bad", null};
+        for (int i = 0; i < 5_000; i++) {
+            vins.add(samples[i % samples.length]);
+        }
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            List<VehicleData> parallel = decoder.decodeAll(vins, pool);
+            List<VehicleData> sequential = decoder.decodeAll(vins, null);
+            List<VehicleData> streamed = decoder.decodeAll(vins.parallelStream()).collect(Collectors.toList());
+
+            assertEquals(vins.size(), parallel.size());
+            for (int i = 0; i < vins.size(); i++) {
+                VehicleData expected = decoder.decode(vins.get(i));
+                assertSameDecode(expected, parallel.get(i));
+                assertSameDecode(expected, sequential.get(i));
+                assertSameDecode(expected, streamed.get(i));
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void routes_wmis_to_manufacturer_decoders() {
+        ManufacturerDecoders builtIn = ManufacturerDecoders.builtIn();
+        assertEquals("Ford", builtIn.find("1FTFW1ET9DFC10312").getName());
+        assertEquals("General Motors", builtIn.find("1G1").getName());
+        assertEquals("Toyota", builtIn.find("JTH").getName());
+        assertEquals("Mercedes-Benz", builtIn.find("WDD").getName());
+        assertNull(builtIn.find("1HGCM82633A004352"));
+
+        ManufacturerDecoder tesla = new ManufacturerDecoder() {
+            @Override
+            public String getName() {
+                return "Tesla";
+            }
+
+            @Override
+            public void decode(String vin, VehicleData vehicleData) {
+                vehicleData.setModel(vin.charAt(3) == '3' ? "Model 3" : null);
+            }
+        };
+        ManufacturerDecoders custom = builtIn.with(tesla, "5yj", "7S");
+        assertSame(tesla, custom.find("5YJ3E1EAXJF037274"));
+        assertSame(tesla, custom.find("7SAYGDEE1NF000001"));
+        assertNull(builtIn.find("5YJ3E1EAXJF037274"));
+        assertEquals("Ford", custom.find("1FT").getName());
+
+        VehicleData data = new OfflineVINDecoder(custom).decode("5YJ3E1EAXJF037274");
+        assertEquals("Model 3", data.getModel());
+        assertThrows(IllegalArgumentException.class, () -> builtIn.with(tesla, "5YJ3"));
+        assertThrows(IllegalArgumentException.class, () -> builtIn.with(tesla, "I"));
+    }
+
+    @Test
+    void results_list_is_built_on_first_access() {
+        VehicleData data = decoder.decode("1FTFW1ET9DFC10312");
+        List<VehicleData.Result> results = data.getResults();
+        assertEquals(data.getCount().intValue(), results.size());
+        assertEquals("VIN", results.get(0).getVariable());
+        assertEquals("1FTFW1ET9DFC10312", results.get(0).getValue());
+        assertEquals("Ford", results.get(1).getValue());
+        assertEquals("Valid", results.get(results.size() - 1).getVariable());
+        assertEquals(String.valueOf(results.size()), results.get(results.size() - 1).getVariableId());
+
+        results.add(new VehicleData.Result());
+        assertEquals(data.getCount() + 1, data.getResults().size());
+    }
+
+    @Test
+    void compact_form_converts_back_losslessly() {
+        Gson gson = new Gson();
+        String[] vins = {"1FTFW1ET9DFC10312", "1G1ZT53826F109149", "WDDZF4KB1JA398744", "JTDKB20U793508414",
+                "1HGCM82633A004352", "SALVA2AE4EH877482"};
+        for (String vin : vins) {
+            VehicleData data = decoder.decode(vin);
+            CompactVehicleData compact = CompactVehicleData.of(data);
+            assertEquals(data.getMake(), compact.getMake());
+            assertEquals(data.getModelYear(), compact.getModelYear());
+            assertEquals(data.getVis(), compact.getVis());
+            assertEquals(data.bodyClass, compact.getBodyClass());
+            assertEquals(data.getDisplayName(), compact.getDisplayName());
+            assertEquals(data.isValid(), compact.isValid());
+            assertEquals(gson.toJson(data), gson.toJson(compact.toVehicleData()));
+        }
+
+        VehicleData edited = decoder.decode(vins[0]);
+        edited.setModel("Custom");
+        edited.getResults().get(0).setValue("edited");
+        edited.setVds("XXXXXX");
+        assertEquals(gson.toJson(edited), gson.toJson(CompactVehicleData.of(edited).toVehicleData()));
+    }
+
+    @Test
+    void vin_view_reuses_one_parse() {
+        VinView vin = VinView.of("1FTFW1ET9DFC10312");
+        assertEquals("1FT", vin.wmi().toString());
+        assertEquals("FW1ET9", vin.vds().toString());
+        assertEquals("DFC10312", vin.vis().toString());
+        assertEquals(2013, vin.modelYear());
+        assertEquals("United States", vin.country());
+        assertTrue(vin.isValid());
+        assertEquals(VinView.code("FT"), vin.code(1, 3));
+
+        CharSequence vis = vin.vis();
+        vin.reset("xx wddzf4kb1ja398744".getBytes(StandardCharsets.US_ASCII), 3);
+        assertEquals("ja398744", vis.toString());
+        assertEquals(VinView.code("WDD"), vin.code(0, 3));
+        assertEquals('w', vin.charAt(0));
+        assertEquals('W', vin.upperCaseAt(0));
+        assertThrows(IllegalArgumentException.class, () -> vin.reset("1FTFW1ET9DFC1031", 0));
+    }
+
+    @Test
+    void decode_into_reuses_result() {
+        Gson gson = new Gson();
+        String[] vins = {"1FTFW1ET9DFC10312", "1G1ZT53826F109149", "WDDZF4KB1JA398744", "jtdkb20u793508414",
+                "1HGCM82633A004352", "1FTFW1ET9DFC10313", "TOO SHORT", "SALVA2AE4EH877482", "4T1BF1FK5CU123456"};
+        DecodeResult result = new DecodeResult();
+        for (String vin : vins) {
+            assertSame(result, decoder.decodeInto(vin, result));
+            assertEquals(gson.toJson(decoder.decode(vin)), gson.toJson(result.toVehicleData()));
+        }
+
+        decoder.decodeInto(new StringBuilder("1g1zt53826f109149"), result);
+        assertEquals("1G1ZT53826F109149", result.getVin().toString());
+        assertEquals("6F109149", result.getVis().toString());
+        assertEquals(2006, result.getModelYear());
+        assertEquals("Chevrolet", result.getMake());
+    }
+}
@@ -0,0 +1,101 @@
+package tests;
+
+import io.github.vindecoder.nhtsa.VINCache;
+import io.github.vindecoder.nhtsa.VehicleData;
+import org.junit.jupiter.api.Test;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class JavaVINCacheTest {
+
+    private static VehicleData vehicle(String vin) {
+        VehicleData data = new VehicleData();
+        data.setVin(vin);
+        return data;
+    }
+
+    @Test
+    void evicts_least_recently_used() {
+        VINCache cache = new VINCache(2, 1, TimeUnit.HOURS);
+        VehicleData a = vehicle("A");
+        cache.put("A", a);
+        cache.put("B", vehicle("B"));
+        assertSame(a, cache.get("A"));
+        cache.put("C", vehicle("C"));
+
+        assertTrue(cache.containsKey("A"));
+        assertFalse(cache.containsKey("B"));
+        assertTrue(cache.containsKey("C"));
+        assertEquals(2, cache.size());
+        assertEquals(1, cache.getEvictionCount());
+    }
+
+    @Test
+    void counts_hits_and_misses() {
+        VINCache cache = new VINCache();
+        cache.put("A", vehicle("A"));
+        cache.get("A");
+        cache.get("A");
+        cache.get("B");
+        cache.containsKey("B");
+
+        assertEquals(2, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+        cache.clear();
+        assertNull(cache.get("A"));
+        assertEquals(2, cache.getMissCount());
+    }
+
+    @Test
+    void expires_after_ttl() throws InterruptedException {
+        VINCache cache = new VINCache(10, 20, TimeUnit.MILLISECONDS);
+        cache.put("A", vehicle("A"));
+        assertTrue(cache.containsKey("A"));
+        Thread.sleep(40);
+        assertNull(cache.get("A"));
+        assertEquals(0, cache.size());
+        assertEquals(1, cache.getEvictionCount());
+    }
+
+    @Test
+    void bounds_total_weight() {
+        VINCache cache = new VINCache(10, 1, TimeUnit.HOURS, (key, value) -> key.length());
+        cache.put("1HGCM82633", vehicle("A"));
+        cache.put("1FT", vehicle("B"));
+        assertFalse(cache.containsKey("1HGCM82633"));
+        assertEquals(3, cache.weight());
+
+        cache.setMaximumWeight(0);
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void concurrent_writers_stay_bounded() throws InterruptedException {
+        VINCache cache = new VINCache(100, 1, TimeUnit.HOURS);
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        CountDownLatch done = new CountDownLatch(8);
+        for (int t = 0; t < 8; t++) {
+            int thread = t;
+            pool.execute(() -> {
+                for (int i = 0; i < 5_000; i++) {
+                    String key = thread + ":" + i;
+                    cache.put(key, vehicle(key));
+                    cache.get(key);
+                }
+                done.countDown();
+            });
+        }
+        assertTrue(done.await(30, TimeUnit.SECONDS));
+        pool.shutdown();
+
+        assertEquals(100, cache.size());
+        assertEquals(40_000 - 100, cache.getEvictionCount());
+    }
+}
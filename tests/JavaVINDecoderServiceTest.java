@@ -0,0 +1,537 @@
+package tests;
+
+import io.github.vindecoder.nhtsa.RequestLimiter;
+import io.github.vindecoder.nhtsa.VINDecodeException;
+import io.github.vindecoder.nhtsa.VINDecoderService;
+import io.github.vindecoder.nhtsa.VINDiskCache;
+import io.github.vindecoder.nhtsa.VehicleData;
+import okhttp3.OkHttpClient;
+import okhttp3.Response;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import java.io.File;
+import java.io.IOException;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class JavaVINDecoderServiceTest {
+    private static final String VIN = "1FTFW1ET9DFC10312";
+
+    private MockWebServer server;
+    /** Requests per single VIN */
+    private final Map<String, AtomicInteger> attempts = new ConcurrentHashMap<>();
+    private VINDecoderService service;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = new MockWebServer();
+        server.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) throws InterruptedException {
+                if (request.getPath().contains("DecodeVINValuesBatch")) {
+                    return batchResponse(request);
+                }
+                String vin = request.getPath().replaceAll(".*/DecodeVinValues/([^?]+).*", "$1");
+                int attempt = attempts.computeIfAbsent(vin, v -> new AtomicInteger()).incrementAndGet();
+                if (vin.startsWith("THROTTLE")) {
+                    return new MockResponse().setResponseCode(429);
+                }
+                if (vin.startsWith("DOWN") || (vin.startsWith("FLAKY") && attempt == 1)) {
+                    return new MockResponse().setResponseCode(503);
+                }
+                if (vin.startsWith("FAST")) {
+                    return new MockResponse().setBody(vinResponse(vin, "Ford"));
+                }
+                if (vin.startsWith("SLOW") && attempt == 1) {
+                    return new MockResponse()
+                            .setBody(vinResponse(vin, "Slow"))
+                            .setBodyDelay(2, TimeUnit.SECONDS);
+                }
+                return new MockResponse()
+                        .setBody(vinResponse(vin, "Ford"))
+                        .setBodyDelay(200, TimeUnit.MILLISECONDS);
+            }
+        });
+        server.start();
+        service = new VINDecoderService(server.url("/api/").toString());
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        server.shutdown();
+    }
+
+    static String vehicleJson(String vin, String make) {
+        return "{\"VIN\":\"" + vin + "\",\"Make\":\"" + make + "\",\"ErrorCode\":\"0\",\"ErrorText\":\"\"}";
+    }
+
+    static String vinResponse(String vin, String make) {
+        return "{\"Count\":1,\"Message\":\"ok\",\"Results\":[" + vehicleJson(vin, make) + "]}";
+    }
+
+    private final AtomicInteger batchesInFlight = new AtomicInteger();
+    private final AtomicInteger maxBatchesInFlight = new AtomicInteger();
+    private final List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+
+    /** Answers DecodeVINValuesBatch in reverse order, failing chunks that contain a VIN starting with "FAIL" */
+    private MockResponse batchResponse(RecordedRequest request) throws InterruptedException {
+        maxBatchesInFlight.accumulateAndGet(batchesInFlight.incrementAndGet(), Math::max);
+        try {
+            Thread.sleep(50);
+            String body = URLDecoder.decode(request.getBody().readUtf8(), StandardCharsets.UTF_8);
+            String data = body.replaceAll(".*data=([^&]*).*", "$1");
+            String[] vins = data.split(";");
+            batchSizes.add(vins.length);
+            if (data.contains("FAIL")) {
+                return new MockResponse().setResponseCode(500);
+            }
+            StringBuilder json = new StringBuilder("{\"Count\":" + vins.length + ",\"Results\":[");
+            for (int i = vins.length - 1; i >= 0; i--) {
+                json.append(vehicleJson(vins[i], "Batch")).append(i > 0 ? "," : "");
+            }
+            return new MockResponse().setBody(json.append("]}").toString());
+        } finally {
+            batchesInFlight.decrementAndGet();
+        }
+    }
+
+    /** Records results and counts down once per callback */
+    static final class Results implements VINDecoderService.VINDecoderCallback {
+        final List<VehicleData> vehicles = new CopyOnWriteArrayList<>();
+        final List<String> errors = new CopyOnWriteArrayList<>();
+        final CountDownLatch done;
+
+        Results(int expected) {
+            done = new CountDownLatch(expected);
+        }
+
+        @Override
+        public void onSuccess(VehicleData vehicleData) {
+            vehicles.add(vehicleData);
+            done.countDown();
+        }
+
+        @Override
+        public void onError(String error) {
+            errors.add(error);
+            done.countDown();
+        }
+
+        void await() throws InterruptedException {
+            assertTrue(done.await(10, TimeUnit.SECONDS), "Timed out waiting for callbacks");
+        }
+    }
+
+    @Test
+    void concurrent_decodes_share_one_request() throws Exception {
+        int callers = 16;
+        Results results = new Results(callers);
+        CountDownLatch start = new CountDownLatch(1);
+        for (int i = 0; i < callers; i++) {
+            String vin = i % 2 == 0 ? VIN : " " + VIN.toLowerCase();
+            new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                service.decodeVIN(vin, results);
+            }).start();
+        }
+        start.countDown();
+        results.await();
+
+        assertEquals(1, server.getRequestCount());
+        assertEquals(callers, results.vehicles.size());
+        assertTrue(results.errors.isEmpty());
+        assertTrue(service.isCached(VIN));
+    }
+
+    @Test
+    void year_requests_are_coalesced_separately() throws Exception {
+        Results results = new Results(4);
+        service.decodeVINWithYear(VIN, "2013", results);
+        service.decodeVINWithYear(VIN, "2013", results);
+        service.decodeVIN(VIN, results);
+        service.decodeVIN(VIN, results);
+        results.await();
+
+        assertEquals(2, server.getRequestCount());
+        assertEquals(4, results.vehicles.size());
+    }
+
+    @Test
+    void future_and_blocking_decodes() throws Exception {
+        CompletableFuture<VehicleData> future = service.decodeVINAsync(VIN);
+        assertEquals("Ford", future.get(10, TimeUnit.SECONDS).getMake());
+
+        // Cached now
+        assertSame(future.get(), service.decodeVINSync(VIN.toLowerCase(), 1, TimeUnit.SECONDS));
+        assertEquals(1, server.getRequestCount());
+
+        VINDecodeException error = assertThrows(VINDecodeException.class,
+                () -> service.decodeVINSync(" ", 1, TimeUnit.SECONDS));
+        assertEquals("VIN cannot be empty", error.getMessage());
+        ExecutionException failed = assertThrows(ExecutionException.class,
+                () -> service.decodeVINAsync(null).get());
+        assertTrue(failed.getCause() instanceof VINDecodeException);
+    }
+
+    @Test
+    void timeouts_cancel_the_request_once_nobody_waits() throws Exception {
+        CompletableFuture<VehicleData> impatient = service.decodeVINAsync(VIN, 50, TimeUnit.MILLISECONDS);
+        AtomicReference<String> completedOn = new AtomicReference<>();
+        CompletableFuture<VehicleData> dependent = impatient.whenComplete(
+                (vehicleData, error) -> completedOn.set(Thread.currentThread().getName()));
+        CompletableFuture<VehicleData> patient = service.decodeVINAsync(VIN);
+        ExecutionException timedOut = assertThrows(ExecutionException.class,
+                () -> impatient.get(10, TimeUnit.SECONDS));
+        assertTrue(timedOut.getCause() instanceof TimeoutException);
+        assertThrows(ExecutionException.class, () -> dependent.get(10, TimeUnit.SECONDS));
+        // Dependents run on the client's threads, not the timer thread
+        assertNotEquals("VINDecoder-timer", completedOn.get());
+
+        // The shared request goes on for the remaining caller
+        assertEquals("Ford", patient.get(10, TimeUnit.SECONDS).getMake());
+        assertEquals(1, server.getRequestCount());
+
+        String other = vin(1);
+        assertThrows(TimeoutException.class, () -> service.decodeVINSync(other, 50, TimeUnit.MILLISECONDS));
+        CompletableFuture<VehicleData> cancelled = service.decodeVINAsync(vin(2));
+        cancelled.cancel(true);
+        Thread.sleep(400);
+        // Both calls were cancelled before their responses arrived
+        assertFalse(service.isCached(other));
+        assertFalse(service.isCached(vin(2)));
+        assertEquals("Ford", service.decodeVINSync(other, 10, TimeUnit.SECONDS).getMake());
+    }
+
+    @Test
+    void builder_limits_requests_per_host() throws Exception {
+        AtomicInteger active = new AtomicInteger();
+        AtomicInteger maxActive = new AtomicInteger();
+        OkHttpClient client = new OkHttpClient.Builder()
+                .addInterceptor(chain -> {
+                    maxActive.accumulateAndGet(active.incrementAndGet(), Math::max);
+                    try {
+                        Response response = chain.proceed(chain.request());
+                        // Wait for the delayed body while counted as active
+                        response.peekBody(Long.MAX_VALUE);
+                        return response;
+                    } finally {
+                        active.decrementAndGet();
+                    }
+                })
+                .build();
+        VINDecoderService limited = new VINDecoderService.Builder()
+                .baseUrl(server.url("/api/").toString())
+                .client(client)
+                .maxRequestsPerHost(2)
+                .connectionPool(2, 1, TimeUnit.MINUTES)
+                .readTimeout(5, TimeUnit.SECONDS)
+                .http2(false)
+                .build();
+
+        Results results = new Results(6);
+        for (int i = 0; i < 6; i++) {
+            limited.decodeVIN(vin(i), results);
+        }
+        results.await();
+
+        assertEquals(6, results.vehicles.size());
+        assertEquals(6, server.getRequestCount());
+        assertEquals(2, maxActive.get());
+        assertEquals(5, client.dispatcher().getMaxRequestsPerHost());
+    }
+
+    @Test
+    void limiter_backs_off_when_throttled_and_bounds_its_queue() throws Exception {
+        VINDecoderService limited = new VINDecoderService.Builder()
+                .baseUrl(server.url("/api/").toString())
+                .maxRequestsPerHost(4)
+                .concurrencyLimit(1, 4)
+                .requestQueue(3, 10, TimeUnit.SECONDS)
+                .maxRetries(0)
+                .build();
+        RequestLimiter limiter = limited.getRequestLimiter();
+        assertEquals(4, limiter.getLimit());
+
+        Results throttled = new Results(4);
+        for (int i = 0; i < 4; i++) {
+            limited.decodeVIN("THROTTLE" + i, throttled);
+        }
+        throttled.await();
+        assertEquals("Failed to decode VIN. HTTP 429", throttled.errors.get(0));
+        assertEquals(4, limiter.getDroppedCount());
+        // Cut once for the burst, to 4 * 0.7, or twice if a response beat the last request
+        int limit = limiter.getLimit();
+        assertTrue(limit == 2 || limit == 1, "limit " + limit);
+
+        Results results = new Results(6);
+        for (int i = 0; i < 6; i++) {
+            limited.decodeVIN(vin(i), results);
+        }
+        assertEquals(limit, limiter.getInFlight());
+        assertEquals(3, limiter.getQueueDepth());
+        results.await();
+
+        assertEquals(limit + 3, results.vehicles.size());
+        assertEquals(3 - limit, results.errors.size());
+        assertTrue(results.errors.get(0).startsWith("Rate limited"), results.errors.get(0));
+        assertEquals(3 - limit, limiter.getRejectedCount());
+        assertEquals(0, limiter.getQueueDepth());
+    }
+
+    @Test
+    void default_service_queues_bursts_without_rejecting() throws Exception {
+        assertNull(service.getRequestLimiter());
+        List<CompletableFuture<VehicleData>> futures = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            futures.add(service.decodeVINAsync(String.format("FAST%013d", i)));
+        }
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0])).get(60, TimeUnit.SECONDS);
+        for (CompletableFuture<VehicleData> future : futures) {
+            assertEquals("Ford", future.get().getMake());
+        }
+        assertEquals(1000, server.getRequestCount());
+    }
+
+    @Test
+    void cancelled_requests_leave_the_limiter_queue() throws Exception {
+        VINDecoderService limited = new VINDecoderService.Builder()
+                .baseUrl(server.url("/api/").toString())
+                .concurrencyLimit(1, 1)
+                .requestQueue(1, 10, TimeUnit.SECONDS)
+                .maxRetries(0)
+                .build();
+        RequestLimiter limiter = limited.getRequestLimiter();
+        // Holds the only slot for 2 s
+        CompletableFuture<VehicleData> slow = limited.decodeVINAsync("SLOW0000000000002");
+
+        CompletableFuture<VehicleData> timedOut = limited.decodeVINAsync(vin(1), 50, TimeUnit.MILLISECONDS);
+        assertEquals(1, limiter.getQueueDepth());
+        assertThrows(ExecutionException.class, () -> timedOut.get(10, TimeUnit.SECONDS));
+        for (int i = 0; i < 100 && limiter.getQueueDepth() > 0; i++) {
+            Thread.sleep(10);
+        }
+        assertEquals(0, limiter.getQueueDepth());
+
+        CompletableFuture<VehicleData> cancelled = limited.decodeVINAsync(vin(2));
+        assertEquals(1, limiter.getQueueDepth());
+        cancelled.cancel(true);
+        assertEquals(0, limiter.getQueueDepth());
+
+        // The queue has room again
+        CompletableFuture<VehicleData> next = limited.decodeVINAsync(vin(3));
+        assertEquals("Slow", slow.get(10, TimeUnit.SECONDS).getMake());
+        assertEquals("Ford", next.get(10, TimeUnit.SECONDS).getMake());
+        assertEquals(0, limiter.getRejectedCount());
+        assertEquals(2, server.getRequestCount());
+    }
+
+    @Test
+    void limiter_paces_requests_to_the_rate() throws Exception {
+        VINDecoderService paced = new VINDecoderService.Builder()
+                .baseUrl(server.url("/api/").toString())
+                .rateLimit(10, 1)
+                .build();
+        long start = System.nanoTime();
+        Results results = new Results(5);
+        for (int i = 0; i < 5; i++) {
+            paced.decodeVIN(vin(i), results);
+        }
+        results.await();
+
+        assertEquals(5, results.vehicles.size());
+        // The first goes right away, then one every 100 ms
+        assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(380));
+        assertEquals(10.0, paced.getRequestLimiter().getRate());
+    }
+
+    @Test
+    void retries_transient_failures_within_budget() throws Exception {
+        // Off by default
+        assertThrows(VINDecodeException.class,
+                () -> service.decodeVINSync("DOWN0000000000003", 10, TimeUnit.SECONDS));
+        assertEquals(1, attempts.get("DOWN0000000000003").get());
+
+        VINDecoderService retrying = new VINDecoderService.Builder()
+                .baseUrl(server.url("/api/").toString())
+                .maxRetries(2)
+                .retryBackoff(10, 50, TimeUnit.MILLISECONDS)
+                .retryBudget(0, 3)
+                .build();
+
+        assertEquals("Ford", retrying.decodeVINSync("FLAKY000000000001", 10, TimeUnit.SECONDS).getMake());
+        assertEquals(2, attempts.get("FLAKY000000000001").get());
+
+        // Two retries, then the budget is spent
+        VINDecodeException down = assertThrows(VINDecodeException.class,
+                () -> retrying.decodeVINSync("DOWN0000000000001", 10, TimeUnit.SECONDS));
+        assertEquals("Failed to decode VIN. HTTP 503", down.getMessage());
+        assertEquals(3, attempts.get("DOWN0000000000001").get());
+        assertThrows(VINDecodeException.class,
+                () -> retrying.decodeVINSync("DOWN0000000000002", 10, TimeUnit.SECONDS));
+        assertEquals(1, attempts.get("DOWN0000000000002").get());
+
+        assertEquals(3, retrying.getRetryBudget().getRetryCount());
+        assertEquals(1, retrying.getRetryBudget().getExhaustedCount());
+    }
+
+    @Test
+    void hedges_requests_slower_than_the_percentile() throws Exception {
+        VINDecoderService hedging = new VINDecoderService.Builder()
+                .baseUrl(server.url("/api/").toString())
+                .maxRequestsPerHost(20)
+                .hedging(95)
+                .build();
+        // Learn the usual latency, about 200 ms
+        List<CompletableFuture<VehicleData>> warmUp = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            warmUp.add(hedging.decodeVINAsync(vin(i)));
+        }
+        CompletableFuture.allOf(warmUp.toArray(new CompletableFuture<?>[0])).get(10, TimeUnit.SECONDS);
+
+        long start = System.nanoTime();
+        VehicleData vehicle = hedging.decodeVINSync("SLOW0000000000001", 10, TimeUnit.SECONDS);
+        long elapsed = System.nanoTime() - start;
+
+        assertEquals("Ford", vehicle.getMake());
+        assertTrue(elapsed < TimeUnit.MILLISECONDS.toNanos(1500), "took " + elapsed / 1_000_000 + " ms");
+        assertEquals(2, attempts.get("SLOW0000000000001").get());
+        assertEquals(1, hedging.getRetryBudget().getHedgeCount());
+        assertEquals(1, hedging.getRetryBudget().getHedgeWinCount());
+    }
+
+    @Test
+    void hedge_threshold_ignores_time_queued_in_the_limiter() throws Exception {
+        VINDecoderService hedging = new VINDecoderService.Builder()
+                .baseUrl(server.url("/api/").toString())
+                .concurrencyLimit(2, 2)
+                .hedging(95)
+                .build();
+        // Two at a time, so most of these wait in the limiter's queue for up to 2 s
+        List<CompletableFuture<VehicleData>> warmUp = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            warmUp.add(hedging.decodeVINAsync(vin(i)));
+        }
+        CompletableFuture.allOf(warmUp.toArray(new CompletableFuture<?>[0])).get(20, TimeUnit.SECONDS);
+
+        // Hedged after about 200 ms, not after a p95 inflated by the queue
+        long start = System.nanoTime();
+        VehicleData vehicle = hedging.decodeVINSync("SLOW0000000000003", 10, TimeUnit.SECONDS);
+        long elapsed = System.nanoTime() - start;
+
+        assertEquals("Ford", vehicle.getMake());
+        assertTrue(elapsed < TimeUnit.MILLISECONDS.toNanos(1500), "took " + elapsed / 1_000_000 + " ms");
+        assertEquals(1, hedging.getRetryBudget().getHedgeWinCount());
+    }
+
+    private static String vin(int i) {
+        return String.format("1FTFW1ET9DF%06d", i);
+    }
+
+    @Test
+    void batch_decode_chunks_with_bounded_parallelism() throws Exception {
+        Results single = new Results(1);
+        service.decodeVIN(vin(0), single);
+        single.await();
+
+        List<String> vins = new ArrayList<>();
+        for (int i = 0; i < 230; i++) {
+            vins.add(i % 2 == 0 ? vin(i) : vin(i).toLowerCase());
+        }
+        vins.add(" " + vin(5) + " ");
+        vins.add("");
+
+        Map<String, VehicleData> results = service.decodeVINs(vins, 2);
+
+        assertEquals(230, results.size());
+        assertEquals(vin(7), new ArrayList<>(results.keySet()).get(7));
+        assertSame(single.vehicles.get(0), results.get(vin(0)));
+        assertEquals("Batch", results.get(vin(229)).getMake());
+        assertEquals(vin(229), results.get(vin(229)).getVin());
+
+        // 230 VINs, one of them cached
+        assertEquals(5, batchSizes.size());
+        assertEquals(229, batchSizes.stream().mapToInt(Integer::intValue).sum());
+        assertTrue(batchSizes.stream().allMatch(size -> size <= VINDecoderService.MAX_BATCH_SIZE));
+        assertTrue(maxBatchesInFlight.get() <= 2, "At most 2 batches in flight");
+        assertTrue(service.isCached(vin(100)));
+
+        // Everything is cached now
+        int requests = server.getRequestCount();
+        assertEquals(230, service.decodeVINs(vins).size());
+        assertEquals(requests, server.getRequestCount());
+    }
+
+    @Test
+    void batch_decode_reports_failed_chunks_per_vin() throws Exception {
+        List<String> vins = new ArrayList<>();
+        for (int i = 0; i < 60; i++) {
+            vins.add(vin(i));
+        }
+        vins.set(55, "FAIL0000000000000");
+
+        Map<String, VehicleData> results = service.decodeVINs(vins);
+
+        assertEquals("Batch", results.get(vin(10)).getMake());
+        VehicleData failed = results.get(vin(56));
+        assertEquals("API_ERROR", failed.getErrorCode());
+        assertEquals("Failed to decode VIN. HTTP 500", failed.getErrorText());
+        assertEquals("API_ERROR", results.get("FAIL0000000000000").getErrorCode());
+        assertFalse(service.isCached(vin(56)));
+    }
+
+    @Test
+    void disk_cache_answers_after_restart(@TempDir File dir) throws Exception {
+        File file = new File(dir, "vins.cache");
+        try (VINDiskCache disk = new VINDiskCache(file)) {
+            service.setDiskCache(disk);
+            Results results = new Results(1);
+            service.decodeVIN(VIN, results);
+            results.await();
+        }
+        assertEquals(1, server.getRequestCount());
+
+        // A new service, as after a restart, with an empty memory cache
+        VINDecoderService restarted = new VINDecoderService(server.url("/api/").toString());
+        try (VINDiskCache disk = new VINDiskCache(file)) {
+            restarted.setDiskCache(disk);
+            assertTrue(restarted.isCached(VIN));
+            Results results = new Results(1);
+            restarted.decodeVIN(VIN.toLowerCase(), results);
+            results.await();
+
+            assertEquals("Ford", results.vehicles.get(0).getMake());
+            assertEquals(1, server.getRequestCount());
+            assertEquals(1, disk.getHitCount());
+            assertTrue(restarted.getCache().containsKey(VIN));
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package tests;
+
+import io.github.vindecoder.nhtsa.VINDiskCache;
+import io.github.vindecoder.nhtsa.VehicleData;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.concurrent.TimeUnit;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class JavaVINDiskCacheTest {
+
+    @TempDir
+    File dir;
+
+    private static VehicleData vehicle(String vin, String make) {
+        VehicleData data = new VehicleData();
+        data.setVin(vin);
+        data.setMake(make);
+        return data;
+    }
+
+    private VINDiskCache open(File file) throws IOException {
+        return new VINDiskCache(file, 8 << 20, 1, TimeUnit.HOURS);
+    }
+
+    @Test
+    void survives_reopen() throws IOException {
+        File file = new File(dir, "vins.cache");
+        try (VINDiskCache cache = open(file)) {
+            cache.put("1FTFW1ET9DFC10312", vehicle("1FTFW1ET9DFC10312", "Ford"));
+            cache.put("1FTFW1ET9DFC10312_2013", vehicle("1FTFW1ET9DFC10312", "Ford"));
+        }
+        try (VINDiskCache cache = open(file)) {
+            assertEquals(2, cache.size());
+            VehicleData data = cache.get("1FTFW1ET9DFC10312");
+            assertEquals("Ford", data.getMake());
+            assertEquals("1FTFW1ET9DFC10312", data.getVin());
+            assertNull(cache.get("WBA3A5C51CF256985"));
+            assertEquals(1, cache.getHitCount());
+            assertEquals(1, cache.getMissCount());
+        }
+    }
+
+    @Test
+    void invalidate_and_clear_survive_reopen() throws IOException {
+        File file = new File(dir, "vins.cache");
+        try (VINDiskCache cache = open(file)) {
+            cache.put("A", vehicle("A", "Ford"));
+            cache.put("B", vehicle("B", "BMW"));
+            cache.invalidate("A");
+        }
+        try (VINDiskCache cache = open(file)) {
+            assertFalse(cache.containsKey("A"));
+            assertTrue(cache.containsKey("B"));
+            cache.clear();
+            cache.put("C", vehicle("C", "Audi"));
+        }
+        try (VINDiskCache cache = open(file)) {
+            assertFalse(cache.containsKey("B"));
+            assertEquals("Audi", cache.get("C").getMake());
+            assertEquals(1, cache.size());
+        }
+    }
+
+    @Test
+    void compaction_keeps_live_entries_and_shrinks_file() throws IOException {
+        File file = new File(dir, "vins.cache");
+        try (VINDiskCache cache = open(file)) {
+            for (int round = 0; round < 200; round++) {
+                for (int i = 0; i < 100; i++) {
+                    cache.put("VIN" + i, vehicle("VIN" + i, "Make" + round));
+                }
+            }
+            cache.compact();
+            assertTrue(cache.getCompactionCount() >= 1);
+            assertEquals(100, cache.size());
+            assertEquals(cache.liveBytes() + 8, cache.fileBytes());
+            assertEquals("Make199", cache.get("VIN42").getMake());
+        }
+        try (VINDiskCache cache = open(file)) {
+            assertEquals(100, cache.size());
+            assertEquals("Make199", cache.get("VIN0").getMake());
+        }
+    }
+
+    @Test
+    void torn_tail_is_ignored() throws IOException {
+        File file = new File(dir, "vins.cache");
+        long end;
+        long last;
+        try (VINDiskCache cache = open(file)) {
+            cache.put("A", vehicle("A", "Ford"));
+            end = cache.fileBytes();
+            cache.put("B", vehicle("B", "BMW"));
+            last = cache.fileBytes() - 1;
+        }
+        // Corrupt the last byte of the second record, as a crash mid-write would
+        try (RandomAccessFile raf = new RandomAccessFile(file, "rw")) {
+            raf.seek(last);
+            int b = raf.read();
+            raf.seek(last);
+            raf.write(b ^ 0xFF);
+        }
+        try (VINDiskCache cache = open(file)) {
+            assertEquals("Ford", cache.get("A").getMake());
+            assertFalse(cache.containsKey("B"));
+            assertEquals(end, cache.fileBytes());
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package tests;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import io.github.vindecoder.nhtsa.VehicleData;
+import io.github.vindecoder.offline.OfflineVINDecoder;
+import io.github.vindecoder.offline.VINFileDecoder;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class JavaVINFileDecoderTest {
+    private final OfflineVINDecoder decoder = new OfflineVINDecoder();
+
+    @TempDir
+    Path dir;
+
+    private Path input() throws Exception {
+        StringBuilder text = new StringBuilder("# header\n\n");
+        for (int i = 0; i < 250; i++) {
+            text.append(i % 3 == 0 ? "1FTFW1ET9DFC10312" : i % 3 == 1 ? "  5yj3e1eaxjf037274 - Tesla" : "B\u00C4D,VIN")
+                    .append(i % 2 == 0 ? "\r\n" : "\n");
+        }
+        text.append("WDDZF4KB1JA398744"); // no trailing newline
+        Path input = dir.resolve("vins.txt");
+        Files.write(input, text.toString().getBytes(StandardCharsets.UTF_8));
+        return input;
+    }
+
+    private List<String> expectedVins() {
+        List<String> vins = new ArrayList<>();
+        for (int i = 0; i < 250; i++) {
+            vins.add(i % 3 == 0 ? "1FTFW1ET9DFC10312" : i % 3 == 1 ? "5yj3e1eaxjf037274" : "B\u00C4D");
+        }
+        vins.add("WDDZF4KB1JA398744");
+        return vins;
+    }
+
+    @Test
+    void csv_records_follow_input_order() throws Exception {
+        Path output = dir.resolve("out.csv");
+        VINFileDecoder.Stats stats = new VINFileDecoder(decoder, 3, 7)
+                .decode(input(), output, VINFileDecoder.Format.CSV);
+
+        List<String> lines = Files.readAllLines(output, StandardCharsets.UTF_8);
+        List<String> expected = expectedVins();
+        assertEquals(expected.size() + 1, lines.size());
+        assertEquals("input,vin,valid,make", lines.get(0).substring(0, 20));
+        for (int i = 0; i < expected.size(); i++) {
+            String input = expected.get(i);
+            VehicleData data = decoder.decode(input);
+            String[] columns = lines.get(i + 1).split(",", -1);
+            assertEquals(input, columns[0]);
+            assertEquals(String.valueOf(data.valid), columns[2]);
+            assertEquals(data.make == null ? "" : data.make, columns[3]);
+        }
+
+        assertEquals(253, stats.getLines());
+        assertEquals(251, stats.getRecords());
+        assertEquals(2, stats.getSkipped());
+        assertEquals(168, stats.getValid());
+        assertEquals(Files.size(dir.resolve("vins.txt")), stats.getBytesRead());
+    }
+
+    @Test
+    void jsonl_records_are_json_objects() throws Exception {
+        Path output = dir.resolve("out.jsonl");
+        new VINFileDecoder(decoder, 2, 16).decode(input(), output, VINFileDecoder.Format.JSONL);
+
+        List<String> lines = Files.readAllLines(output, StandardCharsets.UTF_8);
+        List<String> expected = expectedVins();
+        assertEquals(expected.size(), lines.size());
+        for (int i = 0; i < expected.size(); i++) {
+            JsonObject record = JsonParser.parseString(lines.get(i)).getAsJsonObject();
+            VehicleData data = decoder.decode(expected.get(i));
+            assertEquals(expected.get(i), record.get("input").getAsString());
+            assertEquals(data.valid, record.get("valid").getAsBoolean());
+            assertEquals(data.make, record.has("make") ? record.get("make").getAsString() : null);
+        }
+    }
+}
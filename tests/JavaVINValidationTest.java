@@ -0,0 +1,87 @@
+package tests;
+
+import io.github.vindecoder.offline.VINValidator;
+import org.junit.jupiter.api.Test;
+import java.nio.charset.StandardCharsets;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class JavaVINValidationTest {
+    private static final String VALID_VIN = "1HGCM82633A004352";
+
+    private boolean validInEveryForm(String vin) {
+        String framed = "##" + vin + "\n";
+        boolean fromString = VINValidator.isValidVIN(vin);
+        boolean fromSequence = VINValidator.isValidVIN(new StringBuilder(framed), 2);
+        boolean fromChars = VINValidator.isValidVIN(framed.toCharArray(), 2);
+        boolean fromBytes = VINValidator.isValidVIN(framed.getBytes(StandardCharsets.US_ASCII), 2);
+        assertTrue(fromString == fromSequence && fromSequence == fromChars && fromChars == fromBytes,
+                "All input forms must agree for " + vin);
+        return fromString;
+    }
+
+    @Test
+    void check_digit_matches_is_valid() {
+        assertTrue(validInEveryForm(VALID_VIN));
+    }
+
+    @Test
+    void wrong_check_digit_is_invalid() {
+        assertFalse(validInEveryForm("1HGCM82633A004353"));
+    }
+
+    @Test
+    void letters_r_to_z_use_iso_3779_values() {
+        // T=3, W=6 (positions 3 and 5)
+        assertTrue(validInEveryForm("1FTFW1ET9DFC10312"));
+        assertFalse(validInEveryForm("1FTFW1ET5DFC10312"));
+    }
+
+    @Test
+    void check_digit_x_is_valid() {
+        assertTrue(validInEveryForm("5YJ3E1EAXJF037274"));
+        assertTrue(validInEveryForm("5yj3e1eaxjf037274"));
+    }
+
+    @Test
+    void lower_case_is_valid() {
+        assertTrue(validInEveryForm(VALID_VIN.toLowerCase()));
+    }
+
+    @Test
+    void i_o_q_are_invalid() {
+        assertFalse(validInEveryForm("1HGCM82633AOIQ352"));
+        assertFalse(validInEveryForm("WDDZF4KB1JA39874Q"));
+    }
+
+    @Test
+    void non_north_american_skips_check_digit() {
+        assertTrue(validInEveryForm("WDDZF4KB1JA398744"));
+    }
+
+    @Test
+    void short_buffer_is_invalid() {
+        assertFalse(VINValidator.isValidVIN("1HGCM82633A00435"));
+        assertFalse(VINValidator.isValidVIN(VALID_VIN, 1));
+        assertFalse(VINValidator.isValidVIN(VALID_VIN.toCharArray(), -1));
+        assertFalse(VINValidator.isValidVIN((byte[]) null, 0));
+    }
+
+    @Test
+    void countries_follow_iso_3780_ranges() {
+        assertEquals("United States", VINValidator.getCountry(VALID_VIN));
+        assertEquals("Mexico", VINValidator.getCountry("3VWFE21C04M000001"));
+        assertEquals("Costa Rica", VINValidator.getCountry("3X"));
+        assertEquals("Germany", VINValidator.getCountry("WP0AA2A71FL000001"));
+        assertEquals("Sweden", VINValidator.getCountry("YV1CZ592851000001"));
+        assertEquals("Czech Republic", VINValidator.getCountry("TMBJJ7NE8F0000001"));
+        assertEquals("Russia", VINValidator.getCountry("X7LASRA1955000001"));
+        assertEquals("United States", VINValidator.getCountry("7SAYGDEE1NF000001"));
+        assertEquals("Germany", VINValidator.getCountry("wdd"));
+        assertEquals("United States", VINValidator.getCountry("1I"));
+        assertEquals("Unknown", VINValidator.getCountry("AP"));
+        assertEquals("Unknown", VINValidator.getCountry("W"));
+        assertEquals("Sweden", VINValidator.getCountry("##YV1", 2));
+    }
+}
@@ -2,6 +2,7 @@ package tests;
 
 import io.github.vindecoder.offline.VINValidator;
 import org.junit.jupiter.api.Test;
+import java.nio.charset.StandardCharsets;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 public class JavaYearDecodingTest {
@@ -51,4 +52,28 @@ public class JavaYearDecodingTest {
         String vin = withCharAt(withCharAt(baseVin(), 6, 'C'), 9, 'Y');
         assertEquals(Integer.valueOf(2030), VINValidator.getModelYear(vin));
     }
+
+    @Test
+    void primitive_and_bulk_match_boxed() {
+        String[] vins = {
+            withCharAt(withCharAt(baseVin(), 6, '1'), 9, '1'),
+            withCharAt(withCharAt(baseVin(), 6, 'C'), 9, 'Y'),
+            withCharAt(baseVin(), 9, 'U'),
+            withCharAt(baseVin(), 9, 'a')
+        };
+        StringBuilder block = new StringBuilder();
+        for (String vin : vins) {
+            block.append(vin).append('\n');
+        }
+        int[] years = new int[vins.length];
+        VINValidator.getModelYears(block.toString().getBytes(StandardCharsets.US_ASCII), 0, 17, years, vins.length);
+
+        for (int i = 0; i < vins.length; i++) {
+            Integer boxed = VINValidator.getModelYear(vins[i]);
+            int expected = boxed == null ? VINValidator.UNKNOWN_MODEL_YEAR : boxed;
+            assertEquals(expected, VINValidator.getModelYear(vins[i], 0));
+            assertEquals(expected, years[i]);
+        }
+        assertEquals(VINValidator.UNKNOWN_MODEL_YEAR, years[2]);
+    }
 }